@@ -15,8 +15,23 @@ public class DB2ConnectOptionsConverter {
   public static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, DB2ConnectOptions obj) {
     for (java.util.Map.Entry<String, Object> member : json) {
       switch (member.getKey()) {
+        case "maxExtraQueryBlocks":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxExtraQueryBlocks(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "maxLargePackages":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxLargePackages(((Number)member.getValue()).intValue());
+          }
+          break;
         case "pipeliningLimit":
           break;
+        case "queryBlockSize":
+          if (member.getValue() instanceof Number) {
+            obj.setQueryBlockSize(((Number)member.getValue()).intValue());
+          }
+          break;
       }
     }
   }
@@ -26,6 +41,9 @@ public class DB2ConnectOptionsConverter {
   }
 
   public static void toJson(DB2ConnectOptions obj, java.util.Map<String, Object> json) {
+    json.put("maxExtraQueryBlocks", obj.getMaxExtraQueryBlocks());
+    json.put("maxLargePackages", obj.getMaxLargePackages());
     json.put("pipeliningLimit", obj.getPipeliningLimit());
+    json.put("queryBlockSize", obj.getQueryBlockSize());
   }
 }
@@ -18,6 +18,7 @@ package examples;
 import java.util.ArrayList;
 import java.util.List;
 
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.docgen.Source;
 import io.vertx.sqlclient.Cursor;
@@ -311,6 +312,26 @@ public class SqlClientExamples {
     });
   }
 
+  public void transaction04(SqlConnection conn) {
+
+    // The first statement is sent with BEGIN, without waiting for the transaction to begin
+    Future<Transaction> begin = conn.begin();
+    conn
+      .query("INSERT INTO Users (first_name,last_name) VALUES ('Julien','Viet')")
+      .execute();
+
+    // The last statement is sent with COMMIT
+    begin
+      .compose(tx -> tx.commitWith(conn.query("INSERT INTO Users (first_name,last_name) VALUES ('Emad','Alblueshi')")))
+      .onComplete(ar -> {
+        if (ar.succeeded()) {
+          System.out.println("Transaction succeeded");
+        } else {
+          System.out.println("Transaction failed " + ar.cause().getMessage());
+        }
+      });
+  }
+
   public void usingCursors01(SqlConnection connection) {
     connection.prepare("SELECT * FROM users WHERE first_name LIKE $1", ar0 -> {
       if (ar0.succeeded()) {
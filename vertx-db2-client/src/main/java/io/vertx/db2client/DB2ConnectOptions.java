@@ -64,6 +64,12 @@ public class DB2ConnectOptions extends SqlConnectOptions {
   public static final String DEFAULT_CHARSET = "utf8";
   public static final boolean DEFAULT_USE_AFFECTED_ROWS = false;
   public static final int DEFAULT_PIPELINING_LIMIT = 1; // 256; // TODO default to 256 once implemented properly
+  public static final int DEFAULT_MAX_LARGE_PACKAGES = 3;
+  public static final int MAX_LARGE_PACKAGES = 30;
+  public static final int DEFAULT_QUERY_BLOCK_SIZE = 32767;
+  public static final int MIN_QUERY_BLOCK_SIZE = 512;
+  public static final int MAX_QUERY_BLOCK_SIZE = 32767;
+  public static final int DEFAULT_MAX_EXTRA_QUERY_BLOCKS = -1;
   public static final Map<String, String> DEFAULT_CONNECTION_ATTRIBUTES;
 
   static {
@@ -73,6 +79,9 @@ public class DB2ConnectOptions extends SqlConnectOptions {
   }
 
   private int pipeliningLimit = DEFAULT_PIPELINING_LIMIT;
+  private int maxLargePackages = DEFAULT_MAX_LARGE_PACKAGES;
+  private int queryBlockSize = DEFAULT_QUERY_BLOCK_SIZE;
+  private int maxExtraQueryBlocks = DEFAULT_MAX_EXTRA_QUERY_BLOCKS;
 
   public DB2ConnectOptions() {
     super();
@@ -88,12 +97,18 @@ public class DB2ConnectOptions extends SqlConnectOptions {
     if (other instanceof DB2ConnectOptions) {
       DB2ConnectOptions opts = (DB2ConnectOptions) other;
       this.pipeliningLimit = opts.pipeliningLimit;
+      this.maxLargePackages = opts.maxLargePackages;
+      this.queryBlockSize = opts.queryBlockSize;
+      this.maxExtraQueryBlocks = opts.maxExtraQueryBlocks;
     }
   }
 
   public DB2ConnectOptions(DB2ConnectOptions other) {
     super(other);
     this.pipeliningLimit = other.pipeliningLimit;
+    this.maxLargePackages = other.maxLargePackages;
+    this.queryBlockSize = other.queryBlockSize;
+    this.maxExtraQueryBlocks = other.maxExtraQueryBlocks;
   }
 
   @Override
@@ -157,6 +172,11 @@ public class DB2ConnectOptions extends SqlConnectOptions {
     return (DB2ConnectOptions) super.setPreparedStatementCacheSqlLimit(preparedStatementCacheSqlLimit);
   }
 
+  @Override
+  public DB2ConnectOptions setPreparedStatementCacheThreshold(int preparedStatementCacheThreshold) {
+    return (DB2ConnectOptions) super.setPreparedStatementCacheThreshold(preparedStatementCacheThreshold);
+  }
+
   @Override
   public DB2ConnectOptions setSsl(boolean ssl) {
     return (DB2ConnectOptions) super.setSsl(ssl);
@@ -243,6 +263,66 @@ public class DB2ConnectOptions extends SqlConnectOptions {
     return this;
   }
 
+  public int getMaxLargePackages() {
+    return maxLargePackages;
+  }
+
+  /**
+   * Set the number of large dynamic SQL packages ({@code SYSLH2xx}) bound on the server. The sections of these packages
+   * hold the open cursors and the prepared statements of a connection, a connection allocates the packages as it needs
+   * them. The default packages are bound with 3 large packages, binding them with the {@code CLIPKG} option creates
+   * up to {@code 30} large packages and allows larger prepared statement caches.
+   *
+   * @param maxLargePackages the number of large packages, between {@code 1} and {@code 30}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DB2ConnectOptions setMaxLargePackages(int maxLargePackages) {
+    if (maxLargePackages < 1 || maxLargePackages > MAX_LARGE_PACKAGES) {
+      throw new IllegalArgumentException("The number of large packages must be between 1 and " + MAX_LARGE_PACKAGES);
+    }
+    this.maxLargePackages = maxLargePackages;
+    return this;
+  }
+
+  public int getQueryBlockSize() {
+    return queryBlockSize;
+  }
+
+  /**
+   * Set the size of the query blocks ({@code QRYBLKSZ}) the server uses to return the rows of a query. A query block
+   * must fit in a single DRDA segment, so the size is between {@code 512} and {@code 32767} bytes.
+   *
+   * @param queryBlockSize the query block size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DB2ConnectOptions setQueryBlockSize(int queryBlockSize) {
+    if (queryBlockSize < MIN_QUERY_BLOCK_SIZE || queryBlockSize > MAX_QUERY_BLOCK_SIZE) {
+      throw new IllegalArgumentException("The query block size must be between " + MIN_QUERY_BLOCK_SIZE + " and " + MAX_QUERY_BLOCK_SIZE);
+    }
+    this.queryBlockSize = queryBlockSize;
+    return this;
+  }
+
+  public int getMaxExtraQueryBlocks() {
+    return maxExtraQueryBlocks;
+  }
+
+  /**
+   * Set the number of extra query blocks ({@code MAXBLKEXT}) the server may return after the first one when a query is
+   * opened or continued, so large results need fewer round trips. {@code 0} asks for a single query block per round
+   * trip and {@code -1} (the default) lets the server return as many query blocks as it wants.
+   *
+   * @param maxExtraQueryBlocks the number of extra query blocks, between {@code -1} and {@code 32767}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DB2ConnectOptions setMaxExtraQueryBlocks(int maxExtraQueryBlocks) {
+    if (maxExtraQueryBlocks < -1 || maxExtraQueryBlocks > Short.MAX_VALUE) {
+      throw new IllegalArgumentException("The number of extra query blocks must be between -1 and " + Short.MAX_VALUE);
+    }
+    this.maxExtraQueryBlocks = maxExtraQueryBlocks;
+    return this;
+  }
+
   @Override
   public DB2ConnectOptions setProperties(Map<String, String> properties) {
     return (DB2ConnectOptions) super.setProperties(properties);
@@ -282,12 +362,18 @@ public class DB2ConnectOptions extends SqlConnectOptions {
 
     if (pipeliningLimit != that.pipeliningLimit)
       return false;
+    if (maxLargePackages != that.maxLargePackages)
+      return false;
+    if (queryBlockSize != that.queryBlockSize)
+      return false;
+    if (maxExtraQueryBlocks != that.maxExtraQueryBlocks)
+      return false;
 
     return true;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(pipeliningLimit);
+    return Objects.hash(pipeliningLimit, maxLargePackages, queryBlockSize, maxExtraQueryBlocks);
   }
 }
@@ -95,6 +95,27 @@ public interface DB2Connection extends SqlConnection {
    */
   Future<Void> ping();
 
+  /**
+   * @return the number of sections of the dynamic packages in use by the statements of this connection
+   */
+  int sectionsInUse();
+
+  /**
+   * @return the highest number of sections of the dynamic packages in use at the same time by this connection
+   */
+  int maxSectionsInUse();
+
+  /**
+   * @return the number of sections of the dynamic packages created by this connection, in use or free
+   */
+  int sectionCount();
+
+  /**
+   * @return the number of dynamic packages allocated by this connection, it cannot exceed the 3 small packages
+   *         and the {@link DB2ConnectOptions#getMaxLargePackages() large packages} bound on the server
+   */
+  int packageCount();
+
   /**
    * Send a DEBUG command to dump debug information to the server's stdout.
    *
@@ -43,7 +43,11 @@ public class DB2ConnectionFactory implements ConnectionFactory {
   private final boolean cachePreparedStatements;
   private final int preparedStatementCacheSize;
   private final Predicate<String> preparedStatementCacheSqlFilter;
+  private final int preparedStatementCacheThreshold;
   private final int pipeliningLimit;
+  private final int maxLargePackages;
+  private final int queryBlockSize;
+  private final int maxExtraQueryBlocks;
 
   public DB2ConnectionFactory(ContextInternal context, DB2ConnectOptions options) {
     NetClientOptions netClientOptions = new NetClientOptions(options);
@@ -60,7 +64,11 @@ public class DB2ConnectionFactory implements ConnectionFactory {
     this.cachePreparedStatements = options.getCachePreparedStatements();
     this.preparedStatementCacheSize = options.getPreparedStatementCacheMaxSize();
     this.preparedStatementCacheSqlFilter = options.getPreparedStatementCacheSqlFilter();
+    this.preparedStatementCacheThreshold = options.getPreparedStatementCacheThreshold();
     this.pipeliningLimit = options.getPipeliningLimit();
+    this.maxLargePackages = options.getMaxLargePackages();
+    this.queryBlockSize = options.getQueryBlockSize();
+    this.maxExtraQueryBlocks = options.getMaxExtraQueryBlocks();
 
     this.netClient = context.owner().createNetClient(netClientOptions);
   }
@@ -71,18 +79,24 @@ public class DB2ConnectionFactory implements ConnectionFactory {
 
   @Override
   public Future<Connection> connect() {
+    return connect(context);
+  }
+
+  @Override
+  public Future<Connection> connect(ContextInternal context) {
     Promise<Connection> promise = context.promise();
-    context.dispatch(null, v -> doConnect(promise));
+    context.dispatch(null, v -> doConnect(context, promise));
     return promise.future();
   }
 
-  public void doConnect(Promise<Connection> promise) {
+  public void doConnect(ContextInternal context, Promise<Connection> promise) {
     Future<NetSocket> fut = netClient.connect(port, host);
     fut.onComplete(ar -> {
       if (ar.succeeded()) {
         NetSocket so = ar.result();
         DB2SocketConnection conn = new DB2SocketConnection((NetSocketInternal) so, cachePreparedStatements,
-            preparedStatementCacheSize, preparedStatementCacheSqlFilter, pipeliningLimit, context);
+            preparedStatementCacheSize, preparedStatementCacheSqlFilter, preparedStatementCacheThreshold, pipeliningLimit, maxLargePackages,
+            queryBlockSize, maxExtraQueryBlocks, context);
         conn.init();
         conn.sendStartupMessage(username, password, database, connectionAttributes, promise);
       } else {
@@ -25,6 +25,7 @@ import io.vertx.core.spi.metrics.ClientMetrics;
 import io.vertx.db2client.DB2ConnectOptions;
 import io.vertx.db2client.DB2Connection;
 import io.vertx.db2client.impl.command.PingCommand;
+import io.vertx.db2client.impl.drda.SectionManager;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.SqlConnectionImpl;
 import io.vertx.sqlclient.impl.tracing.QueryTracer;
@@ -73,6 +74,30 @@ public class DB2ConnectionImpl extends SqlConnectionImpl<DB2ConnectionImpl> impl
     return promise.future();
   }
 
+  private SectionManager sectionManager() {
+    return ((DB2SocketConnection) conn.unwrap()).connMetadata.sectionManager;
+  }
+
+  @Override
+  public int sectionsInUse() {
+    return sectionManager().sectionsInUse();
+  }
+
+  @Override
+  public int maxSectionsInUse() {
+    return sectionManager().maxSectionsInUse();
+  }
+
+  @Override
+  public int sectionCount() {
+    return sectionManager().sectionCount();
+  }
+
+  @Override
+  public int packageCount() {
+    return sectionManager().packageCount();
+  }
+
   @Override
   public DB2Connection debug(Handler<AsyncResult<Void>> handler) {
     throw new UnsupportedOperationException("Debug command not implemented");
@@ -41,15 +41,20 @@ public class DB2SocketConnection extends SocketConnectionBase {
 
   private DB2Codec codec;
   private Handler<Void> closeHandler;
-  public final ConnectionMetaData connMetadata = new ConnectionMetaData();
+  public final ConnectionMetaData connMetadata;
 
   public DB2SocketConnection(NetSocketInternal socket,
       boolean cachePreparedStatements,
       int preparedStatementCacheSize,
       Predicate<String> preparedStatementCacheSqlFilter,
+      int preparedStatementCacheThreshold,
       int pipeliningLimit,
+      int maxLargePackages,
+      int queryBlockSize,
+      int maxExtraQueryBlocks,
       ContextInternal context) {
-    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, pipeliningLimit, context);
+    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, preparedStatementCacheThreshold, pipeliningLimit, context);
+    this.connMetadata = new ConnectionMetaData(maxLargePackages, queryBlockSize, maxExtraQueryBlocks);
   }
 
   void sendStartupMessage(String username,
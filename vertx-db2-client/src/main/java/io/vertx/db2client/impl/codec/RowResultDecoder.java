@@ -54,8 +54,11 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
 
   @Override
   protected Row decodeRow(int len, ByteBuf in) {
-    Row row = new DB2RowImpl(rowDesc);
+    DB2RowImpl row = new DB2RowImpl(rowDesc);
     for (int i = 1; i < rowDesc.columnDefinitions().columns_ + 1; i++) {
+      if (cursor.getPrimitive(i, row)) {
+        continue;
+      }
       int startingIdx = cursor.dataBuffer_.readerIndex();
       Object o = cursor.getObject(i);
       int endingIdx = cursor.dataBuffer_.readerIndex();
@@ -17,6 +17,7 @@ package io.vertx.db2client.impl.drda;
 
 import java.nio.charset.Charset;
 
+import io.vertx.db2client.DB2ConnectOptions;
 import io.vertx.db2client.impl.DB2DatabaseMetadata;
 
 public class ConnectionMetaData {
@@ -24,9 +25,25 @@ public class ConnectionMetaData {
   public byte[] correlationToken;
   public String databaseName;
   public DB2DatabaseMetadata dbMetadata;
-  public final SectionManager sectionManager = new SectionManager();
+  public final SectionManager sectionManager;
+  public final int queryBlockSize;
+  public final int maxExtraQueryBlocks;
   
   private Charset currentCCSID = CCSIDConstants.EBCDIC;
+
+  public ConnectionMetaData() {
+    this(new SectionManager(), DB2ConnectOptions.DEFAULT_QUERY_BLOCK_SIZE, DB2ConnectOptions.DEFAULT_MAX_EXTRA_QUERY_BLOCKS);
+  }
+
+  public ConnectionMetaData(int maxLargePackages, int queryBlockSize, int maxExtraQueryBlocks) {
+    this(new SectionManager(maxLargePackages), queryBlockSize, maxExtraQueryBlocks);
+  }
+
+  private ConnectionMetaData(SectionManager sectionManager, int queryBlockSize, int maxExtraQueryBlocks) {
+    this.sectionManager = sectionManager;
+    this.queryBlockSize = queryBlockSize;
+    this.maxExtraQueryBlocks = maxExtraQueryBlocks;
+  }
   
   public Charset getCCSID() {
     return currentCCSID;
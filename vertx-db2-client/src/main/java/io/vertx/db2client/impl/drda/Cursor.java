@@ -39,6 +39,9 @@ import java.util.HashMap;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.sqlclient.impl.ArrayTuple;
 
 public class Cursor {
 
@@ -261,6 +264,22 @@ public class Cursor {
         setAllRowsReceivedFromServer(false);
     }
 
+    // chain the data of an extra query block after the data not processed yet,
+    // the positions in the data buffer are unchanged
+    final void appendDataBuffer(ByteBuf data) {
+        CompositeByteBuf composite;
+        if (dataBuffer_ instanceof CompositeByteBuf) {
+            composite = (CompositeByteBuf) dataBuffer_;
+        } else {
+            composite = Unpooled.compositeBuffer(Integer.MAX_VALUE);
+            composite.addComponent(true, dataBuffer_.slice(0, lastValidBytePosition_));
+            composite.readerIndex(dataBuffer_.readerIndex());
+            dataBuffer_ = composite;
+        }
+        composite.addComponent(true, data);
+        lastValidBytePosition_ = composite.writerIndex();
+    }
+
     final boolean dataBufferHasUnprocessedData() {
         return dataBuffer_ != null && (lastValidBytePosition_ - dataBuffer_.readerIndex()) > 0;
     }
@@ -1199,6 +1218,30 @@ public class Cursor {
       return nullable_[column - 1] && isNull_[column - 1];
     }
 
+    /**
+     * Add an {@code INTEGER}, {@code BIGINT} or {@code DOUBLE} column value to the primitive storage of the {@code row}
+     * instead of boxing it with {@link #getObject(int)}.
+     *
+     * @return {@code false} when the column is null or has no primitive representation, nothing is added to the row then
+     */
+    public final boolean getPrimitive(int column, ArrayTuple row) {
+      if (isNull(column))
+        return false;
+        switch (jdbcTypes_[column - 1]) {
+        case Types.INTEGER:
+            row.addInt(get_INTEGER(column));
+            return true;
+        case Types.BIGINT:
+            row.addLong(get_BIGINT(column));
+            return true;
+        case Types.DOUBLE:
+            row.addDouble(get_DOUBLE(column));
+            return true;
+        default:
+            return false;
+        }
+    }
+
     public final Object getObject(int column) {
       if (isNull(column))
         return null;
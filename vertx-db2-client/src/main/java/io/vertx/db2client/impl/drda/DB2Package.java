@@ -15,8 +15,6 @@
  */
 package io.vertx.db2client.impl.drda;
 
-import java.util.concurrent.ConcurrentLinkedDeque;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -47,15 +45,16 @@ public class DB2Package {
     private static final int MAX_SECTIONS_SMALL_PKG = 64;
     private static final int MAX_SECTIONS_LARGE_PKG = 384;
 
+    final SectionManager manager;
     final String name; // ex: SYSSH200
     final String cursorNamePrefix; // ex: SQL_CURSH200C
     final int maxSections;
 
     byte[] pkgNameConsistencyBytes;
-    final ConcurrentLinkedDeque<Section> freeSections = new ConcurrentLinkedDeque<>();
-    private AtomicInteger nextAvailableSectionNumber = new AtomicInteger(1);
+    private int nextAvailableSectionNumber = 1;
 
-  public DB2Package(boolean isSmallPackage, int pkgNum) {
+  public DB2Package(SectionManager manager, boolean isSmallPackage, int pkgNum) {
+      this.manager = manager;
       maxSections = isSmallPackage ? MAX_SECTIONS_SMALL_PKG : MAX_SECTIONS_LARGE_PKG;
       // assume packages are always HOLD cursors
       // assume isolation level 2
@@ -69,33 +68,30 @@ public class DB2Package {
     return maxSections == MAX_SECTIONS_SMALL_PKG;
   }
 
-  int sectionsInUse() {
-    return nextAvailableSectionNumber.get() - 1 - freeSections.size();
+  /**
+   * @return the number of sections created for this package
+   */
+  int sectionCount() {
+    return nextAvailableSectionNumber - 1;
   }
 
-  Section getFreeSection() {
-    Section s = freeSections.poll();
-    if (s != null) {
-      s.use();
-      if (LOG.isLoggable(Level.FINE))
-        LOG.fine("Using existing section " + s);
-      return s;
-    }
-
-    int sectionNumber = nextAvailableSectionNumber.getAndIncrement();
-    if (sectionNumber > maxSections) {
+  /**
+   * Create a section, the released sections are reused by the {@link SectionManager} before new sections are created.
+   *
+   * @return the section or {@code null} when all the sections of this package have been created
+   */
+  Section newSection() {
+    if (nextAvailableSectionNumber > maxSections) {
       if (LOG.isLoggable(Level.FINE))
         LOG.fine("All sections in use for package " + this);
       return null;
     }
-
-    return new Section(this, sectionNumber);
+    return new Section(this, nextAvailableSectionNumber++);
   }
 
   @Override
   public String toString() {
-    return super.toString() + "{name=" + name + ", freeSections=" + freeSections.size() +
-        ",nextSection=" + nextAvailableSectionNumber + ", maxSections=" + maxSections + "}";
+    return super.toString() + "{name=" + name + ", sections=" + sectionCount() + ", maxSections=" + maxSections + "}";
   }
 
 }
@@ -398,7 +398,7 @@ public class DRDAQueryRequest extends DRDAConnectRequest {
 
         // maxblkext (-1) tells the server that the client is capable of receiving any number of query blocks
         if (sendQryrowset) {
-            buildMAXBLKEXT(-1); // 3. maxblkext
+            buildMAXBLKEXT(metadata.maxExtraQueryBlocks); // 3. maxblkext
         }
 
         // 4. qryinsid
@@ -1592,12 +1592,10 @@ public class DRDAQueryRequest extends DRDAConnectRequest {
         markLengthBytes(CodePoint.OPNQRY);
 
         buildPKGNAMCSN(dbName, section);
-        buildQRYBLKSZ();  // specify a hard coded query block size
+        buildQRYBLKSZ();
 
-//        if (sendQueryRowSet) {
-//            buildMAXBLKEXT(-1);
-//            buildQRYROWSET(fetchSize);
-//        }
+        // let the server chain extra query blocks to the reply instead of waiting for a CNTQRY
+        buildMAXBLKEXT(metadata.maxExtraQueryBlocks);
 
         if (fetchSize != 0) {
             buildQRYROWSET(fetchSize);
@@ -1652,12 +1650,13 @@ public class DRDAQueryRequest extends DRDAConnectRequest {
     // the sqlam 6 min value is 512 and max value is 32767.
     // this value was increased in later sqlam levels.
     // until the code is ready to support larger query block sizes,
-    // it will always use DssConstants.MAX_DSS_LEN which is 32767.
+    // it is configured with DB2ConnectOptions#setQueryBlockSize and
+    // never exceeds DssConstants.MAX_DSS_LEN which is 32767.
     //
     // preconditions:
     //   sqlam must support this parameter for the command, method will not check.
     void buildQRYBLKSZ() {
-        writeScalar4Bytes(CodePoint.QRYBLKSZ, DssConstants.MAX_DSS_LENGTH);
+        writeScalar4Bytes(CodePoint.QRYBLKSZ, metadata.queryBlockSize);
     }
 
     private int checkFetchsize(int fetchSize, int resultSetType) {
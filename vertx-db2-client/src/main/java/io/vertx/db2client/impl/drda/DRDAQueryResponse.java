@@ -1106,13 +1106,16 @@ public class DRDAQueryResponse extends DRDAConnectResponse {
     }
 
     /**
-     * Reads the bytes for the current QRYDTA into the cursor's buffer
+     * Reads the bytes for the current QRYDTA and the extra query blocks chained to it into the cursor's buffer
      * @return
      */
     public boolean readOpenQueryData() {
         int peekCP = peekCodePoint();
         if (peekCP == CodePoint.QRYDTA) {
-            parseQRYDTA(/*NetResultSet*/);
+            do {
+                parseQRYDTA(/*NetResultSet*/);
+                peekCP = peekCodePoint();
+            } while (peekCP == CodePoint.QRYDTA);
             return true;
         }
         return false;
@@ -1769,7 +1772,13 @@ public class DRDAQueryResponse extends DRDAConnectResponse {
 //            netCursor.dataBuffer_ = netCursor.dataBufferStream_.toByteArray();
         if (cursor == null)
             cursor = new Cursor(metadata);
-        cursor.dataBuffer_ = getData();
+        ByteBuf data = getData();
+        if (cursor.dataBufferHasUnprocessedData()) {
+            // an extra query block, a row may span the blocks
+            cursor.appendDataBuffer(data);
+            return;
+        }
+        cursor.dataBuffer_ = data;
 //        } else {
 //            int size = netCursor.dataBufferStream_.size();
 //            if (size == 0) {
@@ -62,7 +62,7 @@ public class Section {
         LOG.fine("Releasing section: " + this);
 
       if (inUse.getAndSet(false)) {
-        pkg.freeSections.add(this);
+        pkg.manager.release(this);
       } else {
         throw new IllegalStateException("Attempted to release section multiple times: " + this);
       }
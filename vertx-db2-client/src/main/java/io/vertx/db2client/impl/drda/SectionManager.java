@@ -15,25 +15,51 @@
  */
 package io.vertx.db2client.impl.drda;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import io.vertx.db2client.DB2ConnectOptions;
+
+/**
+ * Hands out the sections of the dynamic packages. The packages are allocated when the sections of the previous ones
+ * are all in use: first the 3 small packages, then the large packages up to the number bound on the server.
+ */
 public class SectionManager {
 
-    private final List<DB2Package> pkgs = new ArrayList<>(6);
+    private static final Logger LOG = Logger.getLogger(SectionManager.class.getName());
+
+    private static final int SMALL_PACKAGES = 3;
+
+    private final List<DB2Package> pkgs = new ArrayList<>();
+    // the released sections, reused before new sections are created
+    private final ArrayDeque<Section> freeSections = new ArrayDeque<>();
+    private final DB2Package staticPackage;
     private final Section staticSection;
+    private final int maxLargePackages;
+    private int maxSmallPackages = SMALL_PACKAGES;
+    private int smallPackages;
+    private int largePackages;
+    private volatile int sectionCount;
+    private volatile int sectionsInUse;
+    private volatile int maxSectionsInUse;
 
     SectionManager() {
-      // by default there are 3 small and 3 large packages
-        for (int i = 0; i < 3; i++)
-          pkgs.add(new DB2Package(true, i));
-        for (int i = 0; i < 3; i++)
-          pkgs.add(new DB2Package(false, i));
-        staticSection = new Section.ImmediateSection(pkgs.get(3));
+      this(DB2ConnectOptions.DEFAULT_MAX_LARGE_PACKAGES);
+    }
+
+    SectionManager(int maxLargePackages) {
+      this.maxLargePackages = maxLargePackages;
+      // the first large package also holds the static section
+      staticPackage = new DB2Package(this, false, 0);
+      staticSection = new Section.ImmediateSection(staticPackage);
     }
 
     void configureForZOS() {
       // DB2/Z doesn't have small packages by default -- remove them
+      maxSmallPackages = 0;
       pkgs.removeIf(DB2Package::isSmallPackage);
     }
 
@@ -42,12 +68,39 @@ public class SectionManager {
       StringBuilder sb = new StringBuilder("SectionManager info:\n");
       for (DB2Package p : pkgs)
         sb.append("  ").append(p).append("\n");
+      sb.append("  sectionsInUse=").append(sectionsInUse)
+        .append(", maxSectionsInUse=").append(maxSectionsInUse)
+        .append(", freeSections=").append(freeSections.size()).append("\n");
       sb.append(staticSection);
       return sb.toString();
     }
 
+    /**
+     * @return the number of dynamic sections in use
+     */
     public int sectionsInUse() {
-      return pkgs.stream().mapToInt(DB2Package::sectionsInUse).sum();
+      return sectionsInUse;
+    }
+
+    /**
+     * @return the highest number of dynamic sections in use at the same time
+     */
+    public int maxSectionsInUse() {
+      return maxSectionsInUse;
+    }
+
+    /**
+     * @return the number of dynamic sections created, in use or free
+     */
+    public int sectionCount() {
+      return sectionCount;
+    }
+
+    /**
+     * @return the number of packages allocated
+     */
+    public int packageCount() {
+      return pkgs.size();
     }
 
     public Section getSection(String sql) {
@@ -61,13 +114,46 @@ public class SectionManager {
     }
 
     private Section getDynamicSection() {
-      for (DB2Package p : pkgs) {
-        Section s = p.getFreeSection();
-        if (s != null)
-          return s;
+      Section s = freeSections.poll();
+      if (s != null) {
+        s.use();
+      } else {
+        s = newSection();
       }
-      throw new IllegalStateException("All sections are in use: " + this);
+      if (++sectionsInUse > maxSectionsInUse)
+        maxSectionsInUse = sectionsInUse;
+      return s;
     }
 
-}
+    private Section newSection() {
+      Section s = pkgs.isEmpty() ? null : pkgs.get(pkgs.size() - 1).newSection();
+      if (s == null) {
+        DB2Package pkg = nextPackage();
+        if (pkg == null)
+          throw new IllegalStateException("All sections are in use, bind more large packages on the server (CLIPKG) " +
+              "and raise DB2ConnectOptions#setMaxLargePackages: " + this);
+        pkgs.add(pkg);
+        if (LOG.isLoggable(Level.FINE))
+          LOG.fine("Allocated package " + pkg);
+        s = pkg.newSection();
+      }
+      sectionCount++;
+      return s;
+    }
 
+    private DB2Package nextPackage() {
+      if (smallPackages < maxSmallPackages)
+        return new DB2Package(this, true, smallPackages++);
+      if (largePackages < maxLargePackages) {
+        int pkgNum = largePackages++;
+        return pkgNum == 0 ? staticPackage : new DB2Package(this, false, pkgNum);
+      }
+      return null;
+    }
+
+    void release(Section section) {
+      freeSections.add(section);
+      sectionsInUse--;
+    }
+
+}
@@ -45,6 +45,23 @@ public class QueryVariationsTest extends DB2TestBase {
     }));
   }
 
+  @Test
+  public void testSectionsReleased(TestContext ctx) {
+    DB2Connection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      ctx.assertEquals(0, conn.sectionsInUse());
+      conn.query("SELECT id FROM immutable").execute(ctx.asyncAssertSuccess(rowSet1 -> {
+        conn.query("SELECT message FROM immutable").execute(ctx.asyncAssertSuccess(rowSet2 -> {
+          // The section of the first query is reused by the second one
+          ctx.assertEquals(0, conn.sectionsInUse());
+          ctx.assertEquals(1, conn.maxSectionsInUse());
+          ctx.assertEquals(1, conn.sectionCount());
+          ctx.assertEquals(1, conn.packageCount());
+          conn.close();
+        }));
+      }));
+    }));
+  }
+
   @Test
   public void testSubquery(TestContext ctx) {
     connect(ctx.asyncAssertSuccess(conn -> {
@@ -149,6 +166,34 @@ public class QueryVariationsTest extends DB2TestBase {
     }));
   }
 
+  /**
+   * Test that results spanning many query blocks are returned entirely
+   */
+  @Test
+  public void testLargeResult(TestContext ctx) {
+    connect(ctx.asyncAssertSuccess(con -> {
+      con.query(LARGE_RESULT_QUERY).execute(ctx.asyncAssertSuccess(rowSet -> {
+        assertLargeResult(ctx, rowSet);
+        con.preparedQuery(LARGE_RESULT_QUERY).execute(ctx.asyncAssertSuccess(rowSet2 -> {
+          assertLargeResult(ctx, rowSet2);
+          con.close();
+        }));
+      }));
+    }));
+  }
+
+  private static final String LARGE_RESULT_QUERY = "WITH nums(n) AS (VALUES 1 UNION ALL SELECT n + 1 FROM nums WHERE n < 10000) " +
+      "SELECT n, REPEAT('x', 100) FROM nums";
+
+  private void assertLargeResult(TestContext ctx, RowSet<Row> rowSet) {
+    ctx.assertEquals(10000, rowSet.size());
+    int expected = 1;
+    for (Row row : rowSet) {
+      ctx.assertEquals(expected++, row.getInteger(0));
+      ctx.assertEquals(100, row.getString(1).length());
+    }
+  }
+
   /**
    * Test that queries starting with the "VALUES" keyword work properly
    */
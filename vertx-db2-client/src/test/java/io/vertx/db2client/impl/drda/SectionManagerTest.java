@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2020 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vertx.db2client.impl.drda;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class SectionManagerTest {
+
+  @Test
+  public void testPackagesAllocatedOnDemand() {
+    SectionManager manager = new SectionManager(5);
+    assertEquals(0, manager.packageCount());
+    Section first = manager.getSection("SELECT 1");
+    assertEquals(1, manager.packageCount());
+    assertEquals(1, manager.sectionsInUse());
+    first.release();
+    assertEquals(0, manager.sectionsInUse());
+  }
+
+  @Test
+  public void testStaticSection() {
+    SectionManager manager = new SectionManager();
+    Section s1 = manager.getSection("INSERT INTO T VALUES (1)");
+    Section s2 = manager.getSection("UPDATE T SET C = 2");
+    assertSame(s1, s2);
+    assertEquals(0, manager.packageCount());
+    assertEquals(0, manager.sectionsInUse());
+  }
+
+  @Test
+  public void testReleasedSectionsReused() {
+    SectionManager manager = new SectionManager();
+    Section s1 = manager.getSection("SELECT 1");
+    Section s2 = manager.getSection("SELECT 2");
+    s1.release();
+    Section s3 = manager.getSection("SELECT 3");
+    assertSame(s1, s3);
+    assertEquals(2, manager.sectionCount());
+    assertEquals(2, manager.sectionsInUse());
+    assertEquals(2, manager.maxSectionsInUse());
+    s2.release();
+    s3.release();
+    assertEquals(0, manager.sectionsInUse());
+    assertEquals(2, manager.maxSectionsInUse());
+  }
+
+  @Test
+  public void testGrowBeyondDefaultPackages() {
+    SectionManager manager = new SectionManager(5);
+    // 3 small packages of 64 sections and 5 large packages of 384 sections
+    int capacity = 3 * 64 + 5 * 384;
+    List<Section> sections = new ArrayList<>();
+    for (int i = 0; i < capacity; i++) {
+      sections.add(manager.getSection("SELECT " + i));
+    }
+    assertEquals(8, manager.packageCount());
+    assertEquals(capacity, manager.sectionsInUse());
+    try {
+      manager.getSection("SELECT 1");
+      fail();
+    } catch (IllegalStateException expected) {
+    }
+    sections.remove(0).release();
+    assertNotNull(manager.getSection("SELECT 1"));
+    assertEquals(capacity, manager.sectionCount());
+  }
+
+  @Test
+  public void testDoubleRelease() {
+    SectionManager manager = new SectionManager();
+    Section s = manager.getSection("SELECT 1");
+    s.release();
+    try {
+      s.release();
+      fail();
+    } catch (IllegalStateException expected) {
+    }
+    assertEquals(0, manager.sectionsInUse());
+  }
+}
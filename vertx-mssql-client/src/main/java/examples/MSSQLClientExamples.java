@@ -11,12 +11,15 @@
 
 package examples;
 
+import io.vertx.core.streams.ReadStream;
 import io.vertx.mssqlclient.MSSQLConnectOptions;
+import io.vertx.mssqlclient.MSSQLConnection;
 import io.vertx.mssqlclient.MSSQLPool;
 import io.vertx.core.Vertx;
 import io.vertx.docgen.Source;
 import io.vertx.sqlclient.*;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -233,4 +236,14 @@ public class MSSQLClientExamples {
         }
       });
   }
+
+  public void bulkInsert01Example(MSSQLConnection connection, ReadStream<Tuple> users) {
+    connection.bulkInsert("users", Arrays.asList("id", "name"), users, ar -> {
+      if (ar.succeeded()) {
+        System.out.println("Inserted " + ar.result() + " users");
+      } else {
+        System.out.println("Failure: " + ar.cause().getMessage());
+      }
+    });
+  }
 }
@@ -12,6 +12,7 @@
 package io.vertx.mssqlclient;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.JdkSSLEngineOptions;
@@ -30,6 +31,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 /**
  * Connect options for configuring {@link MSSQLConnection}.
@@ -43,6 +45,9 @@ public class MSSQLConnectOptions extends SqlConnectOptions {
   public static final String DEFAULT_SCHEMA = "";
   public static final String DEFAULT_APP_NAME = "vertx-mssql-client";
   public static final String DEFAULT_CLIENT_INTERFACE_NAME = "Vert.x";
+  public static final int DEFAULT_PACKET_SIZE = 4096;
+  public static final int MIN_PACKET_SIZE = 512;
+  public static final int MAX_PACKET_SIZE = 32767;
   public static final Map<String, String> DEFAULT_PROPERTIES;
 
   static {
@@ -52,6 +57,8 @@ public class MSSQLConnectOptions extends SqlConnectOptions {
     DEFAULT_PROPERTIES = defaultProperties;
   }
 
+  private int packetSize = DEFAULT_PACKET_SIZE;
+
   public MSSQLConnectOptions() {
     super();
   }
@@ -63,10 +70,36 @@ public class MSSQLConnectOptions extends SqlConnectOptions {
 
   public MSSQLConnectOptions(SqlConnectOptions other) {
     super(other);
+    if (other instanceof MSSQLConnectOptions) {
+      this.packetSize = ((MSSQLConnectOptions) other).packetSize;
+    }
   }
 
   public MSSQLConnectOptions(MSSQLConnectOptions other) {
     super(other);
+    this.packetSize = other.packetSize;
+  }
+
+  /**
+   * @return the requested size of the TDS packets
+   */
+  public int getPacketSize() {
+    return packetSize;
+  }
+
+  /**
+   * Set the size of the TDS packets requested when connecting, the server may grant another size. Larger packets
+   * reduce the number of packets of large requests and responses.
+   *
+   * @param packetSize the packet size in bytes, between {@code 512} and {@code 32767}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MSSQLConnectOptions setPacketSize(int packetSize) {
+    if (packetSize < MIN_PACKET_SIZE || packetSize > MAX_PACKET_SIZE) {
+      throw new IllegalArgumentException("Packet size must be between " + MIN_PACKET_SIZE + " and " + MAX_PACKET_SIZE);
+    }
+    this.packetSize = packetSize;
+    return this;
   }
 
   @Override
@@ -94,6 +127,32 @@ public class MSSQLConnectOptions extends SqlConnectOptions {
     return (MSSQLConnectOptions) super.setDatabase(database);
   }
 
+  @Override
+  public MSSQLConnectOptions setCachePreparedStatements(boolean cachePreparedStatements) {
+    return (MSSQLConnectOptions) super.setCachePreparedStatements(cachePreparedStatements);
+  }
+
+  @Override
+  public MSSQLConnectOptions setPreparedStatementCacheMaxSize(int preparedStatementCacheMaxSize) {
+    return (MSSQLConnectOptions) super.setPreparedStatementCacheMaxSize(preparedStatementCacheMaxSize);
+  }
+
+  @GenIgnore
+  @Override
+  public MSSQLConnectOptions setPreparedStatementCacheSqlFilter(Predicate<String> predicate) {
+    return (MSSQLConnectOptions) super.setPreparedStatementCacheSqlFilter(predicate);
+  }
+
+  @Override
+  public MSSQLConnectOptions setPreparedStatementCacheSqlLimit(int preparedStatementCacheSqlLimit) {
+    return (MSSQLConnectOptions) super.setPreparedStatementCacheSqlLimit(preparedStatementCacheSqlLimit);
+  }
+
+  @Override
+  public MSSQLConnectOptions setPreparedStatementCacheThreshold(int preparedStatementCacheThreshold) {
+    return (MSSQLConnectOptions) super.setPreparedStatementCacheThreshold(preparedStatementCacheThreshold);
+  }
+
   @Override
   public MSSQLConnectOptions setProperties(Map<String, String> properties) {
     return (MSSQLConnectOptions) super.setProperties(properties);
@@ -18,8 +18,12 @@ import io.vertx.mssqlclient.impl.MSSQLConnectionImpl;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.sqlclient.PreparedStatement;
 import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Tuple;
+
+import java.util.List;
 
 /**
  * A connection to Microsoft SQL Server.
@@ -55,6 +59,29 @@ public interface MSSQLConnection extends SqlConnection {
   @Override
   MSSQLConnection prepare(String s, Handler<AsyncResult<PreparedStatement>> handler);
 
+  /**
+   * Insert the rows of a stream into a table with a bulk load, this is much faster than executing an {@code INSERT}
+   * statement per row.
+   * <p>
+   * The values of a row are given in the order of the {@code columns}, the stream should be paused when it is given,
+   * it is resumed when the server is ready to receive the rows and paused when the connection cannot keep up with it.
+   * <p>
+   * The table and column names are quoted, they must not be quoted by the caller. The table name can be qualified with
+   * its schema, e.g {@code dbo.products}.
+   *
+   * @param table   the table name
+   * @param columns the names of the inserted columns
+   * @param rows    the stream of rows to insert
+   * @param handler the handler called with the number of inserted rows or the failure
+   */
+  @Fluent
+  MSSQLConnection bulkInsert(String table, List<String> columns, ReadStream<Tuple> rows, Handler<AsyncResult<Integer>> handler);
+
+  /**
+   * Like {@link #bulkInsert(String, List, ReadStream, Handler)} but returns a {@code Future} of the asynchronous result
+   */
+  Future<Integer> bulkInsert(String table, List<String> columns, ReadStream<Tuple> rows);
+
   /**
    * {@inheritDoc}
    */
@@ -23,6 +23,7 @@ import io.vertx.sqlclient.impl.ConnectionFactory;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Predicate;
 
 class MSSQLConnectionFactory implements ConnectionFactory {
 
@@ -34,6 +35,11 @@ class MSSQLConnectionFactory implements ConnectionFactory {
   private final String password;
   private final String database;
   private final Map<String, String> properties;
+  private final int packetSize;
+  private final boolean cachePreparedStatements;
+  private final int preparedStatementCacheSize;
+  private final Predicate<String> preparedStatementCacheSqlFilter;
+  private final int preparedStatementCacheThreshold;
 
   MSSQLConnectionFactory(ContextInternal context, MSSQLConnectOptions options) {
     NetClientOptions netClientOptions = new NetClientOptions(options);
@@ -45,22 +51,32 @@ class MSSQLConnectionFactory implements ConnectionFactory {
     this.password = options.getPassword();
     this.database = options.getDatabase();
     this.properties = new HashMap<>(options.getProperties());
+    this.packetSize = options.getPacketSize();
+    this.cachePreparedStatements = options.getCachePreparedStatements();
+    this.preparedStatementCacheSize = options.getPreparedStatementCacheMaxSize();
+    this.preparedStatementCacheSqlFilter = options.getPreparedStatementCacheSqlFilter();
+    this.preparedStatementCacheThreshold = options.getPreparedStatementCacheThreshold();
     this.netClient = context.owner().createNetClient(netClientOptions);
   }
 
   @Override
   public Future<Connection> connect() {
+    return connect(context);
+  }
+
+  @Override
+  public Future<Connection> connect(ContextInternal context) {
     Promise<Connection> promise = context.promise();
-    context.dispatch(null, v -> doConnect(promise));
+    context.dispatch(null, v -> doConnect(context, promise));
     return promise.future();
   }
 
-  public void doConnect(Promise<Connection> promise) {
+  public void doConnect(ContextInternal context, Promise<Connection> promise) {
     Future<NetSocket> fut = netClient.connect(port, host);
     fut.onComplete(ar -> {
       if (ar.succeeded()) {
         NetSocket so = ar.result();
-        MSSQLSocketConnection conn = new MSSQLSocketConnection((NetSocketInternal) so, false, 0, sql -> true, 1, context);
+        MSSQLSocketConnection conn = new MSSQLSocketConnection((NetSocketInternal) so, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, preparedStatementCacheThreshold, 1, packetSize, context);
         conn.init();
         conn.sendPreLoginMessage(false, preLogin -> {
           if (preLogin.succeeded()) {
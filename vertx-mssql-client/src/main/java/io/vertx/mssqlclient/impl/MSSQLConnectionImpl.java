@@ -11,6 +11,9 @@
 
 package io.vertx.mssqlclient.impl;
 
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.PromiseInternal;
 import io.vertx.core.spi.metrics.ClientMetrics;
@@ -18,10 +21,15 @@ import io.vertx.mssqlclient.MSSQLConnectOptions;
 import io.vertx.mssqlclient.MSSQLConnection;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.mssqlclient.impl.command.BulkInsertCommand;
+import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.SqlConnectionImpl;
 import io.vertx.sqlclient.impl.tracing.QueryTracer;
 
+import java.util.List;
+
 public class MSSQLConnectionImpl extends SqlConnectionImpl<MSSQLConnectionImpl> implements MSSQLConnection {
   private final MSSQLConnectionFactory factory;
 
@@ -36,6 +44,22 @@ public class MSSQLConnectionImpl extends SqlConnectionImpl<MSSQLConnectionImpl>
     return index;
   }
 
+  @Override
+  public MSSQLConnection bulkInsert(String table, List<String> columns, ReadStream<Tuple> rows, Handler<AsyncResult<Integer>> handler) {
+    Future<Integer> fut = bulkInsert(table, columns, rows);
+    if (handler != null) {
+      fut.onComplete(handler);
+    }
+    return this;
+  }
+
+  @Override
+  public Future<Integer> bulkInsert(String table, List<String> columns, ReadStream<Tuple> rows) {
+    Promise<Integer> promise = promise();
+    schedule(new BulkInsertCommand(table, columns, rows), promise);
+    return promise.future();
+  }
+
   public static Future<MSSQLConnection> connect(Vertx vertx, MSSQLConnectOptions options) {
     ContextInternal ctx = (ContextInternal) vertx.getOrCreateContext();
     QueryTracer tracer = ctx.tracer() == null ? null : new QueryTracer(ctx.tracer(), options);
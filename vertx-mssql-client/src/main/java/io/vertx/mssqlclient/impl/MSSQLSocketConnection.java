@@ -31,15 +31,19 @@ import java.util.function.Predicate;
 
 class MSSQLSocketConnection extends SocketConnectionBase {
 
+  private final int packetSize;
   public MSSQLDatabaseMetadata dbMetaData;
 
   MSSQLSocketConnection(NetSocketInternal socket,
                         boolean cachePreparedStatements,
                         int preparedStatementCacheSize,
                         Predicate<String> preparedStatementCacheSqlFilter,
+                        int preparedStatementCacheThreshold,
                         int pipeliningLimit,
+                        int packetSize,
                         ContextInternal context) {
-    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, pipeliningLimit, context);
+    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, preparedStatementCacheThreshold, pipeliningLimit, context);
+    this.packetSize = packetSize;
   }
 
   // command response should show what capabilities server provides
@@ -60,7 +64,7 @@ class MSSQLSocketConnection extends SocketConnectionBase {
   @Override
   public void init() {
     ChannelPipeline pipeline = socket.channelHandlerContext().pipeline();
-    MSSQLCodec.initPipeLine(pipeline);
+    MSSQLCodec.initPipeLine(pipeline, packetSize);
     super.init();
   }
 
@@ -0,0 +1,535 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.mssqlclient.impl.command.BulkInsertCommand;
+import io.vertx.mssqlclient.impl.protocol.MessageStatus;
+import io.vertx.mssqlclient.impl.protocol.MessageType;
+import io.vertx.mssqlclient.impl.protocol.TdsMessage;
+import io.vertx.mssqlclient.impl.protocol.TdsPacket;
+import io.vertx.mssqlclient.impl.protocol.token.DataPacketStreamTokenType;
+import io.vertx.sqlclient.Tuple;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static io.vertx.mssqlclient.impl.protocol.datatype.MSSQLDataTypeId.*;
+
+/**
+ * Insert rows with a bulk load:
+ *
+ * <ol>
+ *   <li>a {@code SELECT TOP 0} batch returns the metadata of the columns</li>
+ *   <li>an {@code INSERT BULK} batch prepares the server to receive the rows</li>
+ *   <li>a {@code BULK_LOAD} message sends the column metadata and the rows as they are emitted by the stream</li>
+ * </ol>
+ */
+class BulkInsertCommandCodec extends MSSQLCommandCodec<Integer, BulkInsertCommand> {
+
+  /**
+   * The code page of the {@code CHAR} and {@code VARCHAR} values.
+   */
+  private static final Charset VARCHAR_CHARSET = Charset.forName("windows-1252");
+
+  private enum Stage {
+    METADATA, INSERT_BULK, LOAD
+  }
+
+  private Stage stage;
+  private BulkColumn[] columns;
+  private ByteBuf data;
+  private int packetId;
+  private boolean ended;
+  private boolean paused;
+
+  BulkInsertCommandCodec(BulkInsertCommand cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode(TdsMessageEncoder encoder) {
+    super.encode(encoder);
+    StringBuilder sql = new StringBuilder("SELECT TOP 0 ");
+    appendColumnNames(sql);
+    sql.append(" FROM ");
+    appendTableName(sql);
+    stage = Stage.METADATA;
+    sendSqlBatch(sql.toString());
+  }
+
+  @Override
+  void decodeMessage(TdsMessage message, TdsMessageEncoder encoder) {
+    ByteBuf messageBody = message.content();
+    while (messageBody.isReadable()) {
+      int tokenType = messageBody.readUnsignedByte();
+      switch (tokenType) {
+        case DataPacketStreamTokenType.COLMETADATA_TOKEN:
+          try {
+            columns = decodeColumns(messageBody);
+          } catch (UnsupportedOperationException e) {
+            failure = e;
+            messageBody.skipBytes(messageBody.readableBytes());
+            handleDoneToken();
+          }
+          break;
+        case DataPacketStreamTokenType.INFO_TOKEN:
+        case DataPacketStreamTokenType.ENVCHANGE_TOKEN:
+          messageBody.skipBytes(messageBody.readUnsignedShortLE());
+          break;
+        case DataPacketStreamTokenType.ERROR_TOKEN:
+          handleErrorToken(messageBody);
+          break;
+        case DataPacketStreamTokenType.DONE_TOKEN:
+          messageBody.skipBytes(4); // Status and CurCmd
+          long rowCount = messageBody.readLongLE();
+          handleDone(rowCount);
+          break;
+        default:
+          throw new UnsupportedOperationException("Unsupported token: " + tokenType);
+      }
+    }
+  }
+
+  private void handleDone(long rowCount) {
+    if (failure != null) {
+      handleDoneToken();
+      return;
+    }
+    switch (stage) {
+      case METADATA:
+        StringBuilder sql = new StringBuilder("INSERT BULK ");
+        appendTableName(sql);
+        sql.append(" (");
+        for (int i = 0; i < columns.length; i++) {
+          if (i > 0) {
+            sql.append(", ");
+          }
+          appendColumnName(sql, columns[i].name);
+          sql.append(' ').append(columns[i].sqlType);
+        }
+        sql.append(')');
+        stage = Stage.INSERT_BULK;
+        sendSqlBatch(sql.toString());
+        break;
+      case INSERT_BULK:
+        stage = Stage.LOAD;
+        startLoad();
+        break;
+      case LOAD:
+        result = (int) rowCount;
+        handleDoneToken();
+        break;
+    }
+  }
+
+  private void startLoad() {
+    data = encoder.chctx.alloc().ioBuffer();
+    encodeColMetadata(data);
+    ReadStream<Tuple> rows = cmd.rows();
+    rows.exceptionHandler(err -> runOnEventLoop(() -> abort(err)));
+    rows.endHandler(v -> runOnEventLoop(this::end));
+    rows.handler(row -> runOnEventLoop(() -> handleRow(row)));
+    rows.resume();
+  }
+
+  private void runOnEventLoop(Runnable task) {
+    EventExecutor executor = encoder.chctx.executor();
+    if (executor.inEventLoop()) {
+      task.run();
+    } else {
+      executor.execute(task);
+    }
+  }
+
+  private void handleRow(Tuple row) {
+    if (ended) {
+      return;
+    }
+    try {
+      encodeRow(data, row);
+    } catch (Exception e) {
+      abort(e);
+      return;
+    }
+    int maxPacketData = encoder.packetSize - TdsPacket.PACKET_HEADER_SIZE;
+    if (data.readableBytes() > maxPacketData) {
+      ChannelFuture fut = null;
+      while (data.readableBytes() > maxPacketData) {
+        fut = writePacket(MessageStatus.NORMAL.value(), data.readRetainedSlice(maxPacketData));
+      }
+      // the written packets still use the buffer, the remaining bytes are copied to a new buffer
+      ByteBuf remaining = encoder.chctx.alloc().ioBuffer();
+      remaining.writeBytes(data);
+      data.release();
+      data = remaining;
+      encoder.chctx.flush();
+      if (!paused && !encoder.chctx.channel().isWritable()) {
+        // resume once the packets are written to the socket
+        paused = true;
+        cmd.rows().pause();
+        fut.addListener(f -> {
+          paused = false;
+          if (!ended) {
+            cmd.rows().resume();
+          }
+        });
+      }
+    }
+  }
+
+  private void end() {
+    if (ended) {
+      return;
+    }
+    ended = true;
+    data.writeByte(DataPacketStreamTokenType.DONE_TOKEN);
+    data.writeShortLE(0x00); // Status
+    data.writeShortLE(0x00); // CurCmd
+    data.writeLongLE(0); // DoneRowCount
+    int maxPacketData = encoder.packetSize - TdsPacket.PACKET_HEADER_SIZE;
+    while (data.readableBytes() > maxPacketData) {
+      writePacket(MessageStatus.NORMAL.value(), data.readRetainedSlice(maxPacketData));
+    }
+    writePacket(MessageStatus.END_OF_MESSAGE.value(), data);
+    data = null;
+    encoder.chctx.flush();
+  }
+
+  /**
+   * Terminate the message with the ignore bit, the server discards the rows which have been sent.
+   */
+  private void abort(Throwable cause) {
+    if (ended) {
+      return;
+    }
+    ended = true;
+    failure = cause;
+    data.release();
+    data = null;
+    writePacket(MessageStatus.IGNORE_THIS_EVENT.value() | MessageStatus.END_OF_MESSAGE.value(), encoder.chctx.alloc().ioBuffer(0));
+    encoder.chctx.flush();
+  }
+
+  private ChannelFuture writePacket(int status, ByteBuf packetData) {
+    ChannelHandlerContext chctx = encoder.chctx;
+    ByteBuf header = chctx.alloc().ioBuffer(TdsPacket.PACKET_HEADER_SIZE);
+    header.writeByte(MessageType.BULK_LOAD_DATA.value());
+    header.writeByte(status);
+    header.writeShort(packetData.readableBytes() + TdsPacket.PACKET_HEADER_SIZE);
+    header.writeShort(0x00);
+    header.writeByte(++packetId);
+    header.writeByte(0x00);
+    chctx.write(header);
+    return chctx.write(packetData);
+  }
+
+  private void sendSqlBatch(String sql) {
+    ChannelHandlerContext chctx = encoder.chctx;
+
+    ByteBuf packet = chctx.alloc().ioBuffer();
+
+    // packet header
+    packet.writeByte(MessageType.SQL_BATCH.value());
+    packet.writeByte(0x00); // status, set by the encoder
+    packet.writeShort(0); // length, set by the encoder
+    packet.writeShort(0x00);
+    packet.writeByte(0x00); // packet ID, set by the encoder
+    packet.writeByte(0x00);
+
+    int start = packet.writerIndex();
+    packet.writeIntLE(0x00); // TotalLength for ALL_HEADERS
+    encodeTransactionDescriptor(packet, 0, 1);
+    // set TotalLength for ALL_HEADERS
+    packet.setIntLE(start, packet.writerIndex() - start);
+
+    // SQLText
+    packet.writeCharSequence(sql, StandardCharsets.UTF_16LE);
+
+    encoder.writeMessage(packet);
+  }
+
+  private void appendColumnNames(StringBuilder sql) {
+    List<String> names = cmd.columns();
+    for (int i = 0; i < names.size(); i++) {
+      if (i > 0) {
+        sql.append(", ");
+      }
+      appendColumnName(sql, names.get(i));
+    }
+  }
+
+  /**
+   * Append the quoted table name, each part of a name qualified with a schema or a database is quoted separately.
+   */
+  private void appendTableName(StringBuilder sql) {
+    String[] parts = cmd.table().split("\\.", -1);
+    for (int i = 0; i < parts.length; i++) {
+      if (i > 0) {
+        sql.append('.');
+      }
+      appendColumnName(sql, parts[i]);
+    }
+  }
+
+  private static void appendColumnName(StringBuilder sql, String name) {
+    sql.append('[').append(name.replace("]", "]]")).append(']');
+  }
+
+  private BulkColumn[] decodeColumns(ByteBuf payload) {
+    int columnCount = payload.readUnsignedShortLE();
+    BulkColumn[] columns = new BulkColumn[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      BulkColumn column = new BulkColumn();
+      column.userType = payload.readUnsignedIntLE();
+      column.flags = payload.readUnsignedShortLE();
+      int typeInfoStart = payload.readerIndex();
+      column.typeId = payload.readUnsignedByte();
+      switch (column.typeId) {
+        case INT1TYPE_ID:
+          column.length = 1;
+          column.sqlType = "tinyint";
+          break;
+        case INT2TYPE_ID:
+          column.length = 2;
+          column.sqlType = "smallint";
+          break;
+        case INT4TYPE_ID:
+          column.length = 4;
+          column.sqlType = "int";
+          break;
+        case INT8TYPE_ID:
+          column.length = 8;
+          column.sqlType = "bigint";
+          break;
+        case INTNTYPE_ID:
+          column.length = payload.readUnsignedByte();
+          column.sqlType = column.length == 1 ? "tinyint" : column.length == 2 ? "smallint" : column.length == 4 ? "int" : "bigint";
+          break;
+        case BITTYPE_ID:
+        case BITNTYPE_ID:
+          if (column.typeId == BITNTYPE_ID) {
+            payload.skipBytes(1);
+          }
+          column.length = 1;
+          column.sqlType = "bit";
+          break;
+        case FLT4TYPE_ID:
+          column.length = 4;
+          column.sqlType = "real";
+          break;
+        case FLT8TYPE_ID:
+          column.length = 8;
+          column.sqlType = "float";
+          break;
+        case FLTNTYPE_ID:
+          column.length = payload.readUnsignedByte();
+          column.sqlType = column.length == 4 ? "real" : "float";
+          break;
+        case DATENTYPE_ID:
+          column.sqlType = "date";
+          break;
+        case TIMENTYPE_ID:
+          column.scale = payload.readUnsignedByte();
+          column.sqlType = "time(" + column.scale + ")";
+          break;
+        case BIGCHARTYPE_ID:
+        case BIGVARCHRTYPE_ID:
+        case NCHARTYPE_ID:
+        case NVARCHARTYPE_ID:
+          column.length = payload.readUnsignedShortLE();
+          if (column.length == 0xFFFF) {
+            throw new UnsupportedOperationException("Unsupported bulk insert of the max length column " + i);
+          }
+          payload.skipBytes(5); // collation
+          switch (column.typeId) {
+            case BIGCHARTYPE_ID:
+              column.sqlType = "char(" + column.length + ")";
+              break;
+            case BIGVARCHRTYPE_ID:
+              column.sqlType = "varchar(" + column.length + ")";
+              break;
+            case NCHARTYPE_ID:
+              column.sqlType = "nchar(" + column.length / 2 + ")";
+              break;
+            default:
+              column.sqlType = "nvarchar(" + column.length / 2 + ")";
+              break;
+          }
+          break;
+        default:
+          throw new UnsupportedOperationException("Unsupported bulk insert column type with typeinfo: " + column.typeId);
+      }
+      column.typeInfo = new byte[payload.readerIndex() - typeInfoStart];
+      payload.getBytes(typeInfoStart, column.typeInfo);
+      column.name = readByteLenVarchar(payload);
+      columns[i] = column;
+    }
+    return columns;
+  }
+
+  private void encodeColMetadata(ByteBuf payload) {
+    payload.writeByte(DataPacketStreamTokenType.COLMETADATA_TOKEN);
+    payload.writeShortLE(columns.length);
+    for (BulkColumn column : columns) {
+      payload.writeIntLE((int) column.userType);
+      payload.writeShortLE(column.flags);
+      payload.writeBytes(column.typeInfo);
+      payload.writeByte(column.name.length());
+      payload.writeCharSequence(column.name, StandardCharsets.UTF_16LE);
+    }
+  }
+
+  private void encodeRow(ByteBuf payload, Tuple row) {
+    if (row.size() != columns.length) {
+      throw new IllegalArgumentException("The row has " + row.size() + " values instead of " + columns.length);
+    }
+    int start = payload.writerIndex();
+    try {
+      payload.writeByte(DataPacketStreamTokenType.ROW_TOKEN);
+      for (int i = 0; i < columns.length; i++) {
+        encodeValue(payload, columns[i], row.getValue(i));
+      }
+    } catch (RuntimeException e) {
+      payload.writerIndex(start);
+      throw e;
+    }
+  }
+
+  private void encodeValue(ByteBuf payload, BulkColumn column, Object value) {
+    switch (column.typeId) {
+      case INT1TYPE_ID:
+      case INT2TYPE_ID:
+      case INT4TYPE_ID:
+      case INT8TYPE_ID:
+      case BITTYPE_ID:
+      case FLT4TYPE_ID:
+      case FLT8TYPE_ID:
+        if (value == null) {
+          throw new IllegalArgumentException("Column " + column.name + " is not nullable");
+        }
+        encodeFixedLenValue(payload, column, value);
+        break;
+      case INTNTYPE_ID:
+      case BITNTYPE_ID:
+      case FLTNTYPE_ID:
+        if (value == null) {
+          payload.writeByte(0);
+        } else {
+          payload.writeByte(column.length);
+          encodeFixedLenValue(payload, column, value);
+        }
+        break;
+      case DATENTYPE_ID:
+        if (value == null) {
+          payload.writeByte(0);
+        } else {
+          payload.writeByte(3);
+          payload.writeMediumLE((int) ChronoUnit.DAYS.between(MSSQLDataTypeCodec.START_DATE, (LocalDate) value));
+        }
+        break;
+      case TIMENTYPE_ID:
+        if (value == null) {
+          payload.writeByte(0);
+        } else {
+          encodeTime(payload, column.scale, (LocalTime) value);
+        }
+        break;
+      default:
+        if (value == null) {
+          payload.writeShortLE(0xFFFF);
+        } else {
+          String s = value instanceof Enum ? ((Enum<?>) value).name() : value.toString();
+          Charset charset = column.typeId == NCHARTYPE_ID || column.typeId == NVARCHARTYPE_ID ? StandardCharsets.UTF_16LE : VARCHAR_CHARSET;
+          int lengthIdx = payload.writerIndex();
+          payload.writeShortLE(0);
+          int length = payload.writeCharSequence(s, charset);
+          if (length > column.length) {
+            throw new IllegalArgumentException("Value too long for column " + column.name);
+          }
+          payload.setShortLE(lengthIdx, length);
+        }
+        break;
+    }
+  }
+
+  private void encodeFixedLenValue(ByteBuf payload, BulkColumn column, Object value) {
+    if (column.sqlType.equals("bit")) {
+      payload.writeBoolean((Boolean) value);
+      return;
+    }
+    Number number = (Number) value;
+    switch (column.sqlType) {
+      case "tinyint":
+        payload.writeByte(number.intValue());
+        break;
+      case "smallint":
+        payload.writeShortLE(number.intValue());
+        break;
+      case "int":
+        payload.writeIntLE(number.intValue());
+        break;
+      case "bigint":
+        payload.writeLongLE(number.longValue());
+        break;
+      case "real":
+        payload.writeFloatLE(number.floatValue());
+        break;
+      default:
+        payload.writeDoubleLE(number.doubleValue());
+        break;
+    }
+  }
+
+  private void encodeTime(ByteBuf payload, int scale, LocalTime time) {
+    int length;
+    if (scale <= 2) {
+      length = 3;
+    } else if (scale <= 4) {
+      length = 4;
+    } else {
+      length = 5;
+    }
+    long value = time.toSecondOfDay();
+    for (int i = 0; i < scale; i++) {
+      value *= 10;
+    }
+    long nanos = time.getNano();
+    for (int i = scale; i < 9; i++) {
+      nanos /= 10;
+    }
+    value += nanos;
+    payload.writeByte(length);
+    for (int i = 0; i < length; i++) {
+      payload.writeByte((int) (value >>> (8 * i)));
+    }
+  }
+
+  private static class BulkColumn {
+    String name;
+    long userType;
+    int flags;
+    int typeId;
+    int length;
+    int scale;
+    String sqlType;
+    byte[] typeInfo;
+  }
+}
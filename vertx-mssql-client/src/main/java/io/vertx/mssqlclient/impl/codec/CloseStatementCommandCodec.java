@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.vertx.mssqlclient.impl.protocol.MessageType;
+import io.vertx.mssqlclient.impl.protocol.TdsMessage;
+import io.vertx.mssqlclient.impl.protocol.client.rpc.ProcId;
+import io.vertx.mssqlclient.impl.protocol.datatype.MSSQLDataTypeId;
+import io.vertx.mssqlclient.impl.protocol.token.DataPacketStreamTokenType;
+import io.vertx.sqlclient.impl.command.CloseStatementCommand;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+
+class CloseStatementCommandCodec extends MSSQLCommandCodec<Void, CloseStatementCommand> {
+  CloseStatementCommandCodec(CloseStatementCommand cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode(TdsMessageEncoder encoder) {
+    super.encode(encoder);
+    MSSQLPreparedStatement ps = (MSSQLPreparedStatement) cmd.statement();
+    if (ps.handle == 0) {
+      // the statement has not been prepared on the server
+      completionHandler.handle(CommandResponse.success(null));
+    } else {
+      sendUnprepareRequest(ps.handle);
+      ps.handle = 0;
+    }
+  }
+
+  @Override
+  void decodeMessage(TdsMessage message, TdsMessageEncoder encoder) {
+    ByteBuf messageBody = message.content();
+    while (messageBody.isReadable()) {
+      int tokenType = messageBody.readUnsignedByte();
+      switch (tokenType) {
+        case DataPacketStreamTokenType.RETURNSTATUS_TOKEN:
+          messageBody.skipBytes(4);
+          break;
+        case DataPacketStreamTokenType.INFO_TOKEN:
+          messageBody.skipBytes(messageBody.readUnsignedShortLE());
+          break;
+        case DataPacketStreamTokenType.ERROR_TOKEN:
+          handleErrorToken(messageBody);
+          break;
+        case DataPacketStreamTokenType.DONE_TOKEN:
+        case DataPacketStreamTokenType.DONEPROC_TOKEN:
+          messageBody.skipBytes(12);
+          handleDoneToken();
+          break;
+        default:
+          throw new UnsupportedOperationException("Unsupported token: " + tokenType);
+      }
+    }
+  }
+
+  private void sendUnprepareRequest(int handle) {
+    ChannelHandlerContext chctx = encoder.chctx;
+
+    ByteBuf packet = chctx.alloc().ioBuffer();
+
+    // packet header
+    packet.writeByte(MessageType.RPC.value());
+    packet.writeByte(0x00); // status, set by the encoder
+    packet.writeShort(0); // length, set by the encoder
+    packet.writeShort(0x00);
+    packet.writeByte(0x00); // packet ID, set by the encoder
+    packet.writeByte(0x00);
+
+    int start = packet.writerIndex();
+    packet.writeIntLE(0x00); // TotalLength for ALL_HEADERS
+    encodeTransactionDescriptor(packet, 0, 1);
+    // set TotalLength for ALL_HEADERS
+    packet.setIntLE(start, packet.writerIndex() - start);
+
+    /*
+      RPCReqBatch
+     */
+    packet.writeShortLE(0xFFFF);
+    packet.writeShortLE(ProcId.Sp_Unprepare);
+
+    // Option flags
+    packet.writeShortLE(0x0000);
+
+    // Handle
+    packet.writeByte(0x00);
+    packet.writeByte(0x00);
+    packet.writeByte(MSSQLDataTypeId.INTNTYPE_ID);
+    packet.writeByte(0x04);
+    packet.writeByte(0x04);
+    packet.writeIntLE(handle);
+
+    encoder.writeMessage(packet);
+  }
+}
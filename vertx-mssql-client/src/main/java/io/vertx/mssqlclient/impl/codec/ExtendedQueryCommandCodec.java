@@ -11,9 +11,7 @@
 
 package io.vertx.mssqlclient.impl.codec;
 
-import io.vertx.mssqlclient.impl.protocol.MessageStatus;
 import io.vertx.mssqlclient.impl.protocol.MessageType;
-import io.vertx.mssqlclient.impl.protocol.TdsMessage;
 import io.vertx.mssqlclient.impl.protocol.client.rpc.ProcId;
 import io.vertx.mssqlclient.impl.protocol.datatype.MSSQLDataTypeId;
 import io.vertx.mssqlclient.impl.protocol.token.DataPacketStreamTokenType;
@@ -31,75 +29,104 @@ import static io.vertx.mssqlclient.impl.codec.MSSQLDataTypeCodec.inferenceParamD
 
 class ExtendedQueryCommandCodec<T> extends QueryCommandBaseCodec<T, ExtendedQueryCommand<T>> {
 
+  private final MSSQLPreparedStatement ps;
+  // the parameter definitions of the statement prepared by this execution
+  private String preparedParamDefinitions;
+
   ExtendedQueryCommandCodec(ExtendedQueryCommand cmd) {
     super(cmd);
+    this.ps = (MSSQLPreparedStatement) cmd.preparedStatement();
   }
 
   @Override
   void encode(TdsMessageEncoder encoder) {
     super.encode(encoder);
-    sendPrepexecRequest();
+    sendRpcRequest();
   }
 
   @Override
-  void decodeMessage(TdsMessage message, TdsMessageEncoder encoder) {
-    ByteBuf messageBody = message.content();
-    while (messageBody.isReadable()) {
-      int tokenByte = messageBody.readUnsignedByte();
-      switch (tokenByte) {
-        case DataPacketStreamTokenType.COLMETADATA_TOKEN:
-          MSSQLRowDesc rowDesc = decodeColmetadataToken(messageBody);
-          rowResultDecoder = new RowResultDecoder<>(cmd.collector(), rowDesc);
-          break;
-        case DataPacketStreamTokenType.ROW_TOKEN:
-          handleRow(messageBody);
-          break;
-        case DataPacketStreamTokenType.NBCROW_TOKEN:
-          handleNbcRow(messageBody);
-          break;
-        case DataPacketStreamTokenType.DONE_TOKEN:
-          messageBody.skipBytes(12); // this should only be after ERROR_TOKEN?
-          handleDoneToken();
-          break;
-        case DataPacketStreamTokenType.INFO_TOKEN:
-          int infoTokenLength = messageBody.readUnsignedShortLE();
-          //TODO not used for now
-          messageBody.skipBytes(infoTokenLength);
-          break;
-        case DataPacketStreamTokenType.ERROR_TOKEN:
-          handleErrorToken(messageBody);
-          break;
-        case DataPacketStreamTokenType.DONEINPROC_TOKEN:
-          short status = messageBody.readShortLE();
-          short curCmd = messageBody.readShortLE();
-          long doneRowCount = messageBody.readLongLE();
-          handleResultSetDone((int) doneRowCount);
-          handleDoneToken();
-          break;
-        case DataPacketStreamTokenType.RETURNSTATUS_TOKEN:
-          messageBody.skipBytes(4);
-          break;
-        case DataPacketStreamTokenType.RETURNVALUE_TOKEN:
-          messageBody.skipBytes(messageBody.readableBytes()); // FIXME
-          break;
-        default:
-          throw new UnsupportedOperationException("Unsupported token: " + tokenByte);
+  protected void decodeToken(int tokenByte, ByteBuf messageBody) {
+    switch (tokenByte) {
+      case DataPacketStreamTokenType.COLMETADATA_TOKEN:
+        MSSQLRowDesc rowDesc = decodeColmetadataToken(messageBody);
+        rowResultDecoder = new RowResultDecoder<>(cmd.collector(), rowDesc);
+        break;
+      case DataPacketStreamTokenType.ROW_TOKEN:
+        handleRow(messageBody);
+        break;
+      case DataPacketStreamTokenType.NBCROW_TOKEN:
+        handleNbcRow(messageBody);
+        break;
+      case DataPacketStreamTokenType.DONE_TOKEN:
+        messageBody.skipBytes(12); // this should only be after ERROR_TOKEN?
+        handleDoneToken();
+        break;
+      case DataPacketStreamTokenType.INFO_TOKEN:
+        int infoTokenLength = messageBody.readUnsignedShortLE();
+        //TODO not used for now
+        messageBody.skipBytes(infoTokenLength);
+        break;
+      case DataPacketStreamTokenType.ERROR_TOKEN:
+        handleErrorToken(messageBody);
+        break;
+      case DataPacketStreamTokenType.DONEINPROC_TOKEN:
+        short status = messageBody.readShortLE();
+        short curCmd = messageBody.readShortLE();
+        long doneRowCount = messageBody.readLongLE();
+        handleResultSetDone((int) doneRowCount);
+        break;
+      case DataPacketStreamTokenType.DONEPROC_TOKEN:
+        messageBody.skipBytes(12);
+        handleDoneToken();
+        break;
+      case DataPacketStreamTokenType.RETURNSTATUS_TOKEN:
+        messageBody.skipBytes(4);
+        break;
+      case DataPacketStreamTokenType.RETURNVALUE_TOKEN:
+        handleReturnValue(messageBody);
+        break;
+      default:
+        throw new UnsupportedOperationException("Unsupported token: " + tokenByte);
+    }
+  }
+
+  /**
+   * The handle of the statement prepared by {@code sp_prepexec} is the only value returned.
+   */
+  private void handleReturnValue(ByteBuf payload) {
+    payload.skipBytes(2); // ParamOrdinal
+    payload.skipBytes(payload.readUnsignedByte() * 2); // ParamName
+    payload.skipBytes(1); // Status
+    payload.skipBytes(4); // UserType
+    payload.skipBytes(2); // Flags
+    int typeInfo = payload.readUnsignedByte();
+    if (typeInfo != MSSQLDataTypeId.INTNTYPE_ID) {
+      throw new UnsupportedOperationException("Unsupported return value type with typeinfo: " + typeInfo);
+    }
+    payload.skipBytes(1); // max length
+    int length = payload.readUnsignedByte();
+    if (length == 4) {
+      int handle = payload.readIntLE();
+      if (preparedParamDefinitions != null) {
+        ps.handle = handle;
+        ps.paramDefinitions = preparedParamDefinitions;
       }
+    } else {
+      payload.skipBytes(length);
     }
   }
 
-  private void sendPrepexecRequest() {
+  private void sendRpcRequest() {
     ChannelHandlerContext chctx = encoder.chctx;
 
     ByteBuf packet = chctx.alloc().ioBuffer();
 
     // packet header
     packet.writeByte(MessageType.RPC.value());
-    packet.writeByte(MessageStatus.NORMAL.value() | MessageStatus.END_OF_MESSAGE.value());
-    int packetLenIdx = packet.writerIndex();
-    packet.writeShort(0); // set length later
+    packet.writeByte(0x00); // status, set by the encoder
+    packet.writeShort(0); // length, set by the encoder
     packet.writeShort(0x00);
-    packet.writeByte(0x00); // FIXME packet ID
+    packet.writeByte(0x00); // packet ID, set by the encoder
     packet.writeByte(0x00);
 
     int start = packet.writerIndex();
@@ -108,43 +135,64 @@ class ExtendedQueryCommandCodec<T> extends QueryCommandBaseCodec<T, ExtendedQuer
     // set TotalLength for ALL_HEADERS
     packet.setIntLE(start, packet.writerIndex() - start);
 
+    Tuple params = cmd.params();
+    String paramDefinitions = parseParamDefinitions(params);
+
     /*
       RPCReqBatch
      */
     packet.writeShortLE(0xFFFF);
-    packet.writeShortLE(ProcId.Sp_PrepExec);
+    if (ps.handle != 0 && paramDefinitions.equals(ps.paramDefinitions)) {
+      // execute the statement prepared on the server
+      packet.writeShortLE(ProcId.Sp_Execute);
 
-    // Option flags
-    packet.writeShortLE(0x0000);
+      // Option flags
+      packet.writeShortLE(0x0000);
 
-    // Parameter
+      // Handle
+      encodeIntNParameter(packet, 4, ps.handle);
+    } else if (ps.managed && ps.handle == 0) {
+      // prepare the statement on the server and execute it
+      packet.writeShortLE(ProcId.Sp_PrepExec);
 
-    // OUT Parameter
-    packet.writeByte(0x00);
-    packet.writeByte(0x01); // By reference
-    packet.writeByte(MSSQLDataTypeId.INTNTYPE_ID);
-    packet.writeByte(0x04);
-    packet.writeByte(0x04);
-    packet.writeIntLE(0x00);
+      // Option flags
+      packet.writeShortLE(0x0000);
 
-    Tuple params = cmd.params();
+      // OUT Parameter
+      packet.writeByte(0x00);
+      packet.writeByte(0x01); // By reference
+      packet.writeByte(MSSQLDataTypeId.INTNTYPE_ID);
+      packet.writeByte(0x04);
+      packet.writeByte(0x04);
+      packet.writeIntLE(0x00);
 
-    // Param definitions
-    String paramDefinitions = parseParamDefinitions(params);
-    encodeNVarcharParameter(packet, paramDefinitions);
+      // Param definitions
+      encodeNVarcharParameter(packet, paramDefinitions);
 
-    // SQL text
-    encodeNVarcharParameter(packet, cmd.sql());
+      // SQL text
+      encodeNVarcharParameter(packet, cmd.sql());
+
+      preparedParamDefinitions = paramDefinitions;
+    } else {
+      // a statement executed once or executed with other parameter types does not leave a handle on the server
+      packet.writeShortLE(ProcId.Sp_ExecuteSql);
+
+      // Option flags
+      packet.writeShortLE(0x0000);
+
+      // SQL text
+      encodeNVarcharParameter(packet, cmd.sql());
+
+      // Param definitions
+      encodeNVarcharParameter(packet, paramDefinitions);
+    }
 
     // Param values
     for (int i = 0; i < params.size(); i++) {
       encodeParamValue(packet, params.getValue(i));
     }
 
-    int packetLen = packet.writerIndex() - packetLenIdx + 2;
-    packet.setShort(packetLenIdx, packetLen);
-
-    chctx.writeAndFlush(packet);
+    encoder.writeMessage(packet);
   }
 
   private String parseParamDefinitions(Tuple params) {
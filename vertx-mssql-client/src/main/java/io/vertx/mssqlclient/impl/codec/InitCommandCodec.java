@@ -14,7 +14,6 @@ package io.vertx.mssqlclient.impl.codec;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.vertx.mssqlclient.MSSQLConnectOptions;
-import io.vertx.mssqlclient.impl.protocol.MessageStatus;
 import io.vertx.mssqlclient.impl.protocol.MessageType;
 import io.vertx.mssqlclient.impl.protocol.TdsMessage;
 import io.vertx.mssqlclient.impl.protocol.client.login.LoginPacket;
@@ -28,6 +27,9 @@ import java.util.Map;
 import static java.nio.charset.StandardCharsets.UTF_16LE;
 
 class InitCommandCodec extends MSSQLCommandCodec<Connection, InitCommand> {
+
+  private static final int ENVCHANGE_PACKET_SIZE = 4;
+
   InitCommandCodec(InitCommand cmd) {
     super(cmd);
   }
@@ -44,24 +46,41 @@ class InitCommandCodec extends MSSQLCommandCodec<Connection, InitCommand> {
     while (messageBody.isReadable()) {
       int tokenType = messageBody.readUnsignedByte();
       switch (tokenType) {
-        //FIXME complete all the logic here
         case DataPacketStreamTokenType.LOGINACK_TOKEN:
           result = cmd.connection();
+          messageBody.skipBytes(messageBody.readUnsignedShortLE());
           break;
         case DataPacketStreamTokenType.ERROR_TOKEN:
           handleErrorToken(messageBody);
           break;
         case DataPacketStreamTokenType.INFO_TOKEN:
+          messageBody.skipBytes(messageBody.readUnsignedShortLE());
           break;
         case DataPacketStreamTokenType.ENVCHANGE_TOKEN:
+          handleEnvChangeToken(messageBody);
           break;
         case DataPacketStreamTokenType.DONE_TOKEN:
+          // Status, CurCmd and DoneRowCount
+          messageBody.skipBytes(12);
           handleDoneToken();
           break;
+        default:
+          throw new UnsupportedOperationException("Unsupported token: " + tokenType);
       }
     }
   }
 
+  private void handleEnvChangeToken(ByteBuf buffer) {
+    int length = buffer.readUnsignedShortLE();
+    int end = buffer.readerIndex() + length;
+    int type = buffer.readUnsignedByte();
+    if (type == ENVCHANGE_PACKET_SIZE) {
+      // the messages are sent with the negotiated size from now on
+      encoder.packetSize = Integer.parseInt(readByteLenVarchar(buffer));
+    }
+    buffer.readerIndex(end);
+  }
+
   private void sendLoginMessage() {
     ChannelHandlerContext chctx = encoder.chctx;
 
@@ -69,17 +88,16 @@ class InitCommandCodec extends MSSQLCommandCodec<Connection, InitCommand> {
 
     // packet header
     packet.writeByte(MessageType.TDS7_LOGIN.value());
-    packet.writeByte(MessageStatus.NORMAL.value() | MessageStatus.END_OF_MESSAGE.value());
-    int packetLenIdx = packet.writerIndex();
-    packet.writeShort(0); // set length later
+    packet.writeByte(0x00); // status, set by the encoder
+    packet.writeShort(0); // length, set by the encoder
     packet.writeShort(0x00);
-    packet.writeByte(0x00); // FIXME packet ID
+    packet.writeByte(0x00); // packet ID, set by the encoder
     packet.writeByte(0x00);
 
     int startIdx = packet.writerIndex(); // Length
     packet.writeInt(0x00); // set length later by calculating
     packet.writeInt(LoginPacket.SQL_SERVER_2017_VERSION); // TDSVersion
-    packet.writeIntLE(LoginPacket.DEFAULT_PACKET_SIZE); // PacketSize
+    packet.writeIntLE(encoder.requestedPacketSize); // PacketSize
     packet.writeIntLE(0x00); // ClientProgVer
     packet.writeIntLE(0x00); // ClientPID
     packet.writeIntLE(0x00); // ConnectionID
@@ -215,10 +233,7 @@ class InitCommandCodec extends MSSQLCommandCodec<Connection, InitCommand> {
     // set length
     packet.setIntLE(startIdx, packet.writerIndex() - startIdx);
 
-    int packetLen = packet.writerIndex() - startIdx + 8;
-    packet.setShort(packetLenIdx, packetLen);
-
-    chctx.writeAndFlush(packet);
+    encoder.writeMessage(packet);
 
   }
 
@@ -16,10 +16,10 @@ import io.netty.channel.ChannelPipeline;
 import java.util.ArrayDeque;
 
 public class MSSQLCodec {
-  public static void initPipeLine(ChannelPipeline pipeline) {
+  public static void initPipeLine(ChannelPipeline pipeline, int packetSize) {
     final ArrayDeque<MSSQLCommandCodec<?, ?>> inflight = new ArrayDeque<>();
 
-    TdsMessageEncoder encoder = new TdsMessageEncoder(inflight);
+    TdsMessageEncoder encoder = new TdsMessageEncoder(inflight, packetSize);
     TdsMessageDecoder messageDecoder = new TdsMessageDecoder(inflight, encoder);
     TdsPacketDecoder packetDecoder = new TdsPacketDecoder();
     pipeline.addBefore("handler", "encoder", encoder);
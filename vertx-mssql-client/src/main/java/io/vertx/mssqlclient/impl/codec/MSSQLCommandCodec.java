@@ -12,16 +12,12 @@
 package io.vertx.mssqlclient.impl.codec;
 
 import io.vertx.mssqlclient.MSSQLException;
-import io.vertx.mssqlclient.impl.protocol.MessageStatus;
-import io.vertx.mssqlclient.impl.protocol.MessageType;
 import io.vertx.mssqlclient.impl.protocol.TdsMessage;
 import io.netty.buffer.ByteBuf;
 import io.vertx.core.Handler;
 import io.vertx.sqlclient.impl.command.CommandBase;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 
-import java.util.function.Consumer;
-
 import static java.nio.charset.StandardCharsets.UTF_16LE;
 
 abstract class MSSQLCommandCodec<R, C extends CommandBase<R>> {
@@ -39,10 +35,6 @@ abstract class MSSQLCommandCodec<R, C extends CommandBase<R>> {
     this.encoder = encoder;
   }
 
-  void encodeMessage(MessageType type, MessageStatus status, int processId, Consumer<ByteBuf> payloadEncoder) {
-    // FIXME split large message into packets
-  }
-
   abstract void decodeMessage(TdsMessage message, TdsMessageEncoder encoder);
 
   void handleErrorToken(ByteBuf buffer) {
@@ -70,6 +62,13 @@ abstract class MSSQLCommandCodec<R, C extends CommandBase<R>> {
     completionHandler.handle(resp);
   }
 
+  protected void encodeTransactionDescriptor(ByteBuf payload, long transactionDescriptor, int outstandingRequestCount) {
+    payload.writeIntLE(18); // HeaderLength is always 18
+    payload.writeShortLE(0x0002); // HeaderType
+    payload.writeLongLE(transactionDescriptor);
+    payload.writeIntLE(outstandingRequestCount);
+  }
+
   protected String readByteLenVarchar(ByteBuf buffer) {
     int length = buffer.readUnsignedByte();
     return buffer.readCharSequence(length * 2, UTF_16LE).toString();
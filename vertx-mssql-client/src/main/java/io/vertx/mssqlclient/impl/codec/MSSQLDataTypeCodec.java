@@ -14,6 +14,7 @@ package io.vertx.mssqlclient.impl.codec;
 import io.vertx.mssqlclient.impl.protocol.datatype.*;
 import io.netty.buffer.ByteBuf;
 import io.vertx.sqlclient.data.Numeric;
+import io.vertx.sqlclient.impl.ArrayTuple;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -95,6 +96,44 @@ class MSSQLDataTypeCodec {
     }
   }
 
+  /**
+   * Decode an {@code int}, a {@code bigint} or a {@code float} value in the primitive storage of the {@code row}.
+   *
+   * @return {@code false} when the type has no primitive representation, nothing is read from the buffer then
+   */
+  static boolean decodePrimitive(MSSQLDataType dataType, ByteBuf in, ArrayTuple row) {
+    switch (dataType.id()) {
+      case MSSQLDataTypeId.INT4TYPE_ID:
+        row.addInt(in.readIntLE());
+        return true;
+      case MSSQLDataTypeId.INT8TYPE_ID:
+        row.addLong(in.readLongLE());
+        return true;
+      case MSSQLDataTypeId.FLT8TYPE_ID:
+        row.addDouble(in.readDoubleLE());
+        return true;
+      case MSSQLDataTypeId.INTNTYPE_ID:
+        switch (in.getByte(in.readerIndex())) {
+          case 4:
+            row.addInt(in.skipBytes(1).readIntLE());
+            return true;
+          case 8:
+            row.addLong(in.skipBytes(1).readLongLE());
+            return true;
+          default:
+            return false;
+        }
+      case MSSQLDataTypeId.FLTNTYPE_ID:
+        if (in.getByte(in.readerIndex()) == 8) {
+          row.addDouble(in.skipBytes(1).readDoubleLE());
+          return true;
+        }
+        return false;
+      default:
+        return false;
+    }
+  }
+
   private static LocalTime decodeTimeN(TimeNDataType dataType, ByteBuf in) {
     int scale = dataType.scale();
     byte timeLength = in.readByte();
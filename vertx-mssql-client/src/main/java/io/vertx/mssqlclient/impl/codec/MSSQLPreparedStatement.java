@@ -20,9 +20,26 @@ public class MSSQLPreparedStatement implements PreparedStatement {
   final String sql;
   final MSSQLParamDesc paramDesc;
 
-  public MSSQLPreparedStatement(String sql, MSSQLParamDesc paramDesc) {
+  /**
+   * Whether the statement is executed several times, it is then prepared on the server by its first execution and
+   * unprepared when it is closed.
+   */
+  final boolean managed;
+
+  /**
+   * The handle of the statement prepared on the server, {@code 0} until the statement is prepared.
+   */
+  int handle;
+
+  /**
+   * The parameter definitions of the statement prepared on the server.
+   */
+  String paramDefinitions;
+
+  public MSSQLPreparedStatement(String sql, MSSQLParamDesc paramDesc, boolean managed) {
     this.sql = sql;
     this.paramDesc = paramDesc;
+    this.managed = managed;
   }
 
   @Override
@@ -12,7 +12,6 @@
 package io.vertx.mssqlclient.impl.codec;
 
 import io.vertx.mssqlclient.impl.command.PreLoginCommand;
-import io.vertx.mssqlclient.impl.protocol.MessageStatus;
 import io.vertx.mssqlclient.impl.protocol.MessageType;
 import io.vertx.mssqlclient.impl.protocol.TdsMessage;
 import io.vertx.mssqlclient.impl.protocol.client.prelogin.EncryptionOptionToken;
@@ -49,11 +48,10 @@ class PreLoginCommandCodec extends MSSQLCommandCodec<Void, PreLoginCommand> {
 
     // packet header
     packet.writeByte(MessageType.PRE_LOGIN.value());
-    packet.writeByte(MessageStatus.NORMAL.value() | MessageStatus.END_OF_MESSAGE.value());
-    int packetLenIdx = packet.writerIndex();
-    packet.writeShort(0); // set length later
+    packet.writeByte(0x00); // status, set by the encoder
+    packet.writeShort(0); // length, set by the encoder
     packet.writeShort(0x00);
-    packet.writeByte(0x00); // FIXME packet ID
+    packet.writeByte(0x00); // packet ID, set by the encoder
     packet.writeByte(0x00);
 
     // packet data
@@ -119,10 +117,7 @@ class PreLoginCommandCodec extends MSSQLCommandCodec<Void, PreLoginCommand> {
       }
     }
 
-    int packetLen = packet.writerIndex() - packetDataStartIdx + 8;
-    packet.setShort(packetLenIdx, packetLen);
-
-    chctx.writeAndFlush(packet);
+    encoder.writeMessage(packet);
   }
 
   private void encodeTokenData(OptionToken optionToken, ByteBuf payload) {
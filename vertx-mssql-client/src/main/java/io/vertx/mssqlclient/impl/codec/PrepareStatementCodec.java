@@ -24,8 +24,8 @@ class PrepareStatementCodec extends MSSQLCommandCodec<PreparedStatement, Prepare
   @Override
   void encode(TdsMessageEncoder encoder) {
     super.encode(encoder);
-    // we use sp_prepexec instead of sp_prepare + sp_exec
-    PreparedStatement preparedStatement = new MSSQLPreparedStatement(cmd.sql(), null);
+    // the statement is prepared with sp_prepexec by its first execution, saving a round trip
+    PreparedStatement preparedStatement = new MSSQLPreparedStatement(cmd.sql(), null, cmd.isManaged());
     completionHandler.handle(CommandResponse.success(preparedStatement));
 
   }
@@ -12,6 +12,8 @@
 package io.vertx.mssqlclient.impl.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.vertx.mssqlclient.impl.protocol.TdsMessage;
+import io.vertx.mssqlclient.impl.protocol.token.DataPacketStreamTokenType;
 import io.vertx.mssqlclient.impl.protocol.datatype.*;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.data.Numeric;
@@ -25,19 +27,193 @@ import static io.vertx.mssqlclient.impl.protocol.datatype.MSSQLDataTypeId.*;
 abstract class QueryCommandBaseCodec<T, C extends QueryCommandBase<T>> extends MSSQLCommandCodec<Boolean, C> {
   protected RowResultDecoder<?, T> rowResultDecoder;
 
+  // the length of the token at the start of the undecoded bytes, when it is known and not received entirely yet
+  private int pendingTokenLength = -1;
+
   QueryCommandBaseCodec(C cmd) {
     super(cmd);
   }
 
-  private static <A, T> T emptyResult(Collector<Row, A, T> collector) {
-    return collector.finisher().apply(collector.supplier().get());
+  @Override
+  void decodeMessage(TdsMessage message, TdsMessageEncoder encoder) {
+    decodeTokens(message.content(), true);
+  }
+
+  /**
+   * Decode the complete tokens of {@code payload}, a token which is not complete is left in {@code payload}.
+   *
+   * @param payload the bytes of the response message not decoded yet
+   * @param endOfMessage whether {@code payload} ends with the last packet of the message
+   */
+  void decodeTokens(ByteBuf payload, boolean endOfMessage) {
+    while (payload.isReadable()) {
+      if (!endOfMessage) {
+        if (pendingTokenLength < 0) {
+          pendingTokenLength = tokenLength(payload, payload.readerIndex());
+        }
+        if (pendingTokenLength < 0 || payload.readableBytes() < pendingTokenLength) {
+          // the token continues in the next packet
+          return;
+        }
+      }
+      pendingTokenLength = -1;
+      decodeToken(payload.readUnsignedByte(), payload);
+    }
+  }
+
+  /**
+   * Decode a token, the token is decoded once all its bytes are received.
+   */
+  protected abstract void decodeToken(int tokenByte, ByteBuf payload);
+
+  /**
+   * @return the length of the token starting at {@code start}, or {@code -1} when the bytes determining its length are
+   *         not received yet
+   */
+  private int tokenLength(ByteBuf payload, int start) {
+    int idx = start + 1;
+    switch (payload.getUnsignedByte(start)) {
+      case DataPacketStreamTokenType.COLMETADATA_TOKEN:
+        idx = colmetadataEnd(payload, idx);
+        break;
+      case DataPacketStreamTokenType.ROW_TOKEN:
+        idx = rowEnd(payload, idx, false);
+        break;
+      case DataPacketStreamTokenType.NBCROW_TOKEN:
+        idx = rowEnd(payload, idx, true);
+        break;
+      case DataPacketStreamTokenType.DONE_TOKEN:
+      case DataPacketStreamTokenType.DONEPROC_TOKEN:
+      case DataPacketStreamTokenType.DONEINPROC_TOKEN:
+        idx += 12;
+        break;
+      case DataPacketStreamTokenType.RETURNSTATUS_TOKEN:
+        idx += 4;
+        break;
+      case DataPacketStreamTokenType.RETURNVALUE_TOKEN:
+        idx = returnValueEnd(payload, idx);
+        break;
+      case DataPacketStreamTokenType.INFO_TOKEN:
+      case DataPacketStreamTokenType.ERROR_TOKEN:
+      case DataPacketStreamTokenType.ENVCHANGE_TOKEN:
+        if (idx + 2 > payload.writerIndex()) {
+          return -1;
+        }
+        idx += 2 + payload.getUnsignedShortLE(idx);
+        break;
+      default:
+        // the token decoder reports the unsupported token
+        break;
+    }
+    return idx < 0 ? -1 : idx - start;
+  }
+
+  private static int colmetadataEnd(ByteBuf payload, int idx) {
+    int end = payload.writerIndex();
+    if (idx + 2 > end) {
+      return -1;
+    }
+    int columnCount = payload.getUnsignedShortLE(idx);
+    idx += 2;
+    for (int i = 0; i < columnCount; i++) {
+      idx += 7; // UserType, Flags and TYPE_INFO
+      if (idx > end) {
+        return -1;
+      }
+      idx += typeInfoLength(payload.getUnsignedByte(idx - 1));
+      if (idx >= end) {
+        return -1;
+      }
+      idx += 1 + payload.getUnsignedByte(idx) * 2; // ColName
+    }
+    return idx;
+  }
+
+  private int rowEnd(ByteBuf payload, int idx, boolean nbc) {
+    if (rowResultDecoder == null) {
+      // the token decoder reports the missing metadata
+      return idx;
+    }
+    ColumnData[] columnDatas = rowResultDecoder.desc.columnDatas;
+    int nullBitMapStartIdx = idx;
+    if (nbc) {
+      idx += (columnDatas.length >> 3) + 1;
+      if (idx > payload.writerIndex()) {
+        return -1;
+      }
+    }
+    for (int c = 0; c < columnDatas.length && idx >= 0; c++) {
+      if (nbc && (payload.getByte(nullBitMapStartIdx + (c >> 3)) & (1 << (c & 7))) != 0) {
+        continue;
+      }
+      idx = valueEnd(payload, idx, columnDatas[c].dataType().id());
+    }
+    return idx;
+  }
+
+  private static int returnValueEnd(ByteBuf payload, int idx) {
+    int end = payload.writerIndex();
+    idx += 2; // ParamOrdinal
+    if (idx >= end) {
+      return -1;
+    }
+    idx += 1 + payload.getUnsignedByte(idx) * 2; // ParamName
+    idx += 7; // Status, UserType and Flags
+    if (idx >= end) {
+      return -1;
+    }
+    int typeInfo = payload.getUnsignedByte(idx);
+    return valueEnd(payload, idx + 1 + typeInfoLength(typeInfo), typeInfo);
+  }
+
+  /**
+   * @return the length of the TYPE_INFO following its type id, as read by {@link #decodeDataTypeMetadata(ByteBuf)}
+   */
+  private static int typeInfoLength(int typeInfo) {
+    switch (typeInfo) {
+      case NUMERICNTYPE_ID:
+      case DECIMALNTYPE_ID:
+        return 3;
+      case INTNTYPE_ID:
+      case FLTNTYPE_ID:
+      case BITNTYPE_ID:
+      case TIMENTYPE_ID:
+        return 1;
+      case BIGCHARTYPE_ID:
+      case BIGVARCHRTYPE_ID:
+        return 7;
+      default:
+        return 0;
+    }
   }
 
-  protected void encodeTransactionDescriptor(ByteBuf payload, long transactionDescriptor, int outstandingRequestCount) {
-    payload.writeIntLE(18); // HeaderLength is always 18
-    payload.writeShortLE(0x0002); // HeaderType
-    payload.writeLongLE(transactionDescriptor);
-    payload.writeIntLE(outstandingRequestCount);
+  /**
+   * @return the index following the value starting at {@code idx}, or {@code -1} when its length is not received yet
+   */
+  private static int valueEnd(ByteBuf payload, int idx, int typeInfo) {
+    switch (typeInfo) {
+      case INT1TYPE_ID:
+      case BITTYPE_ID:
+        return idx + 1;
+      case INT2TYPE_ID:
+        return idx + 2;
+      case INT4TYPE_ID:
+      case FLT4TYPE_ID:
+        return idx + 4;
+      case INT8TYPE_ID:
+      case FLT8TYPE_ID:
+        return idx + 8;
+      case BIGCHARTYPE_ID:
+      case BIGVARCHRTYPE_ID:
+        return idx + 2 <= payload.writerIndex() ? idx + 2 + payload.getUnsignedShortLE(idx) : -1;
+      default:
+        // the other supported types have a byte length prefix
+        return idx < payload.writerIndex() ? idx + 1 + payload.getUnsignedByte(idx) : -1;
+    }
+  }
+
+  private static <A, T> T emptyResult(Collector<Row, A, T> collector) {
+    return collector.finisher().apply(collector.supplier().get());
   }
 
   protected MSSQLRowDesc decodeColmetadataToken(ByteBuf payload) {
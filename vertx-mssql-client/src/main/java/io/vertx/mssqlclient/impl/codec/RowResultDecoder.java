@@ -53,18 +53,18 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
   }
 
   private Row decodeMssqlRow(int len, ByteBuf in) {
-    Row row = new MSSQLRowImpl(desc);
+    MSSQLRowImpl row = new MSSQLRowImpl(desc);
     for (int c = 0; c < len; c++) {
-      Object decoded = null;
       ColumnData columnData = desc.columnDatas[c];
-      decoded = MSSQLDataTypeCodec.decode(columnData.dataType(), in);
-      row.addValue(decoded);
+      if (!MSSQLDataTypeCodec.decodePrimitive(columnData.dataType(), in, row)) {
+        row.addValue(MSSQLDataTypeCodec.decode(columnData.dataType(), in));
+      }
     }
     return row;
   }
 
   private Row decodeMssqlNbcRow(int len, ByteBuf in) {
-    Row row = new MSSQLRowImpl(desc);
+    MSSQLRowImpl row = new MSSQLRowImpl(desc);
     int nullBitmapByteCount = (len >> 3) + 1;
     int nullBitMapStartIdx = in.readerIndex();
     in.skipBytes(nullBitmapByteCount);
@@ -74,13 +74,15 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
       int bitPos = c & 7;
       byte mask = (byte) (1 << bitPos);
       byte nullByte = in.getByte(nullBitMapStartIdx + bytePos);
-      Object decoded = null;
       if ((nullByte & mask) == 0) {
         // not null
         ColumnData columnData = desc.columnDatas[c];
-        decoded = MSSQLDataTypeCodec.decode(columnData.dataType(), in);
+        if (!MSSQLDataTypeCodec.decodePrimitive(columnData.dataType(), in, row)) {
+          row.addValue(MSSQLDataTypeCodec.decode(columnData.dataType(), in));
+        }
+      } else {
+        row.addValue(null);
       }
-      row.addValue(decoded);
     }
     return row;
   }
@@ -11,9 +11,7 @@
 
 package io.vertx.mssqlclient.impl.codec;
 
-import io.vertx.mssqlclient.impl.protocol.MessageStatus;
 import io.vertx.mssqlclient.impl.protocol.MessageType;
-import io.vertx.mssqlclient.impl.protocol.TdsMessage;
 import io.vertx.mssqlclient.impl.protocol.token.DataPacketStreamTokenType;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
@@ -33,39 +31,35 @@ class SQLBatchCommandCodec<T> extends QueryCommandBaseCodec<T, SimpleQueryComman
   }
 
   @Override
-  void decodeMessage(TdsMessage message, TdsMessageEncoder encoder) {
-    ByteBuf messageBody = message.content();
-    while (messageBody.isReadable()) {
-      int tokenByte = messageBody.readUnsignedByte();
-      switch (tokenByte) {
-        case DataPacketStreamTokenType.COLMETADATA_TOKEN:
-          MSSQLRowDesc rowDesc = decodeColmetadataToken(messageBody);
-          rowResultDecoder = new RowResultDecoder<>(cmd.collector(), rowDesc);
-          break;
-        case DataPacketStreamTokenType.ROW_TOKEN:
-          handleRow(messageBody);
-          break;
-        case DataPacketStreamTokenType.NBCROW_TOKEN:
-          handleNbcRow(messageBody);
-          break;
-        case DataPacketStreamTokenType.DONE_TOKEN:
-          short status = messageBody.readShortLE();
-          short curCmd = messageBody.readShortLE();
-          long doneRowCount = messageBody.readLongLE();
-          handleResultSetDone((int) doneRowCount);
-          handleDoneToken();
-          break;
-        case DataPacketStreamTokenType.INFO_TOKEN:
-          int infoTokenLength = messageBody.readUnsignedShortLE();
-          //TODO not used for now
-          messageBody.skipBytes(infoTokenLength);
-          break;
-        case DataPacketStreamTokenType.ERROR_TOKEN:
-          handleErrorToken(messageBody);
-          break;
-        default:
-          throw new UnsupportedOperationException("Unsupported token: " + tokenByte);
-      }
+  protected void decodeToken(int tokenByte, ByteBuf messageBody) {
+    switch (tokenByte) {
+      case DataPacketStreamTokenType.COLMETADATA_TOKEN:
+        MSSQLRowDesc rowDesc = decodeColmetadataToken(messageBody);
+        rowResultDecoder = new RowResultDecoder<>(cmd.collector(), rowDesc);
+        break;
+      case DataPacketStreamTokenType.ROW_TOKEN:
+        handleRow(messageBody);
+        break;
+      case DataPacketStreamTokenType.NBCROW_TOKEN:
+        handleNbcRow(messageBody);
+        break;
+      case DataPacketStreamTokenType.DONE_TOKEN:
+        short status = messageBody.readShortLE();
+        short curCmd = messageBody.readShortLE();
+        long doneRowCount = messageBody.readLongLE();
+        handleResultSetDone((int) doneRowCount);
+        handleDoneToken();
+        break;
+      case DataPacketStreamTokenType.INFO_TOKEN:
+        int infoTokenLength = messageBody.readUnsignedShortLE();
+        //TODO not used for now
+        messageBody.skipBytes(infoTokenLength);
+        break;
+      case DataPacketStreamTokenType.ERROR_TOKEN:
+        handleErrorToken(messageBody);
+        break;
+      default:
+        throw new UnsupportedOperationException("Unsupported token: " + tokenByte);
     }
   }
 
@@ -76,11 +70,10 @@ class SQLBatchCommandCodec<T> extends QueryCommandBaseCodec<T, SimpleQueryComman
 
     // packet header
     packet.writeByte(MessageType.SQL_BATCH.value());
-    packet.writeByte(MessageStatus.NORMAL.value() | MessageStatus.END_OF_MESSAGE.value());
-    int packetLenIdx = packet.writerIndex();
-    packet.writeShort(0); // set length later
+    packet.writeByte(0x00); // status, set by the encoder
+    packet.writeShort(0); // length, set by the encoder
     packet.writeShort(0x00);
-    packet.writeByte(0x00); // FIXME packet ID
+    packet.writeByte(0x00); // packet ID, set by the encoder
     packet.writeByte(0x00);
 
     int start = packet.writerIndex();
@@ -92,9 +85,6 @@ class SQLBatchCommandCodec<T> extends QueryCommandBaseCodec<T, SimpleQueryComman
     // SQLText
     packet.writeCharSequence(cmd.sql(), StandardCharsets.UTF_16LE);
 
-    int packetLen = packet.writerIndex() - packetLenIdx + 2;
-    packet.setShort(packetLenIdx, packetLen);
-
-    chctx.writeAndFlush(packet);
+    encoder.writeMessage(packet);
   }
 }
@@ -27,6 +27,10 @@ class TdsMessageDecoder extends MessageToMessageDecoder<TdsPacket> {
 
   private TdsMessage message;
 
+  // the codec decoding the current message and the bytes it has not decoded yet when the tokens are streamed
+  private MSSQLCommandCodec<?, ?> codec;
+  private CompositeByteBuf tokens;
+
   TdsMessageDecoder(ArrayDeque<MSSQLCommandCodec<?, ?>> inflight, TdsMessageEncoder encoder) {
     this.inflight = inflight;
     this.encoder = encoder;
@@ -34,6 +38,15 @@ class TdsMessageDecoder extends MessageToMessageDecoder<TdsPacket> {
 
   @Override
   protected void decode(ChannelHandlerContext channelHandlerContext, TdsPacket tdsPacket, List<Object> list) throws Exception {
+    if (codec == null) {
+      // first packet of this message, the codec might complete before the last packet is decoded
+      codec = inflight.peek();
+    }
+    if (codec instanceof QueryCommandBaseCodec) {
+      // the tokens of query responses are decoded as the packets are received
+      decodeTokens(channelHandlerContext, tdsPacket);
+      return;
+    }
     // assemble packets
     if (tdsPacket.status() == MessageStatus.END_OF_MESSAGE) {
       if (message == null) {
@@ -58,8 +71,38 @@ class TdsMessageDecoder extends MessageToMessageDecoder<TdsPacket> {
     }
   }
 
+  private void decodeTokens(ChannelHandlerContext channelHandlerContext, TdsPacket tdsPacket) {
+    if (tokens == null) {
+      tokens = channelHandlerContext.alloc().compositeBuffer();
+    }
+    tokens.addComponent(true, tdsPacket.content());
+    boolean endOfMessage = tdsPacket.status() == MessageStatus.END_OF_MESSAGE;
+    try {
+      ((QueryCommandBaseCodec<?, ?>) codec).decodeTokens(tokens, endOfMessage);
+    } finally {
+      if (endOfMessage) {
+        tokens.release();
+        tokens = null;
+        codec = null;
+      } else {
+        // release the packets which have been decoded
+        tokens.discardReadComponents();
+      }
+    }
+  }
+
   private void decodeMessage() {
-    inflight.peek().decodeMessage(message, encoder);
+    codec.decodeMessage(message, encoder);
     this.message = null;
+    this.codec = null;
+  }
+
+  @Override
+  public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+    if (tokens != null) {
+      tokens.release();
+      tokens = null;
+    }
+    super.handlerRemoved(ctx);
   }
 }
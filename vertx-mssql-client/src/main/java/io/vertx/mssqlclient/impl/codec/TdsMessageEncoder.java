@@ -11,7 +11,12 @@
 
 package io.vertx.mssqlclient.impl.codec;
 
+import io.netty.buffer.ByteBuf;
+import io.vertx.mssqlclient.impl.command.BulkInsertCommand;
 import io.vertx.mssqlclient.impl.command.PreLoginCommand;
+import io.vertx.mssqlclient.impl.protocol.MessageStatus;
+import io.vertx.mssqlclient.impl.protocol.TdsPacket;
+import io.vertx.mssqlclient.impl.protocol.client.login.LoginPacket;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
@@ -23,8 +28,20 @@ class TdsMessageEncoder extends ChannelOutboundHandlerAdapter {
   private final ArrayDeque<MSSQLCommandCodec<?, ?>> inflight;
   ChannelHandlerContext chctx;
 
-  TdsMessageEncoder(ArrayDeque<MSSQLCommandCodec<?, ?>> inflight) {
+  /**
+   * The packet size requested in the login.
+   */
+  final int requestedPacketSize;
+
+  /**
+   * The packet size of the messages sent, the login is sent with the default size and the server then sends the size
+   * negotiated for the session.
+   */
+  int packetSize = LoginPacket.DEFAULT_PACKET_SIZE;
+
+  TdsMessageEncoder(ArrayDeque<MSSQLCommandCodec<?, ?>> inflight, int requestedPacketSize) {
     this.inflight = inflight;
+    this.requestedPacketSize = requestedPacketSize;
   }
 
   @Override
@@ -53,8 +70,49 @@ class TdsMessageEncoder extends ChannelOutboundHandlerAdapter {
     codec.encode(this);
   }
 
+  /**
+   * Write and flush a message, {@code message} starts with the header of its first packet. The status, length and
+   * packet id of the header are set here and a message larger than the packet size is split in several packets.
+   *
+   * @param message the message, released by this method
+   */
+  void writeMessage(ByteBuf message) {
+    int start = message.readerIndex();
+    int end = message.writerIndex();
+    if (end - start <= packetSize) {
+      setPacketHeader(message, start, MessageStatus.END_OF_MESSAGE, end - start, 1);
+      chctx.writeAndFlush(message);
+      return;
+    }
+    int type = message.getUnsignedByte(start);
+    setPacketHeader(message, start, MessageStatus.NORMAL, packetSize, 1);
+    chctx.write(message.retainedSlice(start, packetSize));
+    int maxPacketData = packetSize - TdsPacket.PACKET_HEADER_SIZE;
+    int packetId = 2;
+    for (int idx = start + packetSize;idx < end;idx += maxPacketData) {
+      int len = Math.min(maxPacketData, end - idx);
+      ByteBuf header = chctx.alloc().ioBuffer(TdsPacket.PACKET_HEADER_SIZE);
+      header.writeByte(type);
+      header.writeZero(TdsPacket.PACKET_HEADER_SIZE - 1);
+      MessageStatus status = idx + len == end ? MessageStatus.END_OF_MESSAGE : MessageStatus.NORMAL;
+      setPacketHeader(header, 0, status, len + TdsPacket.PACKET_HEADER_SIZE, packetId++);
+      chctx.write(header);
+      chctx.write(message.retainedSlice(idx, len));
+    }
+    message.release();
+    chctx.flush();
+  }
+
+  private static void setPacketHeader(ByteBuf buffer, int idx, MessageStatus status, int length, int packetId) {
+    buffer.setByte(idx + 1, status.value());
+    buffer.setShort(idx + 2, length);
+    buffer.setByte(idx + 6, packetId);
+  }
+
   private MSSQLCommandCodec<?, ?> wrap(CommandBase<?> cmd) {
-    if (cmd instanceof PreLoginCommand) {
+    if (cmd instanceof BulkInsertCommand) {
+      return new BulkInsertCommandCodec((BulkInsertCommand) cmd);
+    } else if (cmd instanceof PreLoginCommand) {
       return new PreLoginCommandCodec((PreLoginCommand) cmd);
     } else if (cmd instanceof InitCommand) {
       return new InitCommandCodec((InitCommand) cmd);
@@ -69,6 +127,8 @@ class TdsMessageEncoder extends ChannelOutboundHandlerAdapter {
       } else {
         return new ExtendedQueryCommandCodec((ExtendedQueryCommand) cmd);
       }
+    } else if (cmd instanceof CloseStatementCommand) {
+      return new CloseStatementCommandCodec((CloseStatementCommand) cmd);
     } else if (cmd == CloseConnectionCommand.INSTANCE) {
       return new CloseConnectionCommandCodec((CloseConnectionCommand) cmd);
     } else {
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.command;
+
+import io.vertx.core.streams.ReadStream;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.command.CommandBase;
+
+import java.util.List;
+
+/**
+ * Insert the rows of a stream with a bulk load, the result is the number of inserted rows.
+ */
+public class BulkInsertCommand extends CommandBase<Integer> {
+  private final String table;
+  private final List<String> columns;
+  private final ReadStream<Tuple> rows;
+
+  public BulkInsertCommand(String table, List<String> columns, ReadStream<Tuple> rows) {
+    this.table = table;
+    this.columns = columns;
+    this.rows = rows;
+  }
+
+  public String table() {
+    return table;
+  }
+
+  public List<String> columns() {
+    return columns;
+  }
+
+  public ReadStream<Tuple> rows() {
+    return rows;
+  }
+}
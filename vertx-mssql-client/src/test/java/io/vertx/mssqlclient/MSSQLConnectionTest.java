@@ -11,16 +11,23 @@
 
 package io.vertx.mssqlclient;
 
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Tuple;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.function.IntFunction;
 
 @RunWith(VertxUnitRunner.class)
 public class MSSQLConnectionTest extends MSSQLTestBase {
@@ -43,4 +50,246 @@ public class MSSQLConnectionTest extends MSSQLTestBase {
     options.setProperties(new HashMap<>());
     MSSQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(SqlConnection::close));
   }
+
+  @Test
+  public void testDecodeRowsSplitAcrossPackets(TestContext ctx) {
+    String sql = "WITH numbers AS (SELECT 1 AS n UNION ALL SELECT n + 1 FROM numbers WHERE n < @p1) " +
+      "SELECT n, REPLICATE('x', n % 100) AS text FROM numbers OPTION (MAXRECURSION 0)";
+    MSSQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.preparedQuery(sql).execute(Tuple.of(20000), ctx.asyncAssertSuccess(rows -> {
+        ctx.assertEquals(20000, rows.size());
+        Iterator<Row> it = rows.iterator();
+        for (int i = 1; i <= 20000; i++) {
+          Row row = it.next();
+          ctx.assertEquals(i, row.getInteger(0));
+          ctx.assertEquals(i % 100, row.getString(1).length());
+        }
+        conn.close();
+      }));
+    }));
+  }
+
+  @Test
+  public void testSplitRequestsInPackets(TestContext ctx) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 3000; i++) {
+      sb.append((char) ('a' + i % 26));
+    }
+    String value = sb.toString();
+    options.setPacketSize(MSSQLConnectOptions.MIN_PACKET_SIZE);
+    MSSQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query("SELECT LEN('" + value + value + value + "')").execute(ctx.asyncAssertSuccess(rows -> {
+        ctx.assertEquals(9000, rows.iterator().next().getInteger(0));
+        // the parameter spans several packets, it must be equal to the literal byte for byte
+        String sql = "SELECT LEN(@p1), CASE WHEN HASHBYTES('SHA2_256', @p1) = HASHBYTES('SHA2_256', N'" + value + "') THEN 1 ELSE 0 END";
+        conn.preparedQuery(sql).execute(Tuple.of(value), ctx.asyncAssertSuccess(rows2 -> {
+          Row row = rows2.iterator().next();
+          ctx.assertEquals(3000, row.getInteger(0));
+          ctx.assertEquals(1, row.getInteger(1));
+          conn.close();
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testCachedPreparedStatements(TestContext ctx) {
+    options.setCachePreparedStatements(true).setPreparedStatementCacheMaxSize(1);
+    MSSQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      // prepared by the first execution, executed with its handle by the second
+      conn.preparedQuery("SELECT @p1 + 1").execute(Tuple.of(1), ctx.asyncAssertSuccess(rows1 -> {
+        ctx.assertEquals(2, rows1.iterator().next().getInteger(0));
+        conn.preparedQuery("SELECT @p1 + 1").execute(Tuple.of(2), ctx.asyncAssertSuccess(rows2 -> {
+          ctx.assertEquals(3, rows2.iterator().next().getInteger(0));
+          // other parameter types
+          conn.preparedQuery("SELECT @p1 + 1").execute(Tuple.of(3L), ctx.asyncAssertSuccess(rows3 -> {
+            ctx.assertEquals(4L, rows3.iterator().next().getLong(0));
+            // evicts and unprepares the first statement
+            conn.preparedQuery("SELECT @p1 + 2").execute(Tuple.of(1), ctx.asyncAssertSuccess(rows4 -> {
+              ctx.assertEquals(3, rows4.iterator().next().getInteger(0));
+              conn.preparedQuery("SELECT @p1 + 1").execute(Tuple.of(4), ctx.asyncAssertSuccess(rows5 -> {
+                ctx.assertEquals(5, rows5.iterator().next().getInteger(0));
+                conn.close();
+              }));
+            }));
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testClosePreparedStatement(TestContext ctx) {
+    MSSQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.prepare("SELECT @p1", ctx.asyncAssertSuccess(ps -> {
+        ps.query().execute(Tuple.of(1), ctx.asyncAssertSuccess(rows1 -> {
+          ps.query().execute(Tuple.of(2), ctx.asyncAssertSuccess(rows2 -> {
+            ctx.assertEquals(2, rows2.iterator().next().getInteger(0));
+            ps.close(ctx.asyncAssertSuccess(v -> conn.close()));
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testBulkInsert(TestContext ctx) {
+    int count = 50000;
+    MSSQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query("CREATE TABLE #bulk (id INT NOT NULL, name VARCHAR(20), flag BIT)").execute(ctx.asyncAssertSuccess(v -> {
+        conn.bulkInsert("#bulk", Arrays.asList("id", "name", "flag"), new TupleStream(count), ctx.asyncAssertSuccess(inserted -> {
+          ctx.assertEquals(count, inserted);
+          conn.query("SELECT COUNT(*), SUM(CAST(id AS BIGINT)), MAX(name), COUNT(flag) FROM #bulk").execute(ctx.asyncAssertSuccess(rows -> {
+            Row row = rows.iterator().next();
+            ctx.assertEquals(count, row.getInteger(0));
+            ctx.assertEquals((long) count * (count - 1) / 2, row.getLong(1));
+            ctx.assertEquals("name-9999", row.getString(2));
+            ctx.assertEquals(count / 2, row.getInteger(3));
+            conn.close();
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testBulkInsertUnknownTable(TestContext ctx) {
+    MSSQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.bulkInsert("#does_not_exist", Arrays.asList("id"), new TupleStream(10), ctx.asyncAssertFailure(err -> {
+        // the connection is still usable
+        conn.query("SELECT 1").execute(ctx.asyncAssertSuccess(rows -> conn.close()));
+      }));
+    }));
+  }
+
+  @Test
+  public void testBulkInsertQuotedNames(TestContext ctx) {
+    MSSQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query("CREATE TABLE [#bulk quoted] ([row id] INT NOT NULL, [name]]x] VARCHAR(20), flag BIT)").execute(ctx.asyncAssertSuccess(v -> {
+        conn.bulkInsert("#bulk quoted", Arrays.asList("row id", "name]x", "flag"), new TupleStream(10), ctx.asyncAssertSuccess(inserted -> {
+          ctx.assertEquals(10, inserted);
+          conn.query("SELECT COUNT(*) FROM [#bulk quoted]").execute(ctx.asyncAssertSuccess(rows -> {
+            ctx.assertEquals(10, rows.iterator().next().getInteger(0));
+            conn.close();
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testBulkInsertStreamFailure(TestContext ctx) {
+    Exception failure = new Exception("stream failure");
+    MSSQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query("CREATE TABLE #bulk_aborted (id INT NOT NULL, name VARCHAR(20), flag BIT)").execute(ctx.asyncAssertSuccess(v -> {
+        // the rows emitted before the failure fill several packets
+        TupleStream stream = new TupleStream(20000, TupleStream::row, failure);
+        conn.bulkInsert("#bulk_aborted", Arrays.asList("id", "name", "flag"), stream, ctx.asyncAssertFailure(err -> {
+          ctx.assertEquals(failure, err);
+          // the server discards the rows of the aborted load and the connection is still usable
+          conn.query("SELECT COUNT(*) FROM #bulk_aborted").execute(ctx.asyncAssertSuccess(rows -> {
+            ctx.assertEquals(0, rows.iterator().next().getInteger(0));
+            conn.close();
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testBulkInsertInvalidRow(TestContext ctx) {
+    MSSQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query("CREATE TABLE #bulk_invalid (id INT NOT NULL, name VARCHAR(20), flag BIT)").execute(ctx.asyncAssertSuccess(v -> {
+        TupleStream stream = new TupleStream(30000, i -> i == 20000 ? Tuple.of(i, "a name longer than the column", null) : TupleStream.row(i), null);
+        conn.bulkInsert("#bulk_invalid", Arrays.asList("id", "name", "flag"), stream, ctx.asyncAssertFailure(err -> {
+          ctx.assertTrue(err instanceof IllegalArgumentException);
+          conn.query("SELECT COUNT(*) FROM #bulk_invalid").execute(ctx.asyncAssertSuccess(rows -> {
+            ctx.assertEquals(0, rows.iterator().next().getInteger(0));
+            conn.close();
+          }));
+        }));
+      }));
+    }));
+  }
+
+  /**
+   * Emits {@code count} rows when it is not paused, by default {@code (i, "name-" + i % 10000, i % 2 == 0 ? true : null)},
+   * then ends or emits the {@code failure}.
+   */
+  private static class TupleStream implements ReadStream<Tuple> {
+
+    private final int count;
+    private final IntFunction<Tuple> rows;
+    private final Throwable failure;
+    private int emitted;
+    private boolean paused = true;
+    private Handler<Tuple> handler;
+    private Handler<Throwable> exceptionHandler;
+    private Handler<Void> endHandler;
+
+    TupleStream(int count) {
+      this(count, TupleStream::row, null);
+    }
+
+    TupleStream(int count, IntFunction<Tuple> rows, Throwable failure) {
+      this.count = count;
+      this.rows = rows;
+      this.failure = failure;
+    }
+
+    static Tuple row(int i) {
+      return Tuple.of(i, "name-" + i % 10000, i % 2 == 0 ? true : null);
+    }
+
+    @Override
+    public ReadStream<Tuple> exceptionHandler(Handler<Throwable> handler) {
+      this.exceptionHandler = handler;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Tuple> handler(Handler<Tuple> handler) {
+      this.handler = handler;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Tuple> pause() {
+      paused = true;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Tuple> resume() {
+      paused = false;
+      while (!paused && emitted < count) {
+        handler.handle(rows.apply(emitted++));
+      }
+      if (emitted == count) {
+        if (failure != null) {
+          Handler<Throwable> h = exceptionHandler;
+          exceptionHandler = null;
+          if (h != null) {
+            h.handle(failure);
+          }
+        } else if (endHandler != null) {
+          Handler<Void> h = endHandler;
+          endHandler = null;
+          h.handle(null);
+        }
+      }
+      return this;
+    }
+
+    @Override
+    public ReadStream<Tuple> fetch(long amount) {
+      return resume();
+    }
+
+    @Override
+    public ReadStream<Tuple> endHandler(Handler<Void> endHandler) {
+      this.endHandler = endHandler;
+      return this;
+    }
+  }
 }
@@ -30,6 +30,11 @@ public class MySQLConnectOptionsConverter {
             obj.setCollation((String)member.getValue());
           }
           break;
+        case "rewriteBatchedStatements":
+          if (member.getValue() instanceof Boolean) {
+            obj.setRewriteBatchedStatements((Boolean)member.getValue());
+          }
+          break;
         case "serverRsaPublicKeyPath":
           if (member.getValue() instanceof String) {
             obj.setServerRsaPublicKeyPath((String)member.getValue());
@@ -68,6 +73,7 @@ public class MySQLConnectOptionsConverter {
     if (obj.getCollation() != null) {
       json.put("collation", obj.getCollation());
     }
+    json.put("rewriteBatchedStatements", obj.isRewriteBatchedStatements());
     if (obj.getServerRsaPublicKeyPath() != null) {
       json.put("serverRsaPublicKeyPath", obj.getServerRsaPublicKeyPath());
     }
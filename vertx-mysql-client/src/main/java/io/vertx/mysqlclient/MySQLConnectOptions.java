@@ -56,6 +56,7 @@ public class MySQLConnectOptions extends SqlConnectOptions {
   public static final Map<String, String> DEFAULT_CONNECTION_ATTRIBUTES;
   public static final SslMode DEFAULT_SSL_MODE = SslMode.DISABLED;
   public static final String DEFAULT_CHARACTER_ENCODING = "UTF-8";
+  public static final boolean DEFAULT_REWRITE_BATCHED_STATEMENTS = false;
 
   static {
     Map<String, String> defaultAttributes = new HashMap<>();
@@ -70,6 +71,7 @@ public class MySQLConnectOptions extends SqlConnectOptions {
   private String serverRsaPublicKeyPath;
   private Buffer serverRsaPublicKeyValue;
   private String characterEncoding = DEFAULT_CHARACTER_ENCODING;
+  private boolean rewriteBatchedStatements = DEFAULT_REWRITE_BATCHED_STATEMENTS;
 
   public MySQLConnectOptions() {
     super();
@@ -87,6 +89,7 @@ public class MySQLConnectOptions extends SqlConnectOptions {
       this.collation = opts.collation;
       this.serverRsaPublicKeyPath = opts.serverRsaPublicKeyPath;
       this.serverRsaPublicKeyValue = opts.serverRsaPublicKeyValue != null ? opts.serverRsaPublicKeyValue.copy() : null;
+      this.rewriteBatchedStatements = opts.rewriteBatchedStatements;
     }
   }
 
@@ -95,6 +98,7 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     this.collation = other.collation;
     this.serverRsaPublicKeyPath = other.serverRsaPublicKeyPath;
     this.serverRsaPublicKeyValue = other.serverRsaPublicKeyValue != null ? other.serverRsaPublicKeyValue.copy() : null;
+    this.rewriteBatchedStatements = other.rewriteBatchedStatements;
   }
 
   /**
@@ -190,6 +194,32 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     return this;
   }
 
+  /**
+   * Get whether the batches of simple {@code INSERT} statements are rewritten into multi-row statements.
+   *
+   * @return whether batches are rewritten
+   */
+  public boolean isRewriteBatchedStatements() {
+    return rewriteBatchedStatements;
+  }
+
+  /**
+   * Set whether the batches of simple {@code INSERT ... VALUES (...)} statements are rewritten into multi-row
+   * {@code INSERT ... VALUES (...),(...)} statements, similar to the Connector/J {@code rewriteBatchedStatements} property.
+   * <p>
+   * The rows are sent in as few statements as the server {@code max_allowed_packet} allows, each row still gets its own
+   * result in the batch: an affected rows count of {@code 1} and a last inserted id computed from the first id generated
+   * by the statement and the session {@code auto_increment_increment}. Statements with {@code IGNORE},
+   * {@code ON DUPLICATE KEY UPDATE} or {@code SELECT} are executed as usual.
+   *
+   * @param rewriteBatchedStatements whether batches are rewritten
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MySQLConnectOptions setRewriteBatchedStatements(boolean rewriteBatchedStatements) {
+    this.rewriteBatchedStatements = rewriteBatchedStatements;
+    return this;
+  }
+
   /**
    * Get the value of the configured SSL mode.
    *
@@ -306,6 +336,11 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     return (MySQLConnectOptions) super.setPreparedStatementCacheSqlLimit(preparedStatementCacheSqlLimit);
   }
 
+  @Override
+  public MySQLConnectOptions setPreparedStatementCacheThreshold(int preparedStatementCacheThreshold) {
+    return (MySQLConnectOptions) super.setPreparedStatementCacheThreshold(preparedStatementCacheThreshold);
+  }
+
   @Override
   public MySQLConnectOptions setProperties(Map<String, String> properties) {
     return (MySQLConnectOptions) super.setProperties(properties);
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mysqlclient.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.sqlclient.Tuple;
+
+import java.time.Duration;
+import java.time.temporal.Temporal;
+import java.util.List;
+
+/**
+ * A simple {@code INSERT ... VALUES (...)} statement whose batches can be rewritten into multi-row
+ * {@code INSERT ... VALUES (...),(...)} statements.
+ */
+class MySQLBatchInsert {
+
+  /**
+   * The maximum number of parameters of a prepared statement.
+   */
+  static final int MAX_PARAMETERS = 65535;
+
+  /**
+   * The bytes of an execute packet which are not parameter values.
+   */
+  private static final int PACKET_OVERHEAD = 1024;
+
+  /**
+   * Parse the {@code sql} statement.
+   *
+   * @return the statement or {@code null} when the statement cannot be rewritten
+   */
+  static MySQLBatchInsert parse(String sql) {
+    int len = sql.length();
+    int idx = skipBlanks(sql, 0);
+    if (!isKeyword(sql, idx, "INSERT")) {
+      return null;
+    }
+    idx += "INSERT".length();
+    // find the VALUES clause, the modifiers and the table name or columns come before
+    int valuesStart = -1;
+    while (idx < len) {
+      idx = skipBlanks(sql, idx);
+      if (idx >= len) {
+        break;
+      }
+      char c = sql.charAt(idx);
+      if (c == '\'' || c == '"' || c == '`') {
+        idx = skipQuoted(sql, idx);
+      } else if (c == '?') {
+        return null;
+      } else if (Character.isLetter(c)) {
+        int end = idx;
+        while (end < len && isWordPart(sql.charAt(end))) {
+          end++;
+        }
+        String word = sql.substring(idx, end);
+        if (word.equalsIgnoreCase("IGNORE") || word.equalsIgnoreCase("SELECT") || word.equalsIgnoreCase("SET")) {
+          return null;
+        }
+        if (word.equalsIgnoreCase("VALUES") || word.equalsIgnoreCase("VALUE")) {
+          valuesStart = skipBlanks(sql, end);
+          break;
+        }
+        idx = end;
+      } else {
+        idx++;
+      }
+    }
+    if (valuesStart < 0 || valuesStart >= len || sql.charAt(valuesStart) != '(') {
+      return null;
+    }
+    // find the end of the row, counting the parameters
+    int paramCount = 0;
+    int depth = 0;
+    idx = valuesStart;
+    int valuesEnd = -1;
+    while (idx < len && valuesEnd < 0) {
+      int next = skipBlanks(sql, idx);
+      if (next != idx) {
+        idx = next;
+        continue;
+      }
+      char c = sql.charAt(idx);
+      switch (c) {
+        case '\'':
+        case '"':
+        case '`':
+          idx = skipQuoted(sql, idx);
+          continue;
+        case '?':
+          paramCount++;
+          break;
+        case '(':
+          depth++;
+          break;
+        case ')':
+          if (--depth == 0) {
+            valuesEnd = idx + 1;
+          }
+          break;
+      }
+      idx++;
+    }
+    if (valuesEnd < 0 || paramCount == 0) {
+      return null;
+    }
+    // only a single row without ON DUPLICATE KEY UPDATE
+    idx = skipBlanks(sql, valuesEnd);
+    if (idx < len && sql.charAt(idx) == ';') {
+      idx = skipBlanks(sql, idx + 1);
+    }
+    if (idx < len) {
+      return null;
+    }
+    return new MySQLBatchInsert(sql.substring(0, valuesStart), sql.substring(valuesStart, valuesEnd), paramCount);
+  }
+
+  private final String prefix;
+  private final String row;
+  final int paramCount;
+
+  private MySQLBatchInsert(String prefix, String row, int paramCount) {
+    this.prefix = prefix;
+    this.row = row;
+    this.paramCount = paramCount;
+  }
+
+  /**
+   * @return the statement inserting {@code rows} rows
+   */
+  String sql(int rows) {
+    StringBuilder sb = new StringBuilder(prefix.length() + rows * (row.length() + 1));
+    sb.append(prefix).append(row);
+    for (int i = 1;i < rows;i++) {
+      sb.append(',').append(row);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Compute the end of the rows inserted by a single statement, the statement text and its execute packet must not
+   * exceed {@code maxAllowedPacket}.
+   *
+   * @return the index of the first tuple not inserted by the statement
+   */
+  int chunkEnd(List<Tuple> tuples, int from, long maxAllowedPacket) {
+    int maxRows = MAX_PARAMETERS / paramCount;
+    long limit = maxAllowedPacket - prefix.length() - PACKET_OVERHEAD;
+    long size = 0;
+    int to = from;
+    while (to < tuples.size() && to - from < maxRows) {
+      long rowSize = row.length() + 1 + estimateSize(tuples.get(to));
+      if (to > from && size + rowSize > limit) {
+        break;
+      }
+      size += rowSize;
+      to++;
+    }
+    return to;
+  }
+
+  /**
+   * @return an upper bound of the size of the {@code tuple} values in an execute packet
+   */
+  private static long estimateSize(Tuple tuple) {
+    long size = 0;
+    for (int i = 0;i < tuple.size();i++) {
+      Object value = tuple.getValue(i);
+      // parameter type
+      size += 2;
+      if (value == null) {
+        continue;
+      }
+      if (value instanceof Number || value instanceof Boolean || value instanceof Temporal || value instanceof Duration) {
+        size += 16;
+      } else if (value instanceof Buffer) {
+        size += ((Buffer) value).length() + 9;
+      } else {
+        // encoded as a length encoded string, a char takes at most 3 bytes
+        size += value.toString().length() * 3L + 9;
+      }
+    }
+    return size;
+  }
+
+  private static boolean isKeyword(String sql, int idx, String keyword) {
+    int end = idx + keyword.length();
+    return sql.regionMatches(true, idx, keyword, 0, keyword.length()) && (end == sql.length() || !isWordPart(sql.charAt(end)));
+  }
+
+  private static boolean isWordPart(char c) {
+    return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+  }
+
+  /**
+   * @return the index after the whitespaces and the comments at {@code idx}
+   */
+  private static int skipBlanks(String sql, int idx) {
+    int len = sql.length();
+    while (idx < len) {
+      char c = sql.charAt(idx);
+      if (Character.isWhitespace(c)) {
+        idx++;
+      } else if (c == '#' || (c == '-' && sql.startsWith("-- ", idx))) {
+        int end = sql.indexOf('\n', idx);
+        idx = end < 0 ? len : end + 1;
+      } else if (c == '/' && sql.startsWith("/*", idx)) {
+        int end = sql.indexOf("*/", idx + 2);
+        idx = end < 0 ? len : end + 2;
+      } else {
+        break;
+      }
+    }
+    return idx;
+  }
+
+  /**
+   * @return the index after the quoted string or identifier at {@code idx}
+   */
+  private static int skipQuoted(String sql, int idx) {
+    int len = sql.length();
+    char quote = sql.charAt(idx++);
+    while (idx < len) {
+      char c = sql.charAt(idx++);
+      if (c == '\\' && quote != '`') {
+        idx++;
+      } else if (c == quote) {
+        if (idx < len && sql.charAt(idx) == quote) {
+          // doubled quote
+          idx++;
+        } else {
+          break;
+        }
+      }
+    }
+    return idx;
+  }
+}
@@ -47,7 +47,9 @@ public class MySQLConnectionFactory implements ConnectionFactory {
   private final boolean cachePreparedStatements;
   private final int preparedStatementCacheSize;
   private final Predicate<String> preparedStatementCacheSqlFilter;
+  private final int preparedStatementCacheThreshold;
   private final int initialCapabilitiesFlags;
+  private final boolean rewriteBatchedStatements;
 
   public MySQLConnectionFactory(ContextInternal context, MySQLConnectOptions options) {
     NetClientOptions netClientOptions = new NetClientOptions(options);
@@ -111,6 +113,8 @@ public class MySQLConnectionFactory implements ConnectionFactory {
     this.cachePreparedStatements = options.getCachePreparedStatements();
     this.preparedStatementCacheSize = options.getPreparedStatementCacheMaxSize();
     this.preparedStatementCacheSqlFilter = options.getPreparedStatementCacheSqlFilter();
+    this.preparedStatementCacheThreshold = options.getPreparedStatementCacheThreshold();
+    this.rewriteBatchedStatements = options.isRewriteBatchedStatements();
 
     this.netClient = context.owner().createNetClient(netClientOptions);
   }
@@ -127,17 +131,22 @@ public class MySQLConnectionFactory implements ConnectionFactory {
 
   @Override
   public Future<Connection> connect() {
+    return connect(context);
+  }
+
+  @Override
+  public Future<Connection> connect(ContextInternal context) {
     Promise<Connection> promise = context.promise();
-    context.dispatch(null, v -> doConnect(promise));
+    context.dispatch(null, v -> doConnect(context, promise));
     return promise.future();
   }
 
-  private void doConnect(Promise<Connection> promise) {
+  private void doConnect(ContextInternal context, Promise<Connection> promise) {
     Future<NetSocket> fut = netClient.connect(socketAddress);
     fut.onComplete(ar -> {
       if (ar.succeeded()) {
         NetSocket so = ar.result();
-        MySQLSocketConnection conn = new MySQLSocketConnection((NetSocketInternal) so, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, context);
+        MySQLSocketConnection conn = new MySQLSocketConnection((NetSocketInternal) so, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, preparedStatementCacheThreshold, rewriteBatchedStatements, context);
         conn.init();
         conn.sendStartupMessage(username, password, database, collation, serverRsaPublicKey, connectionAttributes, sslMode, initialCapabilitiesFlags, charsetEncoding, promise);
       } else {
@@ -168,6 +168,9 @@ public class MySQLConnectionUriParser {
           case "useaffectedrows":
             configuration.put("useAffectedRows", Boolean.parseBoolean(value));
             break;
+          case "rewritebatchedstatements":
+            configuration.put("rewriteBatchedStatements", Boolean.parseBoolean(value));
+            break;
           //TODO Additional Connection Parameters
           default:
             configuration.put(key, value);
@@ -21,22 +21,33 @@ import io.netty.channel.ChannelPipeline;
 import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.NoStackTraceThrowable;
 import io.vertx.core.net.impl.NetSocketInternal;
+import io.vertx.mysqlclient.MySQLClient;
 import io.vertx.mysqlclient.SslMode;
 import io.vertx.mysqlclient.impl.codec.MySQLCodec;
 import io.vertx.mysqlclient.impl.command.InitialHandshakeCommand;
+import io.vertx.sqlclient.PropertyKind;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.ArrayTuple;
 import io.vertx.sqlclient.impl.Connection;
+import io.vertx.sqlclient.impl.ErrorMessageFactory;
 import io.vertx.sqlclient.impl.QueryResultHandler;
+import io.vertx.sqlclient.impl.RowDesc;
 import io.vertx.sqlclient.impl.SocketConnectionBase;
 import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
 import io.vertx.sqlclient.impl.command.QueryCommandBase;
 import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
 import io.vertx.sqlclient.impl.command.TxCommand;
 import io.vertx.sqlclient.spi.DatabaseMetadata;
 
 import java.nio.charset.Charset;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
+import java.util.stream.Collector;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -45,13 +56,20 @@ public class MySQLSocketConnection extends SocketConnectionBase {
 
   public MySQLDatabaseMetadata metaData;
   private MySQLCodec codec;
+  private final boolean rewriteBatchedStatements;
+  // session variables used by the rewritten batches, fetched by the first one
+  private long maxAllowedPacket;
+  private long autoIncrementIncrement;
 
   public MySQLSocketConnection(NetSocketInternal socket,
                                boolean cachePreparedStatements,
                                int preparedStatementCacheSize,
                                Predicate<String> preparedStatementCacheSqlFilter,
+                               int preparedStatementCacheThreshold,
+                               boolean rewriteBatchedStatements,
                                ContextInternal context) {
-    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, 1, context);
+    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, preparedStatementCacheThreshold, 1, context);
+    this.rewriteBatchedStatements = rewriteBatchedStatements;
   }
 
   void sendStartupMessage(String username,
@@ -87,11 +105,137 @@ public class MySQLSocketConnection extends SocketConnectionBase {
         QueryCommandBase.NULL_COLLECTOR,
         QueryResultHandler.NOOP_HANDLER);
       super.doSchedule(cmd2, ar -> handler.handle(ar.map(tx.result)));
+    } else if (rewriteBatchedStatements && cmd instanceof ExtendedQueryCommand && ((ExtendedQueryCommand<?>) cmd).isBatch()) {
+      ExtendedQueryCommand<?> batch = (ExtendedQueryCommand<?>) cmd;
+      MySQLBatchInsert insert = batch.paramsList().size() > 1 ? MySQLBatchInsert.parse(batch.sql()) : null;
+      if (insert != null) {
+        rewriteBatch(batch, insert, (Handler) handler);
+      } else {
+        super.doSchedule(cmd, handler);
+      }
     } else {
       super.doSchedule(cmd, handler);
     }
   }
 
+  private <R> void rewriteBatch(ExtendedQueryCommand<R> batch, MySQLBatchInsert insert, Handler<AsyncResult<Boolean>> handler) {
+    new RewrittenBatch<>(batch, insert, handler).execute();
+  }
+
+  private void fetchSessionVariables(Handler<AsyncResult<Boolean>> handler) {
+    Collector<Row, Void, Void> collector = Collector.of(() -> null, (v, row) -> {
+      maxAllowedPacket = row.getLong(0);
+      autoIncrementIncrement = row.getLong(1);
+    }, (v1, v2) -> null);
+    SimpleQueryCommand<Void> cmd = new SimpleQueryCommand<>(
+      "SELECT @@session.max_allowed_packet, @@session.auto_increment_increment",
+      false,
+      false,
+      collector,
+      QueryResultHandler.NOOP_HANDLER);
+    super.doSchedule(cmd, handler);
+  }
+
+  private static <A, T> T emptyResult(Collector<Row, A, T> collector) {
+    return collector.finisher().apply(collector.supplier().get());
+  }
+
+  /**
+   * A batch of a simple {@code INSERT} statement executed as multi-row statements, one after the other.
+   */
+  private class RewrittenBatch<R> implements QueryResultHandler<R> {
+
+    private final ExtendedQueryCommand<R> batch;
+    private final MySQLBatchInsert insert;
+    private final List<Tuple> tuples;
+    private final Handler<AsyncResult<Boolean>> handler;
+    private int from;
+    private int to;
+    private int updatedCount;
+    private long lastInsertId;
+
+    RewrittenBatch(ExtendedQueryCommand<R> batch, MySQLBatchInsert insert, Handler<AsyncResult<Boolean>> handler) {
+      this.batch = batch;
+      this.insert = insert;
+      this.tuples = batch.paramsList();
+      this.handler = handler;
+    }
+
+    void execute() {
+      for (Tuple tuple : tuples) {
+        if (tuple.size() != insert.paramCount) {
+          handler.handle(Future.failedFuture(new NoStackTraceThrowable(ErrorMessageFactory.buildWhenArgumentsLengthNotMatched(insert.paramCount, tuple.size()))));
+          return;
+        }
+      }
+      if (maxAllowedPacket == 0) {
+        fetchSessionVariables(ar -> {
+          if (ar.succeeded()) {
+            executeNext(true);
+          } else {
+            handler.handle(ar);
+          }
+        });
+      } else {
+        executeNext(false);
+      }
+    }
+
+    /**
+     * Execute the next chunk, a chunk continuing the batch is scheduled before the pending commands so that the
+     * commands scheduled after the batch (e.g. the {@code COMMIT} of the transaction) are not executed between chunks.
+     */
+    private void executeNext(boolean continuation) {
+      to = insert.chunkEnd(tuples, from, maxAllowedPacket);
+      int rows = to - from;
+      ArrayTuple params = new ArrayTuple(rows * insert.paramCount);
+      for (int i = from;i < to;i++) {
+        Tuple tuple = tuples.get(i);
+        for (int j = 0;j < insert.paramCount;j++) {
+          params.addValue(tuple.getValue(j));
+        }
+      }
+      ExtendedQueryCommand<R> cmd = ExtendedQueryCommand.createQuery(insert.sql(rows), null, params, batch.autoCommit(), batch.collector(), this);
+      Handler<AsyncResult<Boolean>> chunkHandler = ar -> {
+        if (ar.succeeded()) {
+          handleRows(rows);
+          from = to;
+          if (from < tuples.size()) {
+            executeNext(true);
+            return;
+          }
+        }
+        handler.handle(ar);
+      };
+      if (continuation) {
+        doScheduleNext(cmd, chunkHandler);
+      } else {
+        MySQLSocketConnection.super.doSchedule(cmd, chunkHandler);
+      }
+    }
+
+    private void handleRows(int rows) {
+      // a multi-row INSERT reports the id generated for its first row
+      QueryResultHandler<R> resultHandler = batch.resultHandler();
+      for (int i = 0;i < rows;i++) {
+        resultHandler.handleResult(i < updatedCount ? 1 : 0, 0, null, emptyResult(batch.collector()), null);
+        resultHandler.addProperty(MySQLClient.LAST_INSERTED_ID, lastInsertId == 0 ? 0 : lastInsertId + i * autoIncrementIncrement);
+      }
+    }
+
+    @Override
+    public <V> void addProperty(PropertyKind<V> property, V value) {
+      if (property == MySQLClient.LAST_INSERTED_ID) {
+        lastInsertId = (Long) value;
+      }
+    }
+
+    @Override
+    public void handleResult(int updatedCount, int size, RowDesc desc, R result, Throwable failure) {
+      this.updatedCount = updatedCount;
+    }
+  }
+
   public void upgradeToSsl(Handler<AsyncResult<Void>> completionHandler) {
     socket.upgradeToSsl(completionHandler);
   }
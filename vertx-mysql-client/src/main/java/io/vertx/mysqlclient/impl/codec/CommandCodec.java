@@ -60,18 +60,22 @@ abstract class CommandCodec<R, C extends CommandBase<R>> {
   }
 
   void sendPacket(ByteBuf packet, int payloadLength) {
+    sendPacket(packet, payloadLength, true);
+  }
+
+  void sendPacket(ByteBuf packet, int payloadLength, boolean flush) {
     if (payloadLength >= PACKET_PAYLOAD_LENGTH_LIMIT) {
       /*
          The original packet exceeds the limit of packet length, split the packet here.
          if payload length is exactly 16MBytes-1byte(0xFFFFFF), an empty packet is needed to indicate the termination.
        */
-      sendSplitPacket(packet);
+      sendSplitPacket(packet, flush);
     } else {
-      sendNonSplitPacket(packet);
+      sendNonSplitPacket(packet, flush);
     }
   }
 
-  private void sendSplitPacket(ByteBuf packet) {
+  private void sendSplitPacket(ByteBuf packet, boolean flush) {
     ByteBuf payload = packet.skipBytes(4);
     while (payload.readableBytes() >= PACKET_PAYLOAD_LENGTH_LIMIT) {
       // send a packet with 0xFFFFFF length payload
@@ -87,12 +91,23 @@ abstract class CommandCodec<R, C extends CommandBase<R>> {
     packetHeader.writeMediumLE(payload.readableBytes());
     packetHeader.writeByte(sequenceId++);
     encoder.chctx.write(packetHeader);
-    encoder.chctx.writeAndFlush(payload);
+    encoder.chctx.write(payload);
+    if (flush) {
+      encoder.chctx.flush();
+    }
   }
 
   void sendNonSplitPacket(ByteBuf packet) {
+    sendNonSplitPacket(packet, true);
+  }
+
+  void sendNonSplitPacket(ByteBuf packet, boolean flush) {
     sequenceId++;
-    encoder.chctx.writeAndFlush(packet);
+    if (flush) {
+      encoder.chctx.writeAndFlush(packet);
+    } else {
+      encoder.chctx.write(packet);
+    }
   }
 
   final void sendBytesAsPacket(byte[] payload) {
@@ -122,13 +137,17 @@ abstract class CommandCodec<R, C extends CommandBase<R>> {
   }
 
   void handleErrorPacketPayload(ByteBuf payload) {
+    completionHandler.handle(CommandResponse.failure(decodeErrorPacketPayload(payload)));
+  }
+
+  MySQLException decodeErrorPacketPayload(ByteBuf payload) {
     payload.skipBytes(1); // skip ERR packet header
     int errorCode = payload.readUnsignedShortLE();
     // CLIENT_PROTOCOL_41 capability flag will always be set
     payload.skipBytes(1); // SQL state marker will always be #
     String sqlState = BufferUtils.readFixedLengthString(payload, 5, StandardCharsets.UTF_8);
     String errorMessage = readRestOfPacketString(payload, StandardCharsets.UTF_8);
-    completionHandler.handle(CommandResponse.failure(new MySQLException(errorMessage, errorCode, sqlState)));
+    return new MySQLException(errorMessage, errorCode, sqlState);
   }
 
   // simplify the ok packet as those properties are actually not used for now
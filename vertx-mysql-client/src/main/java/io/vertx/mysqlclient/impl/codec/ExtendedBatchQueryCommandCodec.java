@@ -12,6 +12,7 @@
 package io.vertx.mysqlclient.impl.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.vertx.mysqlclient.MySQLException;
 import io.vertx.mysqlclient.impl.datatype.DataType;
 import io.vertx.mysqlclient.impl.datatype.DataTypeCodec;
 import io.vertx.mysqlclient.impl.protocol.CommandType;
@@ -25,8 +26,16 @@ import static io.vertx.mysqlclient.impl.protocol.Packets.EnumCursorType.CURSOR_T
 
 class ExtendedBatchQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, ExtendedQueryCommand<R>> {
 
+  /**
+   * The maximum number of {@code COM_STMT_EXECUTE} packets written before their responses are received.
+   */
+  static final int PIPELINE_WINDOW = 256;
+
   private List<Tuple> params;
-  private int batchIdx = 0;
+  // number of execute packets written
+  private int sent;
+  // number of execute responses decoded
+  private int received;
 
   ExtendedBatchQueryCommandCodec(ExtendedQueryCommand<R> cmd) {
     super(cmd);
@@ -45,25 +54,56 @@ class ExtendedBatchQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R,
 
   @Override
   protected void handleSingleResultsetDecodingCompleted(int serverStatusFlags, long affectedRows, long lastInsertId) {
+    if (super.isDecodingCompleted(serverStatusFlags)) {
+      // last resultset of an execute response
+      received++;
+    }
     super.handleSingleResultsetDecodingCompleted(serverStatusFlags, affectedRows, lastInsertId);
-    doExecuteBatch();
+    if (!isBatchCompleted()) {
+      doExecuteBatch();
+    }
+  }
+
+  @Override
+  void handleErrorPacketPayload(ByteBuf payload) {
+    // the server still executes the packets in flight, their responses must be consumed before completing
+    MySQLException error = decodeErrorPacketPayload(payload);
+    if (failure == null) {
+      failure = error;
+    }
+    if (decoder != null) {
+      decoder.reset();
+    }
+    resetIntermediaryResult();
+    received++;
+    if (isBatchCompleted()) {
+      handleAllResultsetDecodingCompleted();
+    }
   }
 
   @Override
   protected boolean isDecodingCompleted(int serverStatusFlags) {
-    return super.isDecodingCompleted(serverStatusFlags) && batchIdx == params.size();
+    return super.isDecodingCompleted(serverStatusFlags) && isBatchCompleted();
+  }
+
+  private boolean isBatchCompleted() {
+    return received == sent && (sent == params.size() || failure != null);
   }
 
   private void doExecuteBatch() {
-    if (batchIdx < params.size()) {
+    // refill the window once half of it has been answered, stop sending after a failure
+    if (failure != null || sent == params.size() || sent - received > PIPELINE_WINDOW / 2) {
+      return;
+    }
+    int end = Math.min(params.size(), received + PIPELINE_WINDOW);
+    while (sent < end) {
       sequenceId = 0;
-      Tuple param = params.get(batchIdx);
-      sendBatchStatementExecuteCommand(statement, param);
-      batchIdx++;
+      Tuple param = params.get(sent++);
+      sendBatchStatementExecuteCommand(statement, param, sent == end);
     }
   }
 
-  private void sendBatchStatementExecuteCommand(MySQLPreparedStatement statement, Tuple params) {
+  private void sendBatchStatementExecuteCommand(MySQLPreparedStatement statement, Tuple params, boolean flush) {
     ByteBuf packet = allocateBuffer();
     // encode packet header
     int packetStartIdx = packet.writerIndex();
@@ -78,9 +118,10 @@ class ExtendedBatchQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R,
     packet.writeIntLE(1);
 
     /*
-     * Null-bit map and type should always be reconstructed for every batch of parameters here
+     * Null-bit map should always be reconstructed for every batch of parameters here, the types are only sent
+     * when they differ from the types bound by the previous packet
      */
-    int numOfParams = statement.bindingTypes().length;
+    int numOfParams = statement.paramDesc.paramDefinitions().length;
     int bitmapLength = (numOfParams + 7) / 8;
     byte[] nullBitmap = new byte[bitmapLength];
 
@@ -89,18 +130,20 @@ class ExtendedBatchQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R,
     if (numOfParams > 0) {
       // write a dummy bitmap first
       packet.writeBytes(nullBitmap);
-      packet.writeByte(1);
-      for (int i = 0; i < params.size(); i++) {
-        Object param = params.getValue(i);
-        DataType dataType = DataTypeCodec.inferDataTypeByEncodingValue(param);
-        packet.writeByte(dataType.id);
-        packet.writeByte(0); // parameter flag: signed
+      boolean sendTypesToServer = statement.bindTypes(params);
+      packet.writeBoolean(sendTypesToServer);
+      DataType[] bindingTypes = statement.bindingTypes();
+      if (sendTypesToServer) {
+        for (DataType bindingType : bindingTypes) {
+          packet.writeByte(bindingType.id);
+          packet.writeByte(0); // parameter flag: signed
+        }
       }
 
       for (int i = 0; i < numOfParams; i++) {
         Object value = params.getValue(i);
         if (value != null) {
-          DataTypeCodec.encodeBinary(DataTypeCodec.inferDataTypeByEncodingValue(value), value, encoder.encodingCharset, packet);
+          DataTypeCodec.encodeBinary(bindingTypes[i], value, encoder.encodingCharset, packet);
         } else {
           nullBitmap[i / 8] |= (1 << (i & 7));
         }
@@ -114,6 +157,6 @@ class ExtendedBatchQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R,
     int payloadLength = packet.writerIndex() - packetStartIdx - 4;
     packet.setMediumLE(packetStartIdx, payloadLength);
 
-    sendPacket(packet, payloadLength);
+    sendPacket(packet, payloadLength, flush);
   }
 }
@@ -48,7 +48,7 @@ class ExtendedQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, Exte
         sendStatementExecuteCommand(statement, true, cmd.params(), CURSOR_TYPE_READ_ONLY);
       } else {
         // CURSOR_TYPE_NO_CURSOR
-        sendStatementExecuteCommand(statement, statement.sendTypesToServer(), cmd.params(), CURSOR_TYPE_NO_CURSOR);
+        sendStatementExecuteCommand(statement, false, cmd.params(), CURSOR_TYPE_NO_CURSOR);
       }
     }
   }
@@ -102,7 +102,7 @@ class ExtendedQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, Exte
     }
   }
 
-  private void sendStatementExecuteCommand(MySQLPreparedStatement statement, boolean sendTypesToServer, Tuple params, byte cursorType) {
+  private void sendStatementExecuteCommand(MySQLPreparedStatement statement, boolean forceSendTypes, Tuple params, byte cursorType) {
     ByteBuf packet = allocateBuffer();
     // encode packet header
     int packetStartIdx = packet.writerIndex();
@@ -116,7 +116,7 @@ class ExtendedQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, Exte
     // iteration count, always 1
     packet.writeIntLE(1);
 
-    int numOfParams = statement.bindingTypes().length;
+    int numOfParams = statement.paramDesc.paramDefinitions().length;
     int bitmapLength = (numOfParams + 7) / 8;
     byte[] nullBitmap = new byte[bitmapLength];
 
@@ -125,10 +125,12 @@ class ExtendedQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, Exte
     if (numOfParams > 0) {
       // write a dummy bitmap first
       packet.writeBytes(nullBitmap);
+      boolean sendTypesToServer = statement.bindTypes(params) || forceSendTypes;
       packet.writeBoolean(sendTypesToServer);
+      DataType[] bindingTypes = statement.bindingTypes();
 
       if (sendTypesToServer) {
-        for (DataType bindingType : statement.bindingTypes()) {
+        for (DataType bindingType : bindingTypes) {
           packet.writeByte(bindingType.id);
           packet.writeByte(0); // parameter flag: signed
         }
@@ -137,7 +139,7 @@ class ExtendedQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, Exte
       for (int i = 0; i < numOfParams; i++) {
         Object value = params.getValue(i);
         if (value != null) {
-          DataTypeCodec.encodeBinary(statement.bindingTypes()[i], value, encoder.encodingCharset, packet);
+          DataTypeCodec.encodeBinary(bindingTypes[i], value, encoder.encodingCharset, packet);
         } else {
           nullBitmap[i / 8] |= (1 << (i & 7));
         }
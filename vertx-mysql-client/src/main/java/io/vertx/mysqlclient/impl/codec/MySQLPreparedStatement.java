@@ -21,6 +21,7 @@ import io.vertx.mysqlclient.impl.MySQLParamDesc;
 import io.vertx.mysqlclient.impl.MySQLRowDesc;
 import io.vertx.mysqlclient.impl.datatype.DataType;
 import io.vertx.mysqlclient.impl.datatype.DataTypeCodec;
+import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.impl.*;
 
 import java.util.Arrays;
@@ -70,17 +71,37 @@ class MySQLPreparedStatement implements PreparedStatement {
     return bindParameters(paramDesc, values);
   }
 
-  boolean sendTypesToServer() {
-    return sendTypesToServer;
+  void cleanBindings() {
+    this.sendTypesToServer = true;
+    Arrays.fill(bindingTypes, DataType.UNBIND);
   }
 
-  DataType[] bindingTypes() {
-    return bindingTypes;
+  /**
+   * Infer the types of the parameters of an execute packet, the types are inferred when the packet is encoded
+   * so the statement tracks the types bound on the server by the previous packet. The packet is encoded with
+   * the {@link #bindingTypes() inferred types}.
+   *
+   * @param params the parameters of the packet
+   * @return whether the types differ from the types bound on the server and must be sent
+   */
+  boolean bindTypes(Tuple params) {
+    boolean reboundParameters = sendTypesToServer;
+    for (int i = 0; i < bindingTypes.length; i++) {
+      DataType dataType = DataTypeCodec.inferDataTypeByEncodingValue(params.getValue(i));
+      if (bindingTypes[i] != dataType) {
+        bindingTypes[i] = dataType;
+        reboundParameters = true;
+      }
+    }
+    sendTypesToServer = false;
+    return reboundParameters;
   }
 
-  void cleanBindings() {
-    this.sendTypesToServer = true;
-    Arrays.fill(bindingTypes, DataType.UNBIND);
+  /**
+   * @return the types of the parameters inferred by the last {@link #bindTypes(Tuple)}
+   */
+  DataType[] bindingTypes() {
+    return bindingTypes;
   }
 
   private String bindParameters(MySQLParamDesc paramDesc, TupleInternal params) {
@@ -89,19 +110,7 @@ class MySQLPreparedStatement implements PreparedStatement {
     if (numberOfParameters != paramDescLength) {
       return ErrorMessageFactory.buildWhenArgumentsLengthNotMatched(paramDescLength, numberOfParameters);
     }
-
-    // binding the parameters
-    boolean reboundParameters = false;
-    for (int i = 0; i < params.size(); i++) {
-      Object value = params.getValue(i);
-      DataType dataType = DataTypeCodec.inferDataTypeByEncodingValue(value);
-      DataType paramDataType = bindingTypes[i];
-      if (paramDataType != dataType) {
-        bindingTypes[i] = dataType;
-        reboundParameters = true;
-      }
-    }
-    sendTypesToServer = reboundParameters; // parameter must be re-bound
+    // the types are bound when the execute packet is encoded, executions might be queued with different types
     return null;
   }
 }
@@ -35,7 +35,7 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
 
   @Override
   protected Row decodeRow(int len, ByteBuf in) {
-    Row row = new MySQLRowImpl(rowDesc);
+    MySQLRowImpl row = new MySQLRowImpl(rowDesc);
     if (rowDesc.dataFormat() == DataFormat.BINARY) {
       // BINARY row decoding
       // 0x00 packet header
@@ -51,30 +51,33 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
         int bitPos = val & 7;
         byte mask = (byte) (1 << bitPos);
         byte nullByte = (byte) (in.getByte(nullBitmapIdx + bytePos) & mask);
-        Object decoded = null;
         if (nullByte == 0) {
           // non-null
           ColumnDefinition columnDef = rowDesc.columnDefinitions()[c];
           DataType dataType = columnDef.type();
           int collationId = rowDesc.columnDefinitions()[c].characterSet();
           int columnDefinitionFlags = columnDef.flags();
-          decoded = DataTypeCodec.decodeBinary(dataType, collationId, columnDefinitionFlags, in);
+          if (!DataTypeCodec.decodeBinaryPrimitive(dataType, columnDefinitionFlags, in, row)) {
+            row.addValue(DataTypeCodec.decodeBinary(dataType, collationId, columnDefinitionFlags, in));
+          }
+        } else {
+          row.addValue(null);
         }
-        row.addValue(decoded);
       }
     } else {
       // TEXT row decoding
       for (int c = 0; c < len; c++) {
-        Object decoded = null;
         if (in.getUnsignedByte(in.readerIndex()) == NULL) {
           in.skipBytes(1);
+          row.addValue(null);
         } else {
           DataType dataType = rowDesc.columnDefinitions()[c].type();
           int columnDefinitionFlags = rowDesc.columnDefinitions()[c].flags();
           int collationId = rowDesc.columnDefinitions()[c].characterSet();
-          decoded = DataTypeCodec.decodeText(dataType, collationId, columnDefinitionFlags, in);
+          if (!DataTypeCodec.decodeTextPrimitive(dataType, columnDefinitionFlags, in, row)) {
+            row.addValue(DataTypeCodec.decodeText(dataType, collationId, columnDefinitionFlags, in));
+          }
         }
-        row.addValue(decoded);
       }
     }
     return row;
@@ -24,6 +24,7 @@ import io.vertx.mysqlclient.impl.util.BufferUtils;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.data.Numeric;
+import io.vertx.sqlclient.impl.ArrayTuple;
 import io.vertx.sqlclient.impl.codec.CommonCodec;
 
 import java.math.BigInteger;
@@ -253,6 +254,88 @@ public class DataTypeCodec {
     }
   }
 
+  /**
+   * Decode a binary value in the primitive storage of the {@code row} when it is decoded as an {@code Integer},
+   * a {@code Long} or a {@code Double} by {@link #decodeBinary}.
+   *
+   * @return {@code false} when the type has no primitive representation, nothing is read from the buffer then
+   */
+  public static boolean decodeBinaryPrimitive(DataType dataType, int columnDefinitionFlags, ByteBuf buffer, ArrayTuple row) {
+    boolean unsigned = isUnsignedNumeric(columnDefinitionFlags);
+    switch (dataType) {
+      case INT2:
+        if (!unsigned) {
+          return false;
+        }
+        row.addInt(buffer.readUnsignedShortLE());
+        return true;
+      case INT3:
+        row.addInt(unsigned ? buffer.readIntLE() & 0xFFFFFF : buffer.readIntLE());
+        return true;
+      case INT4:
+        if (unsigned) {
+          row.addLong(buffer.readUnsignedIntLE());
+        } else {
+          row.addInt(buffer.readIntLE());
+        }
+        return true;
+      case INT8:
+        if (unsigned) {
+          return false;
+        }
+        row.addLong(buffer.readLongLE());
+        return true;
+      case DOUBLE:
+        row.addDouble(buffer.readDoubleLE());
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Decode a text value in the primitive storage of the {@code row} when it is decoded as an {@code Integer}
+   * or a {@code Long} by {@link #decodeText}.
+   *
+   * @return {@code false} when the type has no primitive representation, nothing is read from the buffer then
+   */
+  public static boolean decodeTextPrimitive(DataType dataType, int columnDefinitionFlags, ByteBuf buffer, ArrayTuple row) {
+    boolean unsigned = isUnsignedNumeric(columnDefinitionFlags);
+    boolean isLong;
+    switch (dataType) {
+      case INT2:
+        if (!unsigned) {
+          return false;
+        }
+        isLong = false;
+        break;
+      case INT3:
+        isLong = false;
+        break;
+      case INT4:
+        isLong = unsigned;
+        break;
+      case INT8:
+        if (unsigned) {
+          return false;
+        }
+        isLong = true;
+        break;
+      default:
+        return false;
+    }
+    int length = (int) BufferUtils.readLengthEncodedInteger(buffer);
+    int index = buffer.readerIndex();
+    long value = CommonCodec.decodeDecStringToLong(index, length, buffer);
+    buffer.readerIndex(index + length);
+    if (isLong) {
+      row.addLong(value);
+    } else {
+      row.addInt((int) value);
+    }
+    return true;
+  }
+
   public static DataType inferDataTypeByEncodingValue(Object value) {
     if (value == null) {
       // ProtocolBinary::MYSQL_TYPE_NULL
@@ -14,6 +14,7 @@ package io.vertx.mysqlclient;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.FileSystem;
+import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import io.vertx.sqlclient.Row;
@@ -201,6 +202,146 @@ public class MySQLQueryTest extends MySQLTestBase {
     }));
   }
 
+  @Test
+  public void testPipelinedBatchLargerThanWindow(TestContext ctx) {
+    List<Tuple> params = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      params.add(Tuple.of(i));
+    }
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.preparedQuery("SELECT CAST(? AS CHAR)").executeBatch(params, ctx.asyncAssertSuccess(res -> {
+        for (int i = 0; i < 1000; i++) {
+          ctx.assertEquals("" + i, res.iterator().next().getString(0));
+          res = res.next();
+        }
+        ctx.assertNull(res);
+        conn.close();
+      }));
+    }));
+  }
+
+  @Test
+  public void testBatchWithChangingParameterTypes(TestContext ctx) {
+    // the types are only sent again when they differ from the previous tuple
+    List<Tuple> params = Arrays.asList(Tuple.of(1), Tuple.of(2), Tuple.of("three"), Tuple.of((Object) null), Tuple.of(5L), Tuple.of(6L));
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.preparedQuery("SELECT CAST(? AS CHAR)").executeBatch(params, ctx.asyncAssertSuccess(res -> {
+        for (String expected : Arrays.asList("1", "2", "three", null, "5", "6")) {
+          ctx.assertEquals(expected, res.iterator().next().getString(0));
+          res = res.next();
+        }
+        ctx.assertNull(res);
+        conn.close();
+      }));
+    }));
+  }
+
+  @Test
+  public void testBatchInterleavedWithExecutionOfDifferentTypes(TestContext ctx) {
+    Async async = ctx.async(2);
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.prepare("SELECT CAST(? AS CHAR)", ctx.asyncAssertSuccess(ps -> {
+        // both are queued before the batch is encoded
+        ps.query().executeBatch(Arrays.asList(Tuple.of(1), Tuple.of(2)), ctx.asyncAssertSuccess(res -> {
+          ctx.assertEquals("1", res.iterator().next().getString(0));
+          ctx.assertEquals("2", res.next().iterator().next().getString(0));
+          async.countDown();
+        }));
+        ps.query().execute(Tuple.of("abc"), ctx.asyncAssertSuccess(res -> {
+          ctx.assertEquals("abc", res.iterator().next().getString(0));
+          ps.query().executeBatch(Arrays.asList(Tuple.of("def"), Tuple.of(4L)), ctx.asyncAssertSuccess(res2 -> {
+            ctx.assertEquals("def", res2.iterator().next().getString(0));
+            ctx.assertEquals("4", res2.next().iterator().next().getString(0));
+            conn.close();
+            async.countDown();
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testPipelinedBatchFailure(TestContext ctx) {
+    List<Tuple> params = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      params.add(Tuple.of(i == 5 ? null : i));
+    }
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query("CREATE TEMPORARY TABLE batch_failure(id INTEGER NOT NULL)").execute(ctx.asyncAssertSuccess(v1 -> {
+        conn.preparedQuery("INSERT INTO batch_failure(id) VALUES (?)").executeBatch(params, ctx.asyncAssertFailure(err -> {
+          ctx.assertTrue(err instanceof MySQLException);
+          // the tuples sent in the same window as the failing tuple are still executed
+          conn.query("SELECT COUNT(*), SUM(id) FROM batch_failure").execute(ctx.asyncAssertSuccess(res -> {
+            Row row = res.iterator().next();
+            ctx.assertEquals(9L, row.getLong(0));
+            ctx.assertEquals(40L, row.getLong(1));
+            conn.close();
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testRewriteBatchedInsert(TestContext ctx) {
+    // more than the 65535 parameters of a statement
+    List<Tuple> params = new ArrayList<>();
+    for (int i = 0; i < 40000; i++) {
+      params.add(Tuple.of("value-" + i, i));
+    }
+    MySQLConnection.connect(vertx, options.setRewriteBatchedStatements(true), ctx.asyncAssertSuccess(conn -> {
+      conn.query("CREATE TEMPORARY TABLE rewrite_batch(id INTEGER PRIMARY KEY AUTO_INCREMENT, val VARCHAR(20), num INTEGER)").execute(ctx.asyncAssertSuccess(v1 -> {
+        conn.preparedQuery("INSERT INTO rewrite_batch(val, num) VALUES (?, ?)").executeBatch(params, ctx.asyncAssertSuccess(res -> {
+          for (int i = 0; i < 40000; i++) {
+            ctx.assertEquals(1, res.rowCount());
+            ctx.assertEquals(i + 1L, res.property(MySQLClient.LAST_INSERTED_ID));
+            res = res.next();
+          }
+          ctx.assertNull(res);
+          conn.query("SELECT COUNT(*), SUM(num) FROM rewrite_batch WHERE val = CONCAT('value-', num)").execute(ctx.asyncAssertSuccess(count -> {
+            Row row = count.iterator().next();
+            ctx.assertEquals(40000L, row.getLong(0));
+            ctx.assertEquals(39999L * 40000L / 2, row.getLong(1));
+            conn.close();
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testCommandsScheduledAfterRewrittenBatch(TestContext ctx) {
+    // rewritten in two chunks
+    List<Tuple> params = new ArrayList<>();
+    for (int i = 0; i < 40000; i++) {
+      params.add(Tuple.of("value-" + i, i));
+    }
+    Async async = ctx.async(3);
+    List<String> completions = new ArrayList<>();
+    MySQLConnection.connect(vertx, options.setRewriteBatchedStatements(true), ctx.asyncAssertSuccess(conn -> {
+      conn.query("CREATE TEMPORARY TABLE rewrite_batch(id INTEGER PRIMARY KEY AUTO_INCREMENT, val VARCHAR(20), num INTEGER)").execute(ctx.asyncAssertSuccess(v1 -> {
+        conn.begin().onComplete(ctx.asyncAssertSuccess(tx -> {
+          conn.preparedQuery("INSERT INTO rewrite_batch(val, num) VALUES (?, ?)").executeBatch(params, ctx.asyncAssertSuccess(res -> {
+            completions.add("batch");
+            async.countDown();
+          }));
+          conn.query("SELECT COUNT(*) FROM rewrite_batch").execute(ctx.asyncAssertSuccess(count -> {
+            // the query is executed after all the chunks
+            ctx.assertEquals(40000L, count.iterator().next().getLong(0));
+            completions.add("query");
+            async.countDown();
+          }));
+          tx.commit(ctx.asyncAssertSuccess(v2 -> {
+            completions.add("commit");
+            ctx.assertEquals(Arrays.asList("batch", "query", "commit"), completions);
+            conn.close();
+            async.countDown();
+          }));
+        }));
+      }));
+    }));
+  }
+
   @Test
   public void testDecodePacketSizeMoreThan16MB(TestContext ctx) {
     StringBuilder sb = new StringBuilder();
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mysqlclient.impl;
+
+import io.vertx.sqlclient.Tuple;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MySQLBatchInsertTest {
+
+  @Test
+  public void testRewrite() {
+    MySQLBatchInsert insert = MySQLBatchInsert.parse("INSERT INTO t (a, b) VALUES (?, ?)");
+    assertEquals(2, insert.paramCount);
+    assertEquals("INSERT INTO t (a, b) VALUES (?, ?)", insert.sql(1));
+    assertEquals("INSERT INTO t (a, b) VALUES (?, ?),(?, ?),(?, ?)", insert.sql(3));
+  }
+
+  @Test
+  public void testRewriteWithLiteralsAndExpressions() {
+    MySQLBatchInsert insert = MySQLBatchInsert.parse("insert into `t` values(?, 'x?)', (? + 1));");
+    assertEquals(2, insert.paramCount);
+    assertEquals("insert into `t` values(?, 'x?)', (? + 1)),(?, 'x?)', (? + 1))", insert.sql(2));
+  }
+
+  @Test
+  public void testRewriteWithComments() {
+    MySQLBatchInsert insert = MySQLBatchInsert.parse("/* values */ INSERT INTO t VALUE (?) -- (?)");
+    assertEquals(1, insert.paramCount);
+    assertEquals("/* values */ INSERT INTO t VALUE (?),(?)", insert.sql(2));
+  }
+
+  @Test
+  public void testNotRewritten() {
+    assertNull(MySQLBatchInsert.parse("UPDATE t SET a = ?"));
+    assertNull(MySQLBatchInsert.parse("INSERT INTO t SET a = ?"));
+    assertNull(MySQLBatchInsert.parse("INSERT IGNORE INTO t VALUES (?)"));
+    assertNull(MySQLBatchInsert.parse("INSERT INTO t SELECT ?"));
+    assertNull(MySQLBatchInsert.parse("INSERT INTO t VALUES (?) ON DUPLICATE KEY UPDATE a = ?"));
+    assertNull(MySQLBatchInsert.parse("INSERT INTO t VALUES (?), (?)"));
+    assertNull(MySQLBatchInsert.parse("INSERT INTO t VALUES (1)"));
+  }
+
+  @Test
+  public void testChunkParameterLimit() {
+    MySQLBatchInsert insert = MySQLBatchInsert.parse("INSERT INTO t VALUES (?, ?, ?)");
+    List<Tuple> tuples = new ArrayList<>();
+    for (int i = 0; i < 50000; i++) {
+      tuples.add(Tuple.of(i, i, i));
+    }
+    assertEquals(MySQLBatchInsert.MAX_PARAMETERS / 3, insert.chunkEnd(tuples, 0, Long.MAX_VALUE / 2));
+    assertEquals(50000, insert.chunkEnd(tuples, 40000, Long.MAX_VALUE / 2));
+  }
+
+  @Test
+  public void testChunkPacketLimit() {
+    MySQLBatchInsert insert = MySQLBatchInsert.parse("INSERT INTO t VALUES (?)");
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      sb.append('a');
+    }
+    List<Tuple> tuples = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      tuples.add(Tuple.of(sb.toString()));
+    }
+    int end = insert.chunkEnd(tuples, 0, 64 * 1024);
+    assertTrue(end > 1 && end < 100);
+    // a single row is always sent
+    assertEquals(1, insert.chunkEnd(tuples, 0, 16));
+  }
+}
@@ -18,6 +18,8 @@
 package examples;
 
 import io.vertx.pgclient.*;
+import io.vertx.sqlclient.ColumnarRowSet;
+import io.vertx.sqlclient.Pipeline;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.data.Numeric;
 import io.vertx.pgclient.pubsub.PgSubscriber;
@@ -26,8 +28,10 @@ import io.vertx.sqlclient.SqlResult;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.SqlClient;
+import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.core.Vertx;
+import io.vertx.core.file.AsyncFile;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.PemTrustOptions;
 import io.vertx.docgen.Source;
@@ -600,6 +604,27 @@ public class PgClientExamples {
       });
   }
 
+  public void collector03Example(SqlClient client) {
+
+    // Run the query with the columnar row set collector
+    client.query("SELECT id, randomnumber FROM World")
+      .collecting(ColumnarRowSet.collector())
+      .execute(ar -> {
+        if (ar.succeeded()) {
+          ColumnarRowSet rows = ar.result().value();
+
+          // Read the second column without boxing its values
+          long sum = 0;
+          for (int i = 0;i < rows.size();i++) {
+            sum += rows.getIntValue(i, 1);
+          }
+          System.out.println("Got " + sum);
+        } else {
+          System.out.println("Failure: " + ar.cause().getMessage());
+        }
+      });
+  }
+
   public void cancelRequest(PgConnection connection) {
     connection
       .query("SELECT pg_sleep(20)")
@@ -621,6 +646,42 @@ public class PgClientExamples {
     });
   }
 
+  public void copy(PgConnection connection, AsyncFile source, AsyncFile destination) {
+    connection.copyFrom("COPY users FROM STDIN WITH (FORMAT csv)", source, ar -> {
+      if (ar.succeeded()) {
+        System.out.println("Copied " + ar.result() + " rows to the table");
+        connection.copyTo("COPY users TO STDOUT WITH (FORMAT csv)", destination, ar2 -> {
+          if (ar2.succeeded()) {
+            System.out.println("Copied " + ar2.result() + " rows from the table");
+          }
+        });
+      } else {
+        System.out.println("Copy failed " + ar.cause().getMessage());
+      }
+    });
+  }
+
+  public void pipeline(SqlConnection connection) {
+    Pipeline pipeline = connection.pipeline();
+    pipeline
+      .preparedQuery("INSERT INTO users (first_name, last_name) VALUES ($1, $2)")
+      .execute(Tuple.of("Julien", "Viet"));
+    pipeline
+      .preparedQuery("SELECT count(*) FROM users")
+      .execute(ar -> {
+        if (ar.succeeded()) {
+          System.out.println("Users " + ar.result().iterator().next().getLong(0));
+        }
+      });
+    pipeline.execute(ar -> {
+      if (ar.succeeded()) {
+        System.out.println("Pipeline executed");
+      } else {
+        System.out.println("Pipeline failed " + ar.cause().getMessage());
+      }
+    });
+  }
+
   public void returning(SqlClient client) {
     client
       .preparedQuery("INSERT INTO color (color_name) VALUES ($1), ($2), ($3) RETURNING color_id")
@@ -98,6 +98,7 @@ public class PgConnectOptions extends SqlConnectOptions {
   public static final String DEFAULT_USER = "user";
   public static final String DEFAULT_PASSWORD = "pass";
   public static final int DEFAULT_PIPELINING_LIMIT = 256;
+  public static final boolean DEFAULT_LAZY_ROW_DECODING = false;
   public static final SslMode DEFAULT_SSLMODE = SslMode.DISABLE;
   public static final Map<String, String> DEFAULT_PROPERTIES;
 
@@ -112,6 +113,7 @@ public class PgConnectOptions extends SqlConnectOptions {
 
   private int pipeliningLimit = DEFAULT_PIPELINING_LIMIT;
   private SslMode sslMode = DEFAULT_SSLMODE;
+  private boolean lazyRowDecoding = DEFAULT_LAZY_ROW_DECODING;
 
   public PgConnectOptions() {
     super();
@@ -128,6 +130,7 @@ public class PgConnectOptions extends SqlConnectOptions {
       PgConnectOptions opts = (PgConnectOptions) other;
       pipeliningLimit = opts.pipeliningLimit;
       sslMode = opts.sslMode;
+      lazyRowDecoding = opts.lazyRowDecoding;
     }
   }
 
@@ -135,6 +138,7 @@ public class PgConnectOptions extends SqlConnectOptions {
     super(other);
     pipeliningLimit = other.pipeliningLimit;
     sslMode = other.sslMode;
+    lazyRowDecoding = other.lazyRowDecoding;
   }
 
   @Override
@@ -194,6 +198,11 @@ public class PgConnectOptions extends SqlConnectOptions {
     return (PgConnectOptions) super.setPreparedStatementCacheSqlLimit(preparedStatementCacheSqlLimit);
   }
 
+  @Override
+  public PgConnectOptions setPreparedStatementCacheThreshold(int preparedStatementCacheThreshold) {
+    return (PgConnectOptions) super.setPreparedStatementCacheThreshold(preparedStatementCacheThreshold);
+  }
+
   @Override
   public PgConnectOptions setProperties(Map<String, String> properties) {
     return (PgConnectOptions) super.setProperties(properties);
@@ -223,6 +232,27 @@ public class PgConnectOptions extends SqlConnectOptions {
     return this;
   }
 
+  /**
+   * @return whether the columns of a row are decoded when they are accessed
+   */
+  public boolean isLazyRowDecoding() {
+    return lazyRowDecoding;
+  }
+
+  /**
+   * Set whether the columns of a row are decoded when they are accessed instead of when the row is received.
+   * <p>
+   * A lazy row retains a copy of the row data and decodes a column on its first access, which avoids decoding
+   * the columns that are never read by the application.
+   *
+   * @param lazyRowDecoding {@code true} to decode the columns on access
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PgConnectOptions setLazyRowDecoding(boolean lazyRowDecoding) {
+    this.lazyRowDecoding = lazyRowDecoding;
+    return this;
+  }
+
   @Override
   public PgConnectOptions setSendBufferSize(int sendBufferSize) {
     return (PgConnectOptions)super.setSendBufferSize(sendBufferSize);
@@ -476,6 +506,7 @@ public class PgConnectOptions extends SqlConnectOptions {
 
     if (pipeliningLimit != that.pipeliningLimit) return false;
     if (sslMode != that.sslMode) return false;
+    if (lazyRowDecoding != that.lazyRowDecoding) return false;
 
     return true;
   }
@@ -485,6 +516,7 @@ public class PgConnectOptions extends SqlConnectOptions {
     int result = super.hashCode();
     result = 31 * result + pipeliningLimit;
     result = 31 * result + sslMode.hashCode();
+    result = 31 * result + (lazyRowDecoding ? 1 : 0);
     return result;
   }
 
@@ -24,6 +24,9 @@ import io.vertx.sqlclient.SqlConnection;
 import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.*;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.WriteStream;
 
 /**
  * A connection to Postgres.
@@ -33,6 +36,7 @@ import io.vertx.core.*;
  *   <ul>
  *     <li>Notification</li>
  *     <li>Request Cancellation</li>
+ *     <li>COPY FROM STDIN / COPY TO STDOUT</li>
  *   </ul>
  * </P>
  *
@@ -115,6 +119,45 @@ public interface PgConnection extends SqlConnection {
    */
   PgConnection cancelRequest(Handler<AsyncResult<Void>> handler);
 
+  /**
+   * Execute a {@code COPY ... FROM STDIN} statement, the content of the {@code from} stream is sent to the server
+   * until it ends.
+   * <p/>
+   * The stream data must be in the format expected by the statement (text, CSV or binary), the stream
+   * is paused while the connection cannot accept more data.
+   *
+   * @param sql the {@code COPY ... FROM STDIN} statement
+   * @param from the stream of data to copy
+   * @param handler the handler called with the number of copied rows or the failure
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  PgConnection copyFrom(String sql, ReadStream<Buffer> from, Handler<AsyncResult<Integer>> handler);
+
+  /**
+   * Like {@link #copyFrom(String, ReadStream, Handler)} but returns a {@code Future} of the asynchronous result
+   */
+  Future<Integer> copyFrom(String sql, ReadStream<Buffer> from);
+
+  /**
+   * Execute a {@code COPY ... TO STDOUT} statement, the data sent by the server is written to the {@code to} stream.
+   * <p/>
+   * The connection stops reading from the server while the {@code to} stream write queue is full, the
+   * {@code to} stream is not ended when the copy completes.
+   *
+   * @param sql the {@code COPY ... TO STDOUT} statement
+   * @param to the stream receiving the copied data
+   * @param handler the handler called with the number of copied rows or the failure
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  PgConnection copyTo(String sql, WriteStream<Buffer> to, Handler<AsyncResult<Integer>> handler);
+
+  /**
+   * Like {@link #copyTo(String, WriteStream, Handler)} but returns a {@code Future} of the asynchronous result
+   */
+  Future<Integer> copyTo(String sql, WriteStream<Buffer> to);
+
   /**
    * @return The process ID of the target backend
    */
@@ -21,6 +21,7 @@ import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.SslMode;
+import io.vertx.pgclient.impl.codec.StatementDescriptorCache;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.core.*;
 import io.vertx.core.net.impl.NetSocketInternal;
@@ -49,7 +50,10 @@ class PgConnectionFactory implements ConnectionFactory {
   private final boolean cachePreparedStatements;
   private final int preparedStatementCacheSize;
   private final Predicate<String> preparedStatementCacheSqlFilter;
+  private final int preparedStatementCacheThreshold;
   private final int pipeliningLimit;
+  private final StatementDescriptorCache descriptorCache;
+  private final boolean lazyRowDecoding;
 
   PgConnectionFactory(VertxInternal vertx, ContextInternal context, PgConnectOptions options) {
 
@@ -69,8 +73,12 @@ class PgConnectionFactory implements ConnectionFactory {
     this.properties = new HashMap<>(options.getProperties());
     this.cachePreparedStatements = options.getCachePreparedStatements();
     this.pipeliningLimit = options.getPipeliningLimit();
+    this.lazyRowDecoding = options.isLazyRowDecoding();
     this.preparedStatementCacheSize = options.getPreparedStatementCacheMaxSize();
     this.preparedStatementCacheSqlFilter = options.getPreparedStatementCacheSqlFilter();
+    this.preparedStatementCacheThreshold = options.getPreparedStatementCacheThreshold();
+    // Shared by the connections of a pool
+    this.descriptorCache = cachePreparedStatements ? new StatementDescriptorCache(preparedStatementCacheSize) : null;
     this.client = vertx.createNetClient(netClientOptions);
   }
 
@@ -79,7 +87,7 @@ class PgConnectionFactory implements ConnectionFactory {
   }
 
   public void cancelRequest(int processId, int secretKey, Handler<AsyncResult<Void>> handler) {
-    doConnect().onComplete(ar -> {
+    doConnect(context).onComplete(ar -> {
       if (ar.succeeded()) {
         PgSocketConnection conn = (PgSocketConnection) ar.result();
         conn.sendCancelRequestMessage(processId, secretKey, handler);
@@ -91,7 +99,12 @@ class PgConnectionFactory implements ConnectionFactory {
 
   @Override
   public Future<Connection> connect() {
-    return doConnect()
+    return connect(context);
+  }
+
+  @Override
+  public Future<Connection> connect(ContextInternal context) {
+    return doConnect(context)
       .flatMap(conn -> {
         PgSocketConnection socket = (PgSocketConnection) conn;
         socket.init();
@@ -100,14 +113,14 @@ class PgConnectionFactory implements ConnectionFactory {
       });
   }
 
-  private Future<Connection> doConnect() {
+  private Future<Connection> doConnect(ContextInternal context) {
     switch (sslMode) {
       case DISABLE:
-        return doConnect( false);
+        return doConnect(context, false);
       case ALLOW:
-        return doConnect( false).recover(err -> doConnect( true));
+        return doConnect(context, false).recover(err -> doConnect(context, true));
       case PREFER:
-        return doConnect( true).recover(err -> doConnect( false));
+        return doConnect(context, true).recover(err -> doConnect(context, false));
       case VERIFY_FULL:
         if (hostnameVerificationAlgorithm == null || hostnameVerificationAlgorithm.isEmpty()) {
           return context.failedFuture(new IllegalArgumentException("Host verification algorithm must be specified under verify-full sslmode"));
@@ -117,19 +130,19 @@ class PgConnectionFactory implements ConnectionFactory {
           return context.failedFuture(new IllegalArgumentException("Trust options must be specified under verify-full or verify-ca sslmode"));
         }
       case REQUIRE:
-        return doConnect(true);
+        return doConnect(context, true);
       default:
         return context.failedFuture(new IllegalArgumentException("Unsupported SSL mode"));
     }
   }
 
-  private Future<Connection> doConnect(boolean ssl) {
+  private Future<Connection> doConnect(ContextInternal context, boolean ssl) {
     Promise<Connection> promise = context.promise();
-    context.dispatch(null, v -> doConnect(ssl, promise));
+    context.dispatch(null, v -> doConnect(context, ssl, promise));
     return promise.future();
   }
 
-  private void doConnect(boolean ssl, Promise<Connection> promise) {
+  private void doConnect(ContextInternal context, boolean ssl, Promise<Connection> promise) {
     Future<NetSocket> soFut;
     try {
       soFut = client.connect(socketAddress, (String) null);
@@ -138,7 +151,7 @@ class PgConnectionFactory implements ConnectionFactory {
       promise.fail(e);
       return;
     }
-    Future<Connection> connFut = soFut.map(so -> newSocketConnection((NetSocketInternal) so));
+    Future<Connection> connFut = soFut.map(so -> newSocketConnection(context, (NetSocketInternal) so));
     if (ssl && !socketAddress.isDomainSocket()) {
       // upgrade connection to SSL if needed
       connFut = connFut.flatMap(conn -> Future.future(p -> {
@@ -155,7 +168,7 @@ class PgConnectionFactory implements ConnectionFactory {
     connFut.onComplete(promise);
   }
 
-  private PgSocketConnection newSocketConnection(NetSocketInternal socket) {
-    return new PgSocketConnection(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, pipeliningLimit, context);
+  private PgSocketConnection newSocketConnection(ContextInternal context, NetSocketInternal socket) {
+    return new PgSocketConnection(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, preparedStatementCacheThreshold, pipeliningLimit, descriptorCache, lazyRowDecoding, context);
   }
 }
@@ -21,6 +21,7 @@ import io.vertx.core.spi.metrics.ClientMetrics;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.PgConnection;
 import io.vertx.pgclient.PgNotification;
+import io.vertx.pgclient.impl.command.CopyCommand;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.Notification;
 import io.vertx.sqlclient.impl.SqlConnectionImpl;
@@ -28,7 +29,11 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.sqlclient.impl.tracing.QueryTracer;
 
 public class PgConnectionImpl extends SqlConnectionImpl<PgConnectionImpl> implements PgConnection  {
@@ -81,6 +86,40 @@ public class PgConnectionImpl extends SqlConnectionImpl<PgConnectionImpl> implem
     }
   }
 
+  @Override
+  public PgConnection copyFrom(String sql, ReadStream<Buffer> from, Handler<AsyncResult<Integer>> handler) {
+    Future<Integer> fut = copyFrom(sql, from);
+    if (handler != null) {
+      fut.onComplete(handler);
+    }
+    return this;
+  }
+
+  @Override
+  public Future<Integer> copyFrom(String sql, ReadStream<Buffer> from) {
+    // Do not lose data until the server is ready to receive it
+    from.pause();
+    Promise<Integer> promise = promise();
+    schedule(new CopyCommand(sql, from, null), promise);
+    return promise.future();
+  }
+
+  @Override
+  public PgConnection copyTo(String sql, WriteStream<Buffer> to, Handler<AsyncResult<Integer>> handler) {
+    Future<Integer> fut = copyTo(sql, to);
+    if (handler != null) {
+      fut.onComplete(handler);
+    }
+    return this;
+  }
+
+  @Override
+  public Future<Integer> copyTo(String sql, WriteStream<Buffer> to) {
+    Promise<Integer> promise = promise();
+    schedule(new CopyCommand(sql, null, to), promise);
+    return promise.future();
+  }
+
   @Override
   public int processId() {
     return conn.getProcessId();
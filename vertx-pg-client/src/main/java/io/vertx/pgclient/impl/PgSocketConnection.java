@@ -22,12 +22,17 @@ import io.netty.handler.codec.DecoderException;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.pgclient.PgException;
 import io.vertx.pgclient.impl.codec.PgCodec;
+import io.vertx.pgclient.impl.codec.StatementDescriptorCache;
+import io.vertx.pgclient.impl.command.CopyCommand;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.Notice;
 import io.vertx.sqlclient.impl.Notification;
+import io.vertx.sqlclient.impl.PreparedStatement;
 import io.vertx.sqlclient.impl.QueryResultHandler;
 import io.vertx.sqlclient.impl.SocketConnectionBase;
+import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
 import io.vertx.sqlclient.impl.command.InitCommand;
 import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
@@ -45,6 +50,8 @@ import java.util.function.Predicate;
  */
 public class PgSocketConnection extends SocketConnectionBase {
 
+  private final StatementDescriptorCache descriptorCache;
+  private final boolean lazyRowDecoding;
   private PgCodec codec;
   public int processId;
   public int secretKey;
@@ -54,14 +61,19 @@ public class PgSocketConnection extends SocketConnectionBase {
                             boolean cachePreparedStatements,
                             int preparedStatementCacheSize,
                             Predicate<String> preparedStatementCacheSqlFilter,
+                            int preparedStatementCacheThreshold,
                             int pipeliningLimit,
+                            StatementDescriptorCache descriptorCache,
+                            boolean lazyRowDecoding,
                             ContextInternal context) {
-    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, pipeliningLimit, context);
+    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, preparedStatementCacheThreshold, pipeliningLimit, context);
+    this.descriptorCache = descriptorCache;
+    this.lazyRowDecoding = lazyRowDecoding;
   }
 
   @Override
   public void init() {
-    codec = new PgCodec();
+    codec = new PgCodec(descriptorCache, lazyRowDecoding);
     ChannelPipeline pipeline = socket.channelHandlerContext().pipeline();
     pipeline.addBefore("handler", "codec", codec);
     super.init();
@@ -157,6 +169,45 @@ public class PgSocketConnection extends SocketConnectionBase {
     }
   }
 
+  @Override
+  protected boolean pausesPipeline(CommandBase<?> cmd) {
+    // The server rejects any other message while in copy mode
+    return cmd instanceof CopyCommand;
+  }
+
+  @Override
+  protected PreparedStatement describedStatement(ExtendedQueryCommand<?> queryCmd, boolean cache) {
+    PreparedStatement ps = descriptorCache != null ? descriptorCache.describedStatement(queryCmd.sql(), cache) : null;
+    if (ps == null && queryCmd.cursorId() == null && !hasParameters(queryCmd)) {
+      // Nothing to bind, the statement can be described with its execution
+      ps = StatementDescriptorCache.undescribedStatement(queryCmd.sql(), cache);
+    }
+    return ps;
+  }
+
+  private static boolean hasParameters(ExtendedQueryCommand<?> queryCmd) {
+    if (queryCmd.isBatch()) {
+      for (Tuple tuple : queryCmd.paramsList()) {
+        if (tuple.size() > 0) {
+          return true;
+        }
+      }
+      return false;
+    }
+    return queryCmd.params().size() > 0;
+  }
+
+  @Override
+  protected boolean supportsPipelineCommand() {
+    return true;
+  }
+
+  @Override
+  public boolean isTransactionAbortedOnError() {
+    // Statements are rejected until the end of the transaction block, which is then rolled back
+    return true;
+  }
+
   @Override
   public boolean isIndeterminatePreparedStatementError(Throwable error) {
     if (error instanceof PgException) {
@@ -52,6 +52,11 @@ public class RowImpl extends ArrayTuple implements Row {
     this.desc = row.desc;
   }
 
+  protected RowImpl(RowDesc desc, int len) {
+    super(len);
+    this.desc = desc;
+  }
+
   @Override
   public String getColumnName(int pos) {
     List<String> columnNames = desc.columnNames();
@@ -22,13 +22,91 @@ package io.vertx.pgclient.impl.codec;
  */
 final class Bind {
 
+  private static final short[] ALL_BINARY = { 1 };
+
   final long statement;
   final DataType[] paramTypes;
   final PgColumnDesc[] resultColumns;
+  // Computed once per statement instead of once per execution
+  final boolean[] binaryParams;
+  final short[] resultFormats;
+  final int estimatedLength;
 
   Bind(long statement, DataType[] paramTypes, PgColumnDesc[] resultColumns) {
     this.statement = statement;
     this.paramTypes = paramTypes;
     this.resultColumns = resultColumns;
+    this.binaryParams = binaryParams(paramTypes);
+    this.resultFormats = resultFormats(resultColumns);
+    this.estimatedLength = estimatedLength(statement, paramTypes, resultFormats);
+  }
+
+  private static boolean[] binaryParams(DataType[] paramTypes) {
+    if (paramTypes == null) {
+      return new boolean[0];
+    }
+    boolean[] binaryParams = new boolean[paramTypes.length];
+    for (int i = 0;i < paramTypes.length;i++) {
+      binaryParams[i] = paramTypes[i].supportsBinary;
+    }
+    return binaryParams;
+  }
+
+  /**
+   * @return the result format codes, {@code null} when the columns are not described yet and are all in text format
+   */
+  private static short[] resultFormats(PgColumnDesc[] resultColumns) {
+    if (resultColumns == null) {
+      return null;
+    }
+    if (resultColumns.length == 0) {
+      return ALL_BINARY;
+    }
+    short[] resultFormats = new short[resultColumns.length];
+    for (int i = 0;i < resultColumns.length;i++) {
+      resultFormats[i] = (short) (resultColumns[i].dataType.supportsBinary ? 1 : 0);
+    }
+    return resultFormats;
+  }
+
+  /**
+   * @return the estimated length of the message without portal, the length of variable length values is not known
+   */
+  private static int estimatedLength(long statement, DataType[] paramTypes, short[] resultFormats) {
+    int paramLen = paramTypes != null ? paramTypes.length : 0;
+    // type, length, portal, statement name and format counts
+    int length = 1 + 4 + 1 + (statement == 0 ? 1 : 8) + 2 + 2 + 2;
+    length += paramLen * (2 + 4) + (resultFormats != null ? resultFormats.length * 2 : 0);
+    for (int i = 0;i < paramLen;i++) {
+      length += valueLength(paramTypes[i]);
+    }
+    return length;
+  }
+
+  private static int valueLength(DataType type) {
+    switch (type) {
+      case BOOL:
+        return 1;
+      case INT2:
+        return 2;
+      case INT4:
+      case FLOAT4:
+      case DATE:
+        return 4;
+      case INT8:
+      case FLOAT8:
+      case TIME:
+      case TIMESTAMP:
+      case TIMESTAMPTZ:
+        return 8;
+      case TIMETZ:
+        return 12;
+      case UUID:
+      case INTERVAL:
+        return 16;
+      default:
+        // Variable length
+        return 16;
+    }
   }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.pgclient.impl.command.CopyCommand;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+
+/**
+ * Codec for the <a href="https://www.postgresql.org/docs/current/protocol-flow.html#PROTOCOL-COPY">COPY sub-protocol</a>.
+ * <p>
+ * The {@code COPY} statement is sent as a simple query, the server then switches to copy-in mode (the data
+ * of {@link CopyCommand#from()} is streamed as {@code CopyData} messages until it ends) or to copy-out mode
+ * (the {@code CopyData} messages sent by the server are written to {@link CopyCommand#to()}).
+ * <p>
+ * Back-pressure is applied in both directions: the source stream is paused while the channel is not writable and
+ * the channel stops reading while the destination stream write queue is full.
+ */
+class CopyCommandCodec extends PgCommandCodec<Integer, CopyCommand> {
+
+  private PgEncoder encoder;
+  private boolean copyIn;
+  private boolean done;
+  private String misuse;
+
+  CopyCommandCodec(CopyCommand cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode(PgEncoder encoder) {
+    this.encoder = encoder;
+    encoder.writeQuery(new Query(cmd.sql()));
+  }
+
+  @Override
+  void handleCopyInResponse(DataFormat format) {
+    ReadStream<Buffer> from = cmd.from();
+    if (from == null) {
+      done = true;
+      misuse = "No source stream for COPY FROM STDIN";
+      encoder.writeCopyFail(misuse);
+      encoder.flush();
+      return;
+    }
+    copyIn = true;
+    from.exceptionHandler(err -> execute(() -> {
+      if (!done) {
+        done = true;
+        encoder.writeCopyFail(err.getMessage() != null ? err.getMessage() : err.getClass().getName());
+        encoder.flush();
+      }
+    }));
+    from.endHandler(v -> execute(() -> {
+      if (!done) {
+        done = true;
+        encoder.writeCopyDone();
+        encoder.flush();
+      }
+    }));
+    from.handler(buff -> execute(() -> {
+      if (!done) {
+        encoder.writeCopyData(buff.getByteBuf());
+        encoder.flush();
+        if (!encoder.channelHandlerContext().channel().isWritable()) {
+          from.pause();
+        }
+      }
+    }));
+    from.resume();
+  }
+
+  @Override
+  void handleWritabilityChanged(boolean writable) {
+    if (copyIn && !done && writable) {
+      cmd.from().resume();
+    }
+  }
+
+  @Override
+  void handleCopyOutResponse(DataFormat format) {
+    if (cmd.to() == null) {
+      // The server cannot be asked to abort a copy-out, the data is discarded
+      misuse = "No destination stream for COPY TO STDOUT";
+    }
+  }
+
+  @Override
+  void handleCopyData(ByteBuf in) {
+    WriteStream<Buffer> to = cmd.to();
+    if (to != null) {
+      to.write(Buffer.buffer(Unpooled.copiedBuffer(in)));
+      if (to.writeQueueFull()) {
+        Channel channel = encoder.channelHandlerContext().channel();
+        channel.config().setAutoRead(false);
+        to.drainHandler(v -> channel.config().setAutoRead(true));
+      }
+    }
+  }
+
+  @Override
+  void handleCopyDone() {
+    // Expected after copy-out
+  }
+
+  @Override
+  void handleCommandComplete(int updated) {
+    result = updated;
+  }
+
+  @Override
+  void handleErrorResponse(ErrorResponse errorResponse) {
+    if (copyIn && !done) {
+      // Any further copy message is ignored by the server
+      done = true;
+      cmd.from().pause();
+    }
+    failure = errorResponse.toException();
+  }
+
+  @Override
+  void handleReadyForQuery() {
+    if (failure == null && misuse != null) {
+      completionHandler.handle(CommandResponse.failure(misuse));
+    } else {
+      super.handleReadyForQuery();
+    }
+  }
+
+  private void execute(Runnable task) {
+    ChannelHandlerContext ctx = encoder.channelHandlerContext();
+    if (ctx.executor().inEventLoop()) {
+      task.run();
+    } else {
+      ctx.executor().execute(task);
+    }
+  }
+}
@@ -25,6 +25,7 @@ import io.vertx.core.impl.logging.LoggerFactory;
 import io.vertx.core.json.Json;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.data.Numeric;
+import io.vertx.sqlclient.impl.ArrayTuple;
 import io.vertx.pgclient.data.*;
 import io.vertx.pgclient.impl.util.UTF8StringEndDetector;
 import io.vertx.core.buffer.Buffer;
@@ -473,6 +474,28 @@ class DataTypeCodec {
     }
   }
 
+  /**
+   * Decode an {@code INT4}, {@code INT8} or {@code FLOAT8} value in the primitive storage of the {@code row}.
+   *
+   * @return {@code false} when the type has no primitive representation, nothing is added to the row then
+   */
+  static boolean decodePrimitive(DataType id, DataFormat format, int index, int len, ByteBuf buff, ArrayTuple row) {
+    boolean binary = format == DataFormat.BINARY;
+    switch (id) {
+      case INT4:
+        row.addInt(binary ? buff.getInt(index) : (int) CommonCodec.decodeDecStringToLong(index, len, buff));
+        return true;
+      case INT8:
+        row.addLong(binary ? buff.getLong(index) : CommonCodec.decodeDecStringToLong(index, len, buff));
+        return true;
+      case FLOAT8:
+        row.addDouble(binary ? buff.getDouble(index) : textDecodeFLOAT8(index, len, buff));
+        return true;
+      default:
+        return false;
+    }
+  }
+
   public static Object decodeText(DataType id, int index, int len, ByteBuf buff) {
     switch (id) {
       case BOOL:
@@ -25,45 +25,120 @@ import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
 class ExtendedQueryCommandCodec<R, C extends ExtendedQueryCommand<R>> extends QueryCommandBaseCodec<R, C> {
 
   private PgEncoder encoder;
+  // The statement parsed with the execution
+  private long statement;
+  private PgPreparedStatement parsed;
+  private boolean parseComplete;
+  // Described with the execution
+  private boolean describe;
+  private PgParamDesc paramDesc;
+  private PgRowDesc rowDesc;
 
   private static final String TABLE_SCHEMA_CHANGE_ERROR_MESSAGE_PATTERN = "bind message has \\d result formats but query has \\d columns";
 
   ExtendedQueryCommandCodec(C cmd) {
     super(cmd);
-    decoder = new RowResultDecoder<>(cmd.collector(), ((PgPreparedStatement)cmd.preparedStatement()).rowDesc());
   }
 
   @Override
   void encode(PgEncoder encoder) {
+    if (encodeExecution(encoder, false)) {
+      encoder.writeSync();
+    }
+  }
+
+  /**
+   * Encode the execution of the command without the final {@code Sync} message.
+   *
+   * @param parse whether an unnamed statement must be parsed again because it might have been replaced
+   * @return {@code false} when the command has been completed without sending any message
+   */
+  boolean encodeExecution(PgEncoder encoder, boolean parse) {
     this.encoder = encoder;
+    PgPreparedStatement ps = (PgPreparedStatement) cmd.preparedStatement();
+    if (!ps.parse || ps.paramDesc != null) {
+      // Otherwise the decoder is created when the rows are described
+      decoder = new RowResultDecoder<>(cmd.collector(), ps.rowDesc(), encoder.lazyRowDecoding);
+    }
     if (cmd.isSuspended()) {
       encoder.writeExecute(cmd.cursorId(), cmd.fetch());
-      encoder.writeSync();
     } else {
-      PgPreparedStatement ps = (PgPreparedStatement) cmd.preparedStatement();
+      if (cmd.isBatch() && cmd.paramsList().isEmpty()) {
+        // We set suspended to false as we won't get a command complete command back from Postgres
+        this.result = false;
+        completionHandler.handle(CommandResponse.failure("Can not execute batch query with 0 sets of batch parameters."));
+        return false;
+      }
+      Bind bind;
+      if (ps.parse) {
+        bind = encodeParse(encoder, ps);
+      } else {
+        if (parse && ps.bind.statement == 0) {
+          encoder.writeParse(ps.sql, 0, ps.paramDesc.paramDataTypes());
+        }
+        bind = ps.bind;
+      }
       if (cmd.isBatch()) {
-        if (cmd.paramsList().isEmpty()) {
-          // We set suspended to false as we won't get a command complete command back from Postgres
-          this.result = false;
-          completionHandler.handle(CommandResponse.failure("Can not execute batch query with 0 sets of batch parameters."));
-          return;
-        } else {
-          for (Tuple param : cmd.paramsList()) {
-            encoder.writeBind(ps.bind, cmd.cursorId(), param);
-            encoder.writeExecute(cmd.cursorId(), cmd.fetch());
-          }
+        // Bind and Execute messages, the Execute message has a fixed length of 10 bytes
+        encoder.ensureWritable(cmd.paramsList().size() * (bind.estimatedLength + 10));
+        for (Tuple param : cmd.paramsList()) {
+          encoder.writeBind(bind, cmd.cursorId(), param);
+          encoder.writeExecute(cmd.cursorId(), cmd.fetch());
         }
       } else {
-        encoder.writeBind(ps.bind, cmd.cursorId(), cmd.params());
+        encoder.writeBind(bind, cmd.cursorId(), cmd.params());
         encoder.writeExecute(cmd.cursorId(), cmd.fetch());
       }
-      encoder.writeSync();
+    }
+    return true;
+  }
+
+  /**
+   * Parse the statement in the same exchange than its execution, so the connection does not wait for a prepare
+   * response. A statement cached by the connection is named, a statement that has not been described yet is
+   * described with the execution and its rows are received in text format.
+   *
+   * @return the bind message of the execution
+   */
+  private Bind encodeParse(PgEncoder encoder, PgPreparedStatement ps) {
+    statement = ps.cached ? encoder.nextStatementName() : 0L;
+    if (ps.paramDesc != null) {
+      encoder.writeParse(ps.sql, statement, ps.paramDesc.paramDataTypes());
+      if (statement != 0L) {
+        parsed = new PgPreparedStatement(ps.sql, statement, ps.paramDesc, ps.rowDesc, true);
+        return parsed.bind;
+      }
+      return ps.bind;
+    } else {
+      describe = true;
+      encoder.writeParse(ps.sql, statement, null);
+      encoder.writeDescribe(new Describe(statement, null));
+      return new Bind(statement, null, null);
     }
   }
 
   @Override
   void handleParseComplete() {
     // Response to Parse
+    parseComplete = true;
+  }
+
+  @Override
+  void handleParameterDescription(PgParamDesc paramDesc) {
+    // Response to Describe
+    this.paramDesc = paramDesc;
+  }
+
+  @Override
+  void handleRowDescription(PgColumnDesc[] columnDescs) {
+    // Response to Describe, the rows of this execution are in text format
+    rowDesc = PgRowDesc.createBinary(columnDescs);
+    decoder = new RowResultDecoder<>(cmd.collector(), PgRowDesc.create(columnDescs), encoder.lazyRowDecoding);
+  }
+
+  @Override
+  void handleNoData() {
+    // Response to Describe
   }
 
   @Override
@@ -87,9 +162,29 @@ class ExtendedQueryCommandCodec<R, C extends ExtendedQueryCommand<R>> extends Qu
     if (((PgPreparedStatement)cmd.preparedStatement()).isCached() && isTableSchemaErrorMessage(errorResponse)) {
       encoder.channelHandlerContext().fireChannelRead(new InvalidCachedStatementEvent(cmd.preparedStatement().sql()));
     }
+    if (encoder.descriptorCache != null && isTableSchemaErrorMessage(errorResponse)) {
+      encoder.descriptorCache.remove(cmd.preparedStatement().sql());
+    }
     super.handleErrorResponse(errorResponse);
   }
 
+  @Override
+  void handleReadyForQuery() {
+    if (describe && paramDesc != null) {
+      if (failure == null && encoder.descriptorCache != null) {
+        encoder.descriptorCache.put(cmd.sql(), paramDesc, rowDesc);
+      }
+      if (statement != 0L) {
+        parsed = new PgPreparedStatement(cmd.sql(), statement, paramDesc, rowDesc, true);
+      }
+    }
+    if (parsed != null && parseComplete) {
+      // Cached by the connection, even when the execution failed, since it exists on the server
+      cmd.ps = parsed;
+    }
+    super.handleReadyForQuery();
+  }
+
   private boolean isTableSchemaErrorMessage(ErrorResponse errorResponse) {
     return errorResponse.getMessage().matches(TABLE_SCHEMA_CHANGE_ERROR_MESSAGE_PATTERN) || errorResponse.getMessage().equals("cached plan must not change result type");
   }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.pgclient.impl.RowImpl;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * A row retaining a heap copy of its {@code DataRow} message, a column is decoded on its first access.
+ * <p>
+ * The copy is not reference counted and is reclaimed with the row, so the row can outlive the message
+ * buffer and does not need to be released.
+ */
+class LazyRow extends RowImpl {
+
+  private final PgRowDesc desc;
+  private final ByteBuf data;
+  // The offset of each column value in data, -1 for a null value
+  private final int[] offsets;
+  private final Object[] values;
+
+  private LazyRow(PgRowDesc desc, ByteBuf data, int[] offsets) {
+    super(desc, 0);
+    this.desc = desc;
+    this.data = data;
+    this.offsets = offsets;
+    this.values = new Object[offsets.length];
+  }
+
+  static LazyRow decode(PgRowDesc desc, int len, ByteBuf in) {
+    int start = in.readerIndex();
+    int[] offsets = new int[len];
+    for (int c = 0; c < len; ++c) {
+      int length = in.readInt();
+      if (length != -1) {
+        offsets[c] = in.readerIndex() - start;
+        in.skipBytes(length);
+      } else {
+        offsets[c] = -1;
+      }
+    }
+    byte[] data = new byte[in.readerIndex() - start];
+    in.getBytes(start, data);
+    return new LazyRow(desc, Unpooled.wrappedBuffer(data), offsets);
+  }
+
+  @Override
+  public Object getValue(int pos) {
+    if (pos < 0 || pos >= offsets.length) {
+      return null;
+    }
+    Object value = values[pos];
+    int offset = offsets[pos];
+    if (value == null && offset != -1) {
+      // The value length precedes the value
+      int length = data.getInt(offset - 4);
+      PgColumnDesc columnDesc = desc.columns[pos];
+      if (columnDesc.dataFormat == DataFormat.BINARY) {
+        value = DataTypeCodec.decodeBinary(columnDesc.dataType, offset, length, data);
+      } else {
+        value = DataTypeCodec.decodeText(columnDesc.dataType, offset, length, data);
+      }
+      values[pos] = value;
+    }
+    return value;
+  }
+
+  @Override
+  public int getIntValue(int pos) {
+    return (int) getLongValue(pos);
+  }
+
+  @Override
+  public long getLongValue(int pos) {
+    if (isBinaryUndecoded(pos)) {
+      int offset = offsets[pos];
+      switch (desc.columns[pos].dataType) {
+        case INT2:
+          return data.getShort(offset);
+        case INT4:
+          return data.getInt(offset);
+        case INT8:
+          return data.getLong(offset);
+      }
+    }
+    Object value = getValue(pos);
+    return value instanceof Number ? ((Number) value).longValue() : 0L;
+  }
+
+  @Override
+  public double getDoubleValue(int pos) {
+    if (isBinaryUndecoded(pos)) {
+      int offset = offsets[pos];
+      switch (desc.columns[pos].dataType) {
+        case FLOAT4:
+          return data.getFloat(offset);
+        case FLOAT8:
+          return data.getDouble(offset);
+      }
+    }
+    Object value = getValue(pos);
+    return value instanceof Number ? ((Number) value).doubleValue() : 0D;
+  }
+
+  /**
+   * @return whether the value at {@code pos} is not null, not decoded yet and in binary format, so it can be read in place
+   */
+  private boolean isBinaryUndecoded(int pos) {
+    return pos >= 0 && pos < offsets.length && values[pos] == null && offsets[pos] != -1
+      && desc.columns[pos].dataFormat == DataFormat.BINARY;
+  }
+
+  @Override
+  public int size() {
+    return offsets.length;
+  }
+
+  @Override
+  public Tuple addValue(Object value) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setValue(int pos, Object value) {
+    if (pos < 0 || pos >= offsets.length) {
+      throw new IndexOutOfBoundsException("Invalid position " + pos);
+    }
+    values[pos] = value;
+    if (value == null) {
+      offsets[pos] = -1;
+    }
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+}
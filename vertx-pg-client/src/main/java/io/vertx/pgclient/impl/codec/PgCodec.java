@@ -29,9 +29,9 @@ public class PgCodec extends CombinedChannelDuplexHandler<PgDecoder, PgEncoder>
 
   private final ArrayDeque<PgCommandCodec<?, ?>> inflight = new ArrayDeque<>();
 
-  public PgCodec() {
+  public PgCodec(StatementDescriptorCache descriptorCache, boolean lazyRowDecoding) {
     PgDecoder decoder = new PgDecoder(inflight);
-    PgEncoder encoder = new PgEncoder(decoder, inflight);
+    PgEncoder encoder = new PgEncoder(decoder, inflight, descriptorCache, lazyRowDecoding);
     init(decoder, encoder);
   }
 
@@ -118,6 +118,33 @@ abstract class PgCommandCodec<R, C extends CommandBase<R>> {
     logger.warn(getClass().getSimpleName() + " should handle message ParameterStatus");
   }
 
+  void handleCopyInResponse(DataFormat format) {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyInResponse");
+  }
+
+  void handleCopyOutResponse(DataFormat format) {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyOutResponse");
+  }
+
+  void handleCopyData(ByteBuf in) {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyData");
+  }
+
+  void handleCopyDone() {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyDone");
+  }
+
+  void handleWritabilityChanged(boolean writable) {
+  }
+
+  /**
+   * @return the codec of the query receiving the rows of the current result, or {@code null} when this codec does not
+   *         execute queries
+   */
+  QueryCommandBaseCodec<?, ?> currentQuery() {
+    return null;
+  }
+
   /**
    * <p>
    * The frontend can issue commands. Every message returned from the backend has transaction status
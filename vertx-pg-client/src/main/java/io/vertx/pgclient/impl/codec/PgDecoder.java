@@ -50,6 +50,15 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
     alloc = ctx.alloc();
   }
 
+  @Override
+  public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+    PgCommandCodec<?, ?> codec = inflight.peek();
+    if (codec != null) {
+      codec.handleWritabilityChanged(ctx.channel().isWritable());
+    }
+    super.channelWritabilityChanged(ctx);
+  }
+
   @Override
   public void channelRead(ChannelHandlerContext ctx, Object msg) {
     ByteBuf buff = (ByteBuf) msg;
@@ -98,6 +107,10 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
             decodeBindComplete();
             break;
           }
+          case PgProtocolConstants.MESSAGE_TYPE_COPY_DATA: {
+            decodeCopyData(in);
+            break;
+          }
           default: {
             decodeMessage(ctx, id, in);
           }
@@ -166,6 +179,18 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
         decodeNotificationResponse(ctx, in);
         break;
       }
+      case PgProtocolConstants.MESSAGE_TYPE_COPY_IN_RESPONSE: {
+        decodeCopyInResponse(in);
+        break;
+      }
+      case PgProtocolConstants.MESSAGE_TYPE_COPY_OUT_RESPONSE: {
+        decodeCopyOutResponse(in);
+        break;
+      }
+      case PgProtocolConstants.MESSAGE_TYPE_COPY_DONE: {
+        decodeCopyDone();
+        break;
+      }
       default: {
         throw new UnsupportedOperationException();
       }
@@ -182,8 +207,7 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
   }
 
   private void decodeDataRow(ByteBuf in) {
-    PgCommandCodec<?, ?> codec = inflight.peek();
-    QueryCommandBaseCodec<?, ?> cmd = (QueryCommandBaseCodec<?, ?>) codec;
+    QueryCommandBaseCodec<?, ?> cmd = inflight.peek().currentQuery();
     int len = in.readUnsignedShort();
     cmd.decoder.handleRow(len, in);
   }
@@ -429,6 +453,23 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
     inflight.peek().handleBackendKeyData(processId, secretKey);
   }
 
+  private void decodeCopyInResponse(ByteBuf in) {
+    // Per column formats are implied by the overall format
+    inflight.peek().handleCopyInResponse(DataFormat.valueOf(in.readUnsignedByte()));
+  }
+
+  private void decodeCopyOutResponse(ByteBuf in) {
+    inflight.peek().handleCopyOutResponse(DataFormat.valueOf(in.readUnsignedByte()));
+  }
+
+  private void decodeCopyData(ByteBuf in) {
+    inflight.peek().handleCopyData(in);
+  }
+
+  private void decodeCopyDone() {
+    inflight.peek().handleCopyDone();
+  }
+
   private void decodeNotificationResponse(ChannelHandlerContext ctx, ByteBuf in) {
     ctx.fireChannelRead(new Notification(in.readInt(), Util.readCStringUTF8(in), Util.readCStringUTF8(in)));
   }
@@ -22,6 +22,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.socket.SocketChannel;
+import io.vertx.pgclient.impl.command.CopyCommand;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.pgclient.impl.util.Util;
 import io.vertx.sqlclient.impl.ParamDesc;
@@ -33,6 +34,7 @@ import io.vertx.sqlclient.impl.command.CloseStatementCommand;
 import io.vertx.sqlclient.impl.command.CommandBase;
 import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
 import io.vertx.sqlclient.impl.command.InitCommand;
+import io.vertx.sqlclient.impl.command.PipelineCommand;
 import io.vertx.sqlclient.impl.command.PrepareStatementCommand;
 import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
 
@@ -60,16 +62,23 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
   private static final byte EXECUTE = 'E';
   private static final byte CLOSE = 'C';
   private static final byte SYNC = 'S';
+  private static final byte COPY_DATA = 'd';
+  private static final byte COPY_DONE = 'c';
+  private static final byte COPY_FAIL = 'f';
 
   private final ArrayDeque<PgCommandCodec<?, ?>> inflight;
   private ChannelHandlerContext ctx;
   private ByteBuf out;
   private PgDecoder dec;
   private final StringLongSequence psSeq = new StringLongSequence(); // used for generating named prepared statement name
+  final StatementDescriptorCache descriptorCache;
+  final boolean lazyRowDecoding;
 
-  PgEncoder(PgDecoder dec, ArrayDeque<PgCommandCodec<?, ?>> inflight) {
+  PgEncoder(PgDecoder dec, ArrayDeque<PgCommandCodec<?, ?>> inflight, StatementDescriptorCache descriptorCache, boolean lazyRowDecoding) {
     this.inflight = inflight;
     this.dec = dec;
+    this.descriptorCache = descriptorCache;
+    this.lazyRowDecoding = lazyRowDecoding;
   }
 
   void write(CommandBase<?> cmd) {
@@ -99,6 +108,10 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
       return new ClosePortalCommandCodec((CloseCursorCommand) cmd);
     } else if (cmd instanceof CloseStatementCommand) {
       return new CloseStatementCommandCodec((CloseStatementCommand) cmd);
+    } else if (cmd instanceof CopyCommand) {
+      return new CopyCommandCodec((CopyCommand) cmd);
+    } else if (cmd instanceof PipelineCommand) {
+      return new PipelineCommandCodec((PipelineCommand) cmd);
     }
     throw new AssertionError();
   }
@@ -396,46 +409,86 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
       out.writeLong(bind.statement);
     }
     int paramLen = paramValues.size();
+    boolean[] binaryParams = bind.binaryParams;
     out.writeShort(paramLen);
     // Parameter formats
     for (int c = 0;c < paramLen;c++) {
       // for now each format is Binary
-      out.writeShort(bind.paramTypes[c].supportsBinary ? 1 : 0);
+      out.writeShort(binaryParams[c] ? 1 : 0);
     }
     out.writeShort(paramLen);
+    DataType[] paramTypes = bind.paramTypes;
     for (int c = 0;c < paramLen;c++) {
       Object param = paramValues.getValue(c);
       if (param == null) {
         // NULL value
         out.writeInt(-1);
+      } else if (binaryParams[c]) {
+        int idx = out.writerIndex();
+        out.writeInt(0);
+        DataTypeCodec.encodeBinary(paramTypes[c], param, out);
+        out.setInt(idx, out.writerIndex() - idx - 4);
       } else {
-        DataType dataType = bind.paramTypes[c];
-        if (dataType.supportsBinary) {
-          int idx = out.writerIndex();
-          out.writeInt(0);
-          DataTypeCodec.encodeBinary(dataType, param, out);
-          out.setInt(idx, out.writerIndex() - idx - 4);
-        } else {
-          DataTypeCodec.encodeText(dataType, param, out);
-        }
+        DataTypeCodec.encodeText(paramTypes[c], param, out);
       }
     }
 
-    // MAKE resultColumsn non null to avoid null check
-
-    // Result columns are all in Binary format
-    if (bind.resultColumns.length > 0) {
-      out.writeShort(bind.resultColumns.length);
-      for (PgColumnDesc resultColumn : bind.resultColumns) {
-        out.writeShort(resultColumn.dataType.supportsBinary ? 1 : 0);
-      }
+    short[] resultFormats = bind.resultFormats;
+    if (resultFormats == null) {
+      // Not described yet, the result columns are all in Text format
+      out.writeShort(0);
     } else {
-      out.writeShort(1);
-      out.writeShort(1);
+      // Result columns are in Binary format when supported
+      out.writeShort(resultFormats.length);
+      for (short resultFormat : resultFormats) {
+        out.writeShort(resultFormat);
+      }
     }
     out.setInt(pos + 1, out.writerIndex() - pos - 1);
   }
 
+  /**
+   * <p>
+   * Send data to the backend in copy-in mode, the message boundaries are not required to have anything
+   * to do with row boundaries.
+   */
+  void writeCopyData(ByteBuf data) {
+    ensureBuffer();
+    out.writeByte(COPY_DATA);
+    out.writeInt(4 + data.readableBytes());
+    out.writeBytes(data);
+  }
+
+  /**
+   * Terminates the copy-in mode successfully, the backend responds with {@link CommandComplete}.
+   */
+  void writeCopyDone() {
+    ensureBuffer();
+    out.writeByte(COPY_DONE);
+    out.writeInt(4);
+  }
+
+  /**
+   * Aborts the copy-in mode, the backend responds with an {@link ErrorResponse} containing the {@code message}.
+   */
+  void writeCopyFail(String message) {
+    ensureBuffer();
+    int pos = out.writerIndex();
+    out.writeByte(COPY_FAIL);
+    out.writeInt(0);
+    Util.writeCStringUTF8(out, message);
+    out.setInt(pos + 1, out.writerIndex() - pos - 1);
+  }
+
+  /**
+   * Reserve {@code length} bytes for the next messages, so encoding a large batch does not grow the buffer
+   * several times.
+   */
+  void ensureWritable(int length) {
+    ensureBuffer();
+    out.ensureWritable(length);
+  }
+
   private void ensureBuffer() {
     if (out == null) {
       out = ctx.alloc().ioBuffer();
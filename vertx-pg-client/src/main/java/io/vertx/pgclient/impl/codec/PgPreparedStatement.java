@@ -28,13 +28,20 @@ class PgPreparedStatement implements PreparedStatement {
   final PgParamDesc paramDesc;
   final PgRowDesc rowDesc;
   final boolean cached;
+  // Parsed with its execution instead of a prior prepare, a cached statement is named by the codec
+  final boolean parse;
 
   PgPreparedStatement(String sql, long statement, PgParamDesc paramDesc, PgRowDesc rowDesc, boolean cached) {
+    this(sql, statement, paramDesc, rowDesc, cached, false);
+  }
+
+  PgPreparedStatement(String sql, long statement, PgParamDesc paramDesc, PgRowDesc rowDesc, boolean cached, boolean parse) {
     this.paramDesc = paramDesc;
     this.rowDesc = rowDesc;
     this.sql = sql;
     this.bind = new Bind(statement, paramDesc != null ? paramDesc.paramDataTypes() : null, rowDesc != null ? rowDesc.columns : PgColumnDesc.EMPTY_COLUMNS);
     this.cached = cached;
+    this.parse = parse;
   }
 
   @Override
@@ -54,7 +61,8 @@ class PgPreparedStatement implements PreparedStatement {
 
   @Override
   public String prepare(TupleInternal values) {
-    return paramDesc.prepare(values);
+    // Not described yet when it has no parameters
+    return paramDesc != null ? paramDesc.prepare(values) : null;
   }
 
   public boolean isCached() {
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.pgclient.impl.codec;
+
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
+import io.vertx.sqlclient.impl.command.PipelineCommand;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes the {@code Bind}/{@code Execute} messages of several extended queries followed by a single {@code Sync}.
+ * <p>
+ * The backend messages are dispatched to the codec of the query being executed, the queries are completed when
+ * the {@code ReadyForQuery} message is received. When a query fails the backend skips the following queries and
+ * rolls back the implicit transaction, so all the queries are failed with the error.
+ */
+class PipelineCommandCodec extends PgCommandCodec<Void, PipelineCommand> {
+
+  private final List<ExtendedQueryCommandCodec<?, ?>> codecs = new ArrayList<>();
+  private int current;
+  private int remaining;
+
+  PipelineCommandCodec(PipelineCommand cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode(PgEncoder encoder) {
+    for (ExtendedQueryCommand<?> queryCmd : cmd.commands()) {
+      ExtendedQueryCommandCodec<?, ?> codec = new ExtendedQueryCommandCodec<>(queryCmd);
+      codec.completionHandler = resp -> {
+        resp.cmd = (CommandBase) codec.cmd;
+        resp.fire();
+      };
+      codec.noticeHandler = noticeHandler;
+      if (codec.encodeExecution(encoder, true)) {
+        codecs.add(codec);
+      }
+    }
+    if (codecs.isEmpty()) {
+      completionHandler.handle(CommandResponse.success(null));
+      return;
+    }
+    remaining = executions(codecs.get(0));
+    encoder.writeSync();
+  }
+
+  private static int executions(ExtendedQueryCommandCodec<?, ?> codec) {
+    return codec.cmd.isBatch() ? codec.cmd.paramsList().size() : 1;
+  }
+
+  /**
+   * @return the codec of the query being executed
+   */
+  ExtendedQueryCommandCodec<?, ?> current() {
+    return codecs.get(current);
+  }
+
+  @Override
+  QueryCommandBaseCodec<?, ?> currentQuery() {
+    return current();
+  }
+
+  private void next() {
+    if (--remaining == 0 && current + 1 < codecs.size()) {
+      remaining = executions(codecs.get(++current));
+    }
+  }
+
+  @Override
+  void handleParseComplete() {
+    // Response to the Parse of an unnamed statement
+    current().handleParseComplete();
+  }
+
+  @Override
+  void handleParameterDescription(PgParamDesc paramDesc) {
+    // Response to the Describe of a statement described with its execution
+    current().handleParameterDescription(paramDesc);
+  }
+
+  @Override
+  void handleRowDescription(PgColumnDesc[] columnDescs) {
+    current().handleRowDescription(columnDescs);
+  }
+
+  @Override
+  void handleNoData() {
+    current().handleNoData();
+  }
+
+  @Override
+  void handleBindComplete() {
+    // Response to Bind
+  }
+
+  @Override
+  void handlePortalSuspended() {
+    current().handlePortalSuspended();
+    next();
+  }
+
+  @Override
+  void handleCommandComplete(int updated) {
+    current().handleCommandComplete(updated);
+    next();
+  }
+
+  @Override
+  void handleErrorResponse(ErrorResponse errorResponse) {
+    current().handleErrorResponse(errorResponse);
+    if (failure == null) {
+      failure = errorResponse.toException();
+    }
+  }
+
+  @Override
+  void handleReadyForQuery() {
+    for (ExtendedQueryCommandCodec<?, ?> codec : codecs) {
+      if (codec.failure == null) {
+        codec.failure = failure;
+      }
+      codec.handleReadyForQuery();
+    }
+    super.handleReadyForQuery();
+  }
+}
@@ -25,6 +25,8 @@ class PrepareStatementCommandCodec extends PgCommandCodec<PreparedStatement, Pre
 
   private PgParamDesc parameterDesc;
   private PgRowDesc rowDesc;
+  private StatementDescriptorCache descriptorCache;
+  private boolean described;
 
   private long statement;
 
@@ -42,9 +44,22 @@ class PrepareStatementCommandCodec extends PgCommandCodec<PreparedStatement, Pre
     }
 
     List<Class<?>> parameterTypes = cmd.parameterTypes();
-    DataType[] parameterTypes2 = parameterTypes != null ? build(parameterTypes) : null;
-    encoder.writeParse(cmd.sql(), statement, parameterTypes2);
-    encoder.writeDescribe(new Describe(statement, null));
+    if (parameterTypes == null) {
+      // Types explicitly requested by the command might differ from the types inferred by the server
+      descriptorCache = encoder.descriptorCache;
+    }
+    StatementDescriptorCache.Descriptor descriptor = descriptorCache != null ? descriptorCache.get(cmd.sql()) : null;
+    if (descriptor != null) {
+      // Already described by a connection, parse with the described types
+      described = true;
+      parameterDesc = descriptor.paramDesc;
+      rowDesc = descriptor.rowDesc;
+      encoder.writeParse(cmd.sql(), statement, parameterDesc.paramDataTypes());
+    } else {
+      DataType[] parameterTypes2 = parameterTypes != null ? build(parameterTypes) : null;
+      encoder.writeParse(cmd.sql(), statement, parameterTypes2);
+      encoder.writeDescribe(new Describe(statement, null));
+    }
     encoder.writeSync();
   }
 
@@ -85,11 +100,18 @@ class PrepareStatementCommandCodec extends PgCommandCodec<PreparedStatement, Pre
 
   @Override
   public void handleErrorResponse(ErrorResponse errorResponse) {
+    if (described) {
+      // The description might be stale
+      descriptorCache.remove(cmd.sql());
+    }
     failure = errorResponse.toException();
   }
 
   @Override
   public void handleReadyForQuery() {
+    if (failure == null && descriptorCache != null && !described) {
+      descriptorCache.put(cmd.sql(), parameterDesc, rowDesc);
+    }
     result = new PgPreparedStatement(cmd.sql(), statement, this.parameterDesc, this.rowDesc, cmd.isManaged());
     super.handleReadyForQuery();
   }
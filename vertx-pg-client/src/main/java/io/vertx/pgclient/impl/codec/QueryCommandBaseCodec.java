@@ -30,6 +30,11 @@ abstract class QueryCommandBaseCodec<T, C extends QueryCommandBase<T>> extends P
     super(cmd);
   }
 
+  @Override
+  QueryCommandBaseCodec<?, ?> currentQuery() {
+    return this;
+  }
+
   @Override
   public void handleCommandComplete(int updated) {
     this.result = false;
@@ -27,28 +27,38 @@ import java.util.stream.Collector;
 class RowResultDecoder<C, R> extends RowDecoder<C, R> {
 
   final PgRowDesc desc;
+  private final boolean lazy;
 
-  RowResultDecoder(Collector<Row, C, R> collector, PgRowDesc desc) {
+  RowResultDecoder(Collector<Row, C, R> collector, PgRowDesc desc, boolean lazy) {
     super(collector);
     this.desc = desc;
+    this.lazy = lazy;
   }
 
   @Override
   protected Row decodeRow(int len, ByteBuf in) {
-    Row row = new RowImpl(desc);
+    if (lazy) {
+      return LazyRow.decode(desc, len, in);
+    }
+    RowImpl row = new RowImpl(desc);
     for (int c = 0; c < len; ++c) {
       int length = in.readInt();
-      Object decoded = null;
       if (length != -1) {
         PgColumnDesc columnDesc = desc.columns[c];
-        if (columnDesc.dataFormat == DataFormat.BINARY) {
-          decoded = DataTypeCodec.decodeBinary(columnDesc.dataType, in.readerIndex(), length, in);
-        } else {
-          decoded = DataTypeCodec.decodeText(columnDesc.dataType, in.readerIndex(), length, in);
+        int index = in.readerIndex();
+        if (!DataTypeCodec.decodePrimitive(columnDesc.dataType, columnDesc.dataFormat, index, length, in, row)) {
+          Object decoded;
+          if (columnDesc.dataFormat == DataFormat.BINARY) {
+            decoded = DataTypeCodec.decodeBinary(columnDesc.dataType, index, length, in);
+          } else {
+            decoded = DataTypeCodec.decodeText(columnDesc.dataType, index, length, in);
+          }
+          row.addValue(decoded);
         }
         in.skipBytes(length);
+      } else {
+        row.addValue(null);
       }
-      row.addValue(decoded);
     }
     return row;
   }
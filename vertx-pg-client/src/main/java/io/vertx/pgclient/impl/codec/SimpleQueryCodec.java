@@ -24,18 +24,21 @@ class SimpleQueryCodec<T> extends QueryCommandBaseCodec<T, SimpleQueryCommand<T>
 
   private static final Logger LOGGER = LoggerFactory.getLogger(PgCommandCodec.class);
 
+  private boolean lazyRowDecoding;
+
   SimpleQueryCodec(SimpleQueryCommand<T> cmd) {
     super(cmd);
   }
 
   @Override
   void encode(PgEncoder encoder) {
+    lazyRowDecoding = encoder.lazyRowDecoding;
     encoder.writeQuery(new Query(cmd.sql()));
   }
 
   @Override
   void handleRowDescription(PgColumnDesc[] columnDescs) {
-    decoder = new RowResultDecoder<>(cmd.collector(), PgRowDesc.create(columnDescs));
+    decoder = new RowResultDecoder<>(cmd.collector(), PgRowDesc.create(columnDescs), lazyRowDecoding);
   }
 
   @Override
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.pgclient.impl.codec;
+
+import io.vertx.sqlclient.impl.PreparedStatement;
+import io.vertx.sqlclient.impl.cache.FrequencySketch;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The parameter and row descriptions of the statements, keyed by SQL and shared by the connections
+ * created by the same connection factory.
+ * <p>
+ * A connection preparing a statement already described by another connection only sends a {@code Parse}
+ * message with the parameter types of the description, so it saves the {@code Describe} round-trip and
+ * shares the descriptions instead of decoding its own copy.
+ * <p>
+ * The lookups are recorded in a {@link FrequencySketch}. When the cache is full a new description replaces the
+ * oldest one only when its statement has been looked up more often, otherwise the oldest description is given
+ * a second chance and the next admission is compared to the following one. Statements executed once do not pin
+ * the cache, and a frequently executed statement described after the cache is full is eventually shared. An entry
+ * is also removed when the statement execution reports a schema change.
+ */
+public final class StatementDescriptorCache {
+
+  static final class Descriptor {
+
+    final PgParamDesc paramDesc;
+    final PgRowDesc rowDesc;
+
+    private Descriptor(PgParamDesc paramDesc, PgRowDesc rowDesc) {
+      this.paramDesc = paramDesc;
+      this.rowDesc = rowDesc;
+    }
+  }
+
+  private final ConcurrentHashMap<String, Descriptor> map = new ConcurrentHashMap<>();
+  private final int capacity;
+  // guarded by this
+  private final FrequencySketch sketch;
+  // guarded by this, the cached SQL from the oldest to the newest
+  private final ArrayDeque<String> order = new ArrayDeque<>();
+
+  public StatementDescriptorCache(int capacity) {
+    this.capacity = capacity;
+    this.sketch = new FrequencySketch(capacity);
+  }
+
+  Descriptor get(String sql) {
+    synchronized (this) {
+      sketch.increment(sql);
+    }
+    return map.get(sql);
+  }
+
+  /**
+   * @param cached whether the statement is named and cached by the connection, otherwise it is unnamed
+   * @return a statement parsed with its execution using the description of {@code sql}, or {@code null}
+   *         when the statement has not been described
+   */
+  public PreparedStatement describedStatement(String sql, boolean cached) {
+    Descriptor descriptor = get(sql);
+    if (descriptor == null) {
+      return null;
+    }
+    return new PgPreparedStatement(sql, 0L, descriptor.paramDesc, descriptor.rowDesc, cached, true);
+  }
+
+  /**
+   * @param cached whether the statement is named and cached by the connection, otherwise it is unnamed
+   * @return a statement without parameters parsed and described with its execution, the rows of this execution
+   *         are received in text format
+   */
+  public static PreparedStatement undescribedStatement(String sql, boolean cached) {
+    return new PgPreparedStatement(sql, 0L, null, null, cached, true);
+  }
+
+  void put(String sql, PgParamDesc paramDesc, PgRowDesc rowDesc) {
+    if (paramDesc == null || capacity <= 0) {
+      return;
+    }
+    for (DataType type : paramDesc.paramDataTypes()) {
+      if (type == DataType.UNKNOWN) {
+        // The actual type OID is lost and cannot be sent in a Parse message
+        return;
+      }
+    }
+    synchronized (this) {
+      if (map.containsKey(sql)) {
+        return;
+      }
+      if (order.size() >= capacity) {
+        String victim = order.poll();
+        if (sketch.frequency(sql) <= sketch.frequency(victim)) {
+          // Second chance
+          order.add(victim);
+          return;
+        }
+        map.remove(victim);
+      }
+      order.add(sql);
+      map.put(sql, new Descriptor(paramDesc, rowDesc));
+    }
+  }
+
+  synchronized void remove(String sql) {
+    if (map.remove(sql) != null) {
+      order.remove(sql);
+    }
+  }
+
+  public int size() {
+    return map.size();
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.pgclient.impl.command;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.sqlclient.impl.command.CommandBase;
+
+/**
+ * A {@code COPY} statement streaming data from the client ({@code COPY ... FROM STDIN}) or to
+ * the client ({@code COPY ... TO STDOUT}), the result is the number of rows copied.
+ */
+public class CopyCommand extends CommandBase<Integer> {
+
+  private final String sql;
+  private final ReadStream<Buffer> from;
+  private final WriteStream<Buffer> to;
+
+  public CopyCommand(String sql, ReadStream<Buffer> from, WriteStream<Buffer> to) {
+    this.sql = sql;
+    this.from = from;
+    this.to = to;
+  }
+
+  public String sql() {
+    return sql;
+  }
+
+  /**
+   * @return the stream sending data to the server for {@code COPY ... FROM STDIN}
+   */
+  public ReadStream<Buffer> from() {
+    return from;
+  }
+
+  /**
+   * @return the stream receiving data from the server for {@code COPY ... TO STDOUT}
+   */
+  public WriteStream<Buffer> to() {
+    return to;
+  }
+}
@@ -17,6 +17,7 @@
 
 package io.vertx.pgclient;
 
+import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.SqlResult;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.ext.unit.Async;
@@ -47,6 +48,27 @@ public class PgConnectionTest extends PgConnectionTestBase {
     }));
   }
 
+  @Test
+  public void testLazyRowDecoding(TestContext ctx) {
+    options.setLazyRowDecoding(true);
+    connector.accept(ctx.asyncAssertSuccess(conn -> {
+      conn.query("SELECT 1::INT4 \"a\", NULL::TEXT \"b\", 'foo'::TEXT \"c\"").execute(ctx.asyncAssertSuccess(res1 -> {
+        Row row1 = res1.iterator().next();
+        ctx.assertEquals("foo", row1.getString("c"));
+        ctx.assertNull(row1.getString("b"));
+        ctx.assertEquals(1, row1.getInteger("a"));
+        ctx.assertEquals(3, row1.size());
+        conn.preparedQuery("SELECT $1::INT4 \"a\", NULL::TEXT \"b\", $2::TEXT \"c\"").execute(Tuple.of(2, "bar"), ctx.asyncAssertSuccess(res2 -> {
+          Row row2 = res2.iterator().next();
+          ctx.assertEquals("bar", row2.getString("c"));
+          ctx.assertNull(row2.getValue("b"));
+          ctx.assertEquals(2, row2.getInteger("a"));
+          conn.close();
+        }));
+      }));
+    }));
+  }
+
   @Test
   public void testBatchUpdate(TestContext ctx) {
     Async async = ctx.async();
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.pgclient;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+
+public class PgCopyTest extends PgTestBase {
+
+  Vertx vertx;
+
+  @Before
+  public void setup() throws Exception {
+    super.setup();
+    vertx = Vertx.vertx();
+  }
+
+  @After
+  public void teardown(TestContext ctx) {
+    vertx.close(ctx.asyncAssertSuccess());
+  }
+
+  private AsyncFile tempFile(Buffer content) throws Exception {
+    File file = File.createTempFile("copy", ".csv");
+    file.deleteOnExit();
+    vertx.fileSystem().writeFileBlocking(file.getAbsolutePath(), content);
+    return vertx.fileSystem().openBlocking(file.getAbsolutePath(), new OpenOptions());
+  }
+
+  @Test
+  public void testCopyFromAndTo(TestContext ctx) throws Exception {
+    Buffer data = Buffer.buffer();
+    for (int i = 0;i < 1000;i++) {
+      data.appendString(i + ",Whatever-" + i + "\n");
+    }
+    AsyncFile source = tempFile(data);
+    AsyncFile destination = tempFile(Buffer.buffer());
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      deleteFromTestTable(ctx, conn, () -> {
+        conn.copyFrom("COPY Test FROM STDIN WITH (FORMAT csv)", source, ctx.asyncAssertSuccess(copied -> {
+          ctx.assertEquals(1000, copied);
+          conn.copyTo("COPY (SELECT id, val FROM Test ORDER BY id) TO STDOUT WITH (FORMAT csv)", destination, ctx.asyncAssertSuccess(copiedOut -> {
+            ctx.assertEquals(1000, copiedOut);
+            destination.close(ctx.asyncAssertSuccess(v -> {
+              async.complete();
+            }));
+          }));
+        }));
+      });
+    }));
+  }
+
+  @Test
+  public void testCopyFromInvalidData(TestContext ctx) throws Exception {
+    AsyncFile source = tempFile(Buffer.buffer("not-a-number,Whatever\n"));
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.copyFrom("COPY Test FROM STDIN WITH (FORMAT csv)", source, ctx.asyncAssertFailure(err -> {
+        ctx.assertEquals("22P02", ((PgException) err).getCode());
+        // The connection is usable after a failed copy
+        conn.query("SELECT 1").execute(ctx.asyncAssertSuccess(res -> async.complete()));
+      }));
+    }));
+  }
+
+  @Test
+  public void testQueriesAfterCopyArePipelined(TestContext ctx) throws Exception {
+    AsyncFile source = tempFile(Buffer.buffer("0,Whatever-0\n"));
+    Async async = ctx.async(2);
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      deleteFromTestTable(ctx, conn, () -> {
+        conn.copyFrom("COPY Test FROM STDIN WITH (FORMAT csv)", source, ctx.asyncAssertSuccess(copied -> {
+          ctx.assertEquals(1, copied);
+          async.countDown();
+        }));
+        conn.query("SELECT COUNT(*) FROM Test").execute(ctx.asyncAssertSuccess(res -> {
+          ctx.assertEquals(1L, res.iterator().next().getLong(0));
+          async.countDown();
+        }));
+      });
+    }));
+  }
+}
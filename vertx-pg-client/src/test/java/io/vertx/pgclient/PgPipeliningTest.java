@@ -20,10 +20,14 @@ package io.vertx.pgclient;
 import io.vertx.core.Vertx;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
+import io.vertx.sqlclient.Pipeline;
 import io.vertx.sqlclient.Tuple;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.BiConsumer;
 
 /**
@@ -64,6 +68,91 @@ public class PgPipeliningTest extends PgTestBase {
     });
   }
 
+  @Test
+  public void testPipeline(TestContext ctx) {
+    testPipeline(ctx, new PgConnectOptions(options));
+  }
+
+  @Test
+  public void testPipelineWithCachedStatements(TestContext ctx) {
+    testPipeline(ctx, new PgConnectOptions(options).setCachePreparedStatements(true));
+  }
+
+  private void testPipeline(TestContext ctx, PgConnectOptions options) {
+    Async async = ctx.async(2);
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      for (int i = 0;i < 2;i++) {
+        List<Integer> order = new ArrayList<>();
+        Pipeline pipeline = conn.pipeline();
+        pipeline
+          .preparedQuery("SELECT $1 :: INT4")
+          .execute(Tuple.of(1), ctx.asyncAssertSuccess(res -> {
+            ctx.assertEquals(1, res.iterator().next().getInteger(0));
+            order.add(0);
+          }));
+        pipeline
+          .preparedQuery("SELECT $1 :: VARCHAR")
+          .execute(Tuple.of("two"), ctx.asyncAssertSuccess(res -> {
+            ctx.assertEquals("two", res.iterator().next().getString(0));
+            order.add(1);
+          }));
+        pipeline
+          .preparedQuery("SELECT $1 :: INT4 * 2")
+          .executeBatch(Arrays.asList(Tuple.of(3), Tuple.of(4)), ctx.asyncAssertSuccess(res -> {
+            ctx.assertEquals(6, res.iterator().next().getInteger(0));
+            ctx.assertEquals(8, res.next().iterator().next().getInteger(0));
+            order.add(2);
+          }));
+        pipeline.execute(ctx.asyncAssertSuccess(v -> {
+          ctx.assertEquals(Arrays.asList(0, 1, 2), order);
+          async.countDown();
+        }));
+      }
+    }));
+  }
+
+  @Test
+  public void testPipelineFailure(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      deleteFromTestTable(ctx, conn, () -> {
+        Pipeline pipeline = conn.pipeline();
+        pipeline
+          .preparedQuery("INSERT INTO Test (id, val) VALUES ($1, $2)")
+          .execute(Tuple.of(1, "Whatever"), ctx.asyncAssertFailure());
+        pipeline
+          .preparedQuery("SELECT 1 / $1 :: INT4")
+          .execute(Tuple.of(0), ctx.asyncAssertFailure(err -> {
+            ctx.assertEquals("22012", ((PgException) err).getCode());
+          }));
+        pipeline
+          .preparedQuery("SELECT $1 :: INT4")
+          .execute(Tuple.of(1), ctx.asyncAssertFailure());
+        pipeline.execute(ctx.asyncAssertFailure(err -> {
+          // The insert has been rolled back
+          conn.query("SELECT count(*) FROM Test").execute(ctx.asyncAssertSuccess(res -> {
+            ctx.assertEquals(0L, res.iterator().next().getLong(0));
+            async.complete();
+          }));
+        }));
+      });
+    }));
+  }
+
+  @Test
+  public void testPipelineExecutedOnce(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      Pipeline pipeline = conn.pipeline();
+      pipeline.preparedQuery("SELECT 1").execute(ctx.asyncAssertSuccess());
+      pipeline.execute(ctx.asyncAssertSuccess(v -> {
+        pipeline.preparedQuery("SELECT 1").execute(ctx.asyncAssertFailure(err1 -> {
+          pipeline.execute(ctx.asyncAssertFailure(err2 -> async.complete()));
+        }));
+      }));
+    }));
+  }
+
   public void repeat(TestContext ctx, BiConsumer<PgConnection, Async> operation) {
     int times = 128;
     Async async = ctx.async(times);
@@ -17,14 +17,26 @@
 
 package io.vertx.pgclient;
 
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
+import org.junit.Assume;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -110,6 +122,55 @@ public class PgPoolTest extends PgPoolTestBase {
     }));
   }
 
+  @Test
+  public void testEventLoopSize(TestContext ctx) {
+    VertxInternal vertxInternal = (VertxInternal) vertx;
+    List<EventLoop> eventLoops = new ArrayList<>();
+    for (EventExecutor executor : vertxInternal.getEventLoopGroup()) {
+      eventLoops.add((EventLoop) executor);
+    }
+    Assume.assumeTrue(eventLoops.size() >= 2);
+    // The contexts running on the event loops of the two slices
+    Context[] contexts = new Context[2];
+    for (int i = 0;i < 2;i++) {
+      contexts[i] = vertxInternal.createEventLoopContext(eventLoops.get(i), null, Thread.currentThread().getContextClassLoader());
+    }
+    Async async = ctx.async();
+    contexts[0].runOnContext(v1 -> {
+      PgPool pool = createPool(options, new PoolOptions().setMaxSize(2).setEventLoopSize(2));
+      backendPids(ctx, pool, contexts[0], 5, ctx.asyncAssertSuccess(pids0 -> {
+        backendPids(ctx, pool, contexts[1], 5, ctx.asyncAssertSuccess(pids1 -> {
+          // Each context is served by the connection of its own slice
+          ctx.assertEquals(1, pids0.size());
+          ctx.assertEquals(1, pids1.size());
+          ctx.assertNotEquals(pids0, pids1);
+          async.complete();
+        }));
+      }));
+    });
+  }
+
+  /**
+   * Execute {@code num} queries one after the other on {@code context}, the handler is called with the backend
+   * process ids of the connections which served them.
+   */
+  private void backendPids(TestContext ctx, PgPool pool, Context context, int num, Handler<AsyncResult<Set<Integer>>> handler) {
+    Set<Integer> pids = new HashSet<>();
+    context.runOnContext(v -> backendPids(ctx, pool, context, num, pids, handler));
+  }
+
+  private void backendPids(TestContext ctx, PgPool pool, Context context, int num, Set<Integer> pids, Handler<AsyncResult<Set<Integer>>> handler) {
+    if (num == 0) {
+      handler.handle(Future.succeededFuture(pids));
+      return;
+    }
+    pool.query("SELECT pg_backend_pid()").execute(ctx.asyncAssertSuccess(res -> {
+      ctx.assertEquals(context, Vertx.currentContext());
+      pids.add(res.iterator().next().getInteger(0));
+      backendPids(ctx, pool, context, num - 1, pids, handler);
+    }));
+  }
+
   @Test
   public void testRunWithExisting(TestContext ctx) {
     Async async = ctx.async();
@@ -144,6 +205,7 @@ public class PgPoolTest extends PgPoolTestBase {
     try {
       pool.getConnection(ctx.asyncAssertSuccess(v -> {
         pool.getConnection(ctx.asyncAssertFailure(err -> {
+          ctx.assertEquals(1, pool.rejectedRequests());
           async.complete();
         }));
       }));
@@ -153,6 +215,26 @@ public class PgPoolTest extends PgPoolTestBase {
     }
   }
 
+  @Test
+  public void testConnectionTimeoutDuringConnectionCreation(TestContext ctx) {
+    Async async = ctx.async();
+    ProxyServer proxy = ProxyServer.create(vertx, options.getPort(), options.getHost());
+    // The connections are never established
+    proxy.proxyHandler(conn -> {});
+    proxy.listen(8080, "localhost", ctx.asyncAssertSuccess(v1 -> {
+      PgPool pool = createPool(new PgConnectOptions(options).setPort(8080).setHost("localhost"),
+        new PoolOptions()
+          .setMaxSize(1)
+          .setConnectionTimeout(200)
+          .setConnectionTimeoutUnit(TimeUnit.MILLISECONDS)
+      );
+      pool.getConnection(ctx.asyncAssertFailure(err -> {
+        ctx.assertEquals(1, pool.timedOutRequests());
+        async.complete();
+      }));
+    }));
+  }
+
   // This test check that when using pooled connections, the preparedQuery pool operation
   // will actually use the same connection for the prepare and the query commands
   @Test
@@ -19,6 +19,7 @@ package io.vertx.pgclient;
 
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
+import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.Tuple;
 import org.junit.Ignore;
@@ -63,6 +64,27 @@ public class PreparedStatementCachedTest extends PreparedStatementTestBase {
     }));
   }
 
+  @Test
+  public void testSharedStatementDescription(TestContext ctx) {
+    Async async = ctx.async();
+    PgPool pool = PgPool.pool(vertx, options(), new PoolOptions().setMaxSize(2));
+    pool.getConnection(ctx.asyncAssertSuccess(conn1 -> {
+      pool.getConnection(ctx.asyncAssertSuccess(conn2 -> {
+        conn1.preparedQuery("SELECT id, randomnumber FROM World WHERE id=$1").execute(Tuple.of(1), ctx.asyncAssertSuccess(res1 -> {
+          ctx.assertEquals(1, res1.size());
+          // Described by the first connection
+          conn2.preparedQuery("SELECT id, randomnumber FROM World WHERE id=$1").execute(Tuple.of(1), ctx.asyncAssertSuccess(res2 -> {
+            ctx.assertEquals(1, res2.size());
+            Row row = res2.iterator().next();
+            ctx.assertEquals(1, row.getInteger("id"));
+            ctx.assertEquals(res1.iterator().next().getInteger("randomnumber"), row.getInteger("randomnumber"));
+            pool.close(ctx.asyncAssertSuccess(v -> async.complete()));
+          }));
+        }));
+      }));
+    }));
+  }
+
   @Test
   public void testMaxPreparedStatementEviction(TestContext ctx) {
     testPreparedStatements(ctx, options().setCachePreparedStatements(true).setPreparedStatementCacheMaxSize(16), 128, 16);
@@ -81,6 +103,114 @@ public class PreparedStatementCachedTest extends PreparedStatementTestBase {
       .setPreparedStatementCacheSqlFilter(sql -> count.getAndIncrement() % 2 == 0), 128, 64);
   }
 
+  @Test
+  public void testPreparedStatementCacheThreshold(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options().setPreparedStatementCacheThreshold(3), ctx.asyncAssertSuccess(conn -> {
+      conn.preparedQuery("SELECT $1 :: INT4").execute(Tuple.of(1), ctx.asyncAssertSuccess(res1 -> {
+        conn.preparedQuery("SELECT $1 :: INT4").execute(Tuple.of(2), ctx.asyncAssertSuccess(res2 -> {
+          ctx.assertEquals(2, res2.iterator().next().getInteger(0));
+          conn.query("SELECT * FROM pg_prepared_statements").execute(ctx.asyncAssertSuccess(notCached -> {
+            ctx.assertEquals(0, notCached.size());
+            conn.preparedQuery("SELECT $1 :: INT4").execute(Tuple.of(3), ctx.asyncAssertSuccess(res3 -> {
+              ctx.assertEquals(3, res3.iterator().next().getInteger(0));
+              conn.query("SELECT * FROM pg_prepared_statements").execute(ctx.asyncAssertSuccess(cached -> {
+                ctx.assertEquals(1, cached.size());
+                conn.close(ctx.asyncAssertSuccess(v -> async.complete()));
+              }));
+            }));
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testDescribedStatementsBelowThreshold(TestContext ctx) {
+    int num = 32;
+    Async async = ctx.async(num);
+    PgConnectOptions options = options().setPreparedStatementCacheThreshold(PgConnectOptions.MAX_PREPARED_STATEMENT_CACHE_THRESHOLD);
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.preparedQuery("SELECT $1 :: INT4, $2 :: VARCHAR").execute(Tuple.of(0, "0"), ctx.asyncAssertSuccess(res -> {
+        // Described statements executed with the unnamed statement
+        for (int i = 0;i < num;i++) {
+          int val = i;
+          String sql = i % 2 == 0 ? "SELECT $1 :: INT4, $2 :: VARCHAR" : "SELECT $2 :: VARCHAR, $1 :: INT4";
+          conn.preparedQuery(sql).execute(Tuple.of(val, "" + val), ctx.asyncAssertSuccess(res2 -> {
+            Row row = res2.iterator().next();
+            ctx.assertEquals(val, row.getInteger(val % 2 == 0 ? 0 : 1));
+            ctx.assertEquals("" + val, row.getString(val % 2 == 0 ? 1 : 0));
+            async.countDown();
+          }));
+        }
+      }));
+    }));
+  }
+
+  @Test
+  public void testStatementWithoutParametersDescribedWithExecution(TestContext ctx) {
+    Async async = ctx.async();
+    String sql = "SELECT id, randomnumber, 'fortune' :: TEXT, 1.5 :: NUMERIC FROM World WHERE id = 1";
+    PgConnection.connect(vertx, options(), ctx.asyncAssertSuccess(conn -> {
+      // The first execution receives the rows in text format
+      conn.preparedQuery(sql).execute(ctx.asyncAssertSuccess(res1 -> {
+        ctx.assertEquals(1, res1.size());
+        Row row1 = res1.iterator().next();
+        conn.preparedQuery(sql).execute(ctx.asyncAssertSuccess(res2 -> {
+          ctx.assertEquals(1, res2.size());
+          Row row2 = res2.iterator().next();
+          ctx.assertEquals(1, row2.getInteger(0));
+          ctx.assertEquals(row1.getInteger(1), row2.getInteger(1));
+          ctx.assertEquals("fortune", row1.getString(2));
+          ctx.assertEquals(row1.getString(2), row2.getString(2));
+          ctx.assertEquals(row1.getValue(3), row2.getValue(3));
+          conn.query("SELECT * FROM pg_prepared_statements").execute(ctx.asyncAssertSuccess(cached -> {
+            ctx.assertEquals(1, cached.size());
+            conn.close(ctx.asyncAssertSuccess(v -> async.complete()));
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testStatementParsedByConcurrentExecutions(TestContext ctx) {
+    int num = 8;
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options(), ctx.asyncAssertSuccess(conn -> {
+      AtomicInteger count = new AtomicInteger(num);
+      // Sent together, each execution parses its own statement and only one is kept in the cache
+      for (int i = 0;i < num;i++) {
+        conn.preparedQuery("SELECT 1").execute(ctx.asyncAssertSuccess(res -> {
+          ctx.assertEquals(1, res.iterator().next().getInteger(0));
+          if (count.decrementAndGet() == 0) {
+            conn.query("SELECT * FROM pg_prepared_statements").execute(ctx.asyncAssertSuccess(cached -> {
+              ctx.assertEquals(1, cached.size());
+              conn.close(ctx.asyncAssertSuccess(v -> async.complete()));
+            }));
+          }
+        }));
+      }
+    }));
+  }
+
+  @Test
+  public void testPreparedStatementCacheCounters(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options(), ctx.asyncAssertSuccess(conn -> {
+      conn.preparedQuery("SELECT $1 :: INT4").execute(Tuple.of(1), ctx.asyncAssertSuccess(res1 -> {
+        ctx.assertEquals(0L, conn.preparedStatementCacheHits());
+        ctx.assertEquals(1L, conn.preparedStatementCacheMisses());
+        conn.preparedQuery("SELECT $1 :: INT4").execute(Tuple.of(2), ctx.asyncAssertSuccess(res2 -> {
+          ctx.assertEquals(1L, conn.preparedStatementCacheHits());
+          ctx.assertEquals(1L, conn.preparedStatementCacheMisses());
+          ctx.assertEquals(0L, conn.preparedStatementCacheEvictions());
+          conn.close(ctx.asyncAssertSuccess(v -> async.complete()));
+        }));
+      }));
+    }));
+  }
+
   private void testPreparedStatements(TestContext ctx, PgConnectOptions options, int num, int expected) {
     Async async = ctx.async();
     PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
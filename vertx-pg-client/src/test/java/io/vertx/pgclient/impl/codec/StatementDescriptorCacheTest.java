@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class StatementDescriptorCacheTest {
+
+  /**
+   * Prepare a statement like a connection: lookup the description and describe the statement when it is missing.
+   */
+  private static void prepare(StatementDescriptorCache cache, String sql) {
+    if (cache.get(sql) == null) {
+      cache.put(sql, new PgParamDesc(new DataType[] { DataType.INT4 }), PgRowDesc.create(new PgColumnDesc[0]));
+    }
+  }
+
+  @Test
+  public void testCapacity() {
+    StatementDescriptorCache cache = new StatementDescriptorCache(16);
+    for (int i = 0;i < 128;i++) {
+      prepare(cache, "SELECT " + i);
+    }
+    assertEquals(16, cache.size());
+  }
+
+  @Test
+  public void testHotStatementSharedAfterCacheIsFull() {
+    StatementDescriptorCache cache = new StatementDescriptorCache(16);
+    for (int i = 0;i < 16;i++) {
+      prepare(cache, "SELECT cold " + i);
+    }
+    assertEquals(16, cache.size());
+    for (int i = 0;i < 4;i++) {
+      prepare(cache, "SELECT hot");
+    }
+    assertNotNull(cache.describedStatement("SELECT hot", true));
+    assertEquals(16, cache.size());
+  }
+
+  @Test
+  public void testHotStatementsSurviveBurst() {
+    StatementDescriptorCache cache = new StatementDescriptorCache(16);
+    for (int j = 0;j < 4;j++) {
+      for (int i = 0;i < 8;i++) {
+        prepare(cache, "SELECT hot " + i);
+      }
+    }
+    // One-off statements while the hot statements keep being used
+    for (int i = 0;i < 1000;i++) {
+      prepare(cache, "SELECT cold " + i);
+      if (i % 20 == 0) {
+        for (int j = 0;j < 8;j++) {
+          prepare(cache, "SELECT hot " + j);
+        }
+      }
+    }
+    for (int i = 0;i < 8;i++) {
+      assertNotNull(cache.describedStatement("SELECT hot " + i, true));
+    }
+    assertEquals(16, cache.size());
+  }
+
+  @Test
+  public void testRemove() {
+    StatementDescriptorCache cache = new StatementDescriptorCache(4);
+    for (int i = 0;i < 4;i++) {
+      prepare(cache, "SELECT " + i);
+    }
+    cache.remove("SELECT 0");
+    assertNull(cache.describedStatement("SELECT 0", true));
+    assertEquals(3, cache.size());
+    prepare(cache, "SELECT 4");
+    assertNotNull(cache.describedStatement("SELECT 4", true));
+    assertEquals(4, cache.size());
+  }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.db2client.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.db2client.DB2ConnectOptions;
+import io.vertx.db2client.impl.DB2DatabaseMetadata;
+import io.vertx.db2client.impl.DB2SocketConnection;
+import io.vertx.db2client.impl.drda.CodePoint;
+import io.vertx.db2client.impl.drda.DRDAConstants;
+import io.vertx.sqlclient.benchmarks.CodecBenchmarkBase;
+import io.vertx.sqlclient.benchmarks.DecodedCounters;
+import io.vertx.sqlclient.benchmarks.ResultShape;
+import io.vertx.sqlclient.benchmarks.RowCounter;
+import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Benchmarks the DRDA codec of the DB2 client with simple queries.
+ * <p>
+ * The reply to the {@code PRPSQLSTT/OPNQRY} request is the one of a DB2 for LUW server (little endian numbers):
+ * an {@code SQLDARD} describing the columns, an {@code OPNQRYRM} followed by the {@code QRYDSC} of the rows,
+ * the rows in {@code QRYDTA} query blocks and the {@code ENDQRYRM/SQLCARD} of the end of the query.
+ */
+public class DB2CodecBenchmark extends CodecBenchmarkBase {
+
+  private static final int RPYDSS = 0x02;
+  private static final int OBJDSS = 0x03;
+  private static final int CHAINED = 0x40;
+  private static final int CHAINED_SAME_ID = 0x50;
+
+  // Package private in CodePoint
+  private static final int OPNQRYRM = 0x2205;
+  private static final int ENDQRYRM = 0x220B;
+  private static final int QRYDSC = 0x241A;
+  private static final int QRYDTA = 0x241B;
+
+  private static final int CCSID_UTF8 = 1208;
+  private static final int VARCHAR_LENGTH = 255;
+
+  // DSS header and QRYDTA length/code point
+  private static final int QUERY_BLOCK_DATA_SIZE = DB2ConnectOptions.DEFAULT_QUERY_BLOCK_SIZE - 10;
+
+  @Param({"WORLD", "FORTUNE", "WIDE"})
+  public ResultShape shape;
+
+  @Param({"1", "100", "10000"})
+  public int rows;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    DB2SocketConnection connection = new DB2SocketConnection(null, false, 0, null, DB2ConnectOptions.DEFAULT_PREPARED_STATEMENT_CACHE_THRESHOLD, 1,
+        DB2ConnectOptions.DEFAULT_MAX_LARGE_PACKAGES, DB2ConnectOptions.DEFAULT_QUERY_BLOCK_SIZE, DB2ConnectOptions.DEFAULT_MAX_EXTRA_QUERY_BLOCKS, null);
+    connection.connMetadata.databaseName = "benchmark";
+    connection.connMetadata.dbMetadata = new DB2DatabaseMetadata("SQL11050");
+    channel = new EmbeddedChannel(new DB2Codec(connection));
+    response = Unpooled.directBuffer();
+
+    // Reply to PRPSQLSTT
+    int dss = startDss(OBJDSS | CHAINED, 1);
+    writeSQLDARD();
+    endDss(dss);
+
+    // Reply to OPNQRY
+    dss = startDss(RPYDSS | CHAINED_SAME_ID, 2);
+    int ddm = startDdm(OPNQRYRM);
+    response.writeShort(6);
+    response.writeShort(CodePoint.SVRCOD);
+    response.writeShort(CodePoint.SVRCOD_INFO);
+    response.writeShort(6);
+    response.writeShort(CodePoint.QRYPRCTYP);
+    response.writeShort(CodePoint.LMTBLKPRC);
+    response.writeShort(12);
+    response.writeShort(CodePoint.QRYINSID);
+    response.writeLongLE(1L);
+    endDdm(ddm);
+    endDss(dss);
+    dss = startDss(OBJDSS | CHAINED_SAME_ID, 2);
+    writeQRYDSC();
+    endDss(dss);
+    ByteBuf data = Unpooled.buffer();
+    for (int row = 0;row < rows;row++) {
+      writeRow(data, row);
+    }
+    while (data.isReadable()) {
+      dss = startDss(OBJDSS | CHAINED_SAME_ID, 2);
+      ddm = startDdm(QRYDTA);
+      response.writeBytes(data, Math.min(data.readableBytes(), QUERY_BLOCK_DATA_SIZE));
+      endDdm(ddm);
+      endDss(dss);
+    }
+    data.release();
+    dss = startDss(RPYDSS | CHAINED_SAME_ID, 2);
+    ddm = startDdm(ENDQRYRM);
+    response.writeShort(6);
+    response.writeShort(CodePoint.SVRCOD);
+    response.writeShort(CodePoint.SVRCOD_WARNING);
+    endDdm(ddm);
+    endDss(dss);
+    dss = startDss(OBJDSS, 2);
+    ddm = startDdm(CodePoint.SQLCARD);
+    writeSQLCAGRP(100, "02000");
+    endDdm(ddm);
+    endDss(dss);
+  }
+
+  private int startDss(int format, int correlationId) {
+    int start = response.writerIndex();
+    response.writeShort(0);
+    response.writeByte(0xD0);
+    response.writeByte(format);
+    response.writeShort(correlationId);
+    return start;
+  }
+
+  private void endDss(int start) {
+    response.setShort(start, response.writerIndex() - start);
+  }
+
+  private int startDdm(int codePoint) {
+    int start = response.writerIndex();
+    response.writeShort(0);
+    response.writeShort(codePoint);
+    return start;
+  }
+
+  private void endDdm(int start) {
+    response.setShort(start, response.writerIndex() - start);
+  }
+
+  private void writeSQLCAGRP(int sqlCode, String sqlState) {
+    response.writeByte(0); // not null
+    response.writeIntLE(sqlCode);
+    response.writeCharSequence(sqlState, StandardCharsets.US_ASCII);
+    response.writeCharSequence("SQLRI01F", StandardCharsets.US_ASCII);
+    response.writeByte(CodePoint.NULLDATA); // SQLCAXGRP
+    response.writeByte(CodePoint.NULLDATA); // SQLDIAGGRP
+  }
+
+  private void writeSQLDARD() {
+    int ddm = startDdm(CodePoint.SQLDARD);
+    writeSQLCAGRP(0, "00000");
+    response.writeByte(CodePoint.NULLDATA); // SQLDHGRP
+    response.writeShortLE(shape.columnCount());
+    for (int col = 0;col < shape.columnCount();col++) {
+      ResultShape.ColumnKind kind = shape.columnKind(col);
+      // SQLDAGRP
+      response.writeShortLE(0); // precision
+      response.writeShortLE(0); // scale
+      response.writeLongLE(fdocaLength(kind));
+      response.writeShortLE(sqlType(kind));
+      response.writeShort(kind == ResultShape.ColumnKind.TEXT ? CCSID_UTF8 : 0);
+      // SQLDOPTGRP
+      response.writeByte(0);
+      response.writeShortLE(0); // unnamed
+      byte[] name = shape.columnName(col).getBytes(StandardCharsets.UTF_8);
+      response.writeShort(name.length);
+      response.writeBytes(name);
+      response.writeShort(0);
+      response.writeInt(0); // label
+      response.writeInt(0); // comments
+      response.writeByte(CodePoint.NULLDATA); // SQLUDTGRP
+      response.writeByte(CodePoint.NULLDATA); // SQLDXGRP
+    }
+    endDdm(ddm);
+  }
+
+  private void writeQRYDSC() {
+    int ddm = startDdm(QRYDSC);
+    // SQLDTAGRP
+    response.writeByte(3 + 3 * shape.columnCount());
+    response.writeByte(0x76); // N-GDA
+    response.writeByte(0xD0);
+    for (int col = 0;col < shape.columnCount();col++) {
+      ResultShape.ColumnKind kind = shape.columnKind(col);
+      response.writeByte(fdocaType(kind));
+      response.writeShort(fdocaLength(kind));
+    }
+    // SQLCADTA
+    response.writeBytes(new byte[] { 0x09, 0x71, (byte) 0xE0, 0x54, 0x00, 0x01, (byte) 0xD0, 0x00, 0x01 });
+    // SQLDTARD
+    response.writeBytes(new byte[] { 0x06, 0x71, (byte) 0xF0, (byte) 0xE0, 0x00, 0x00 });
+    endDdm(ddm);
+  }
+
+  private static int sqlType(ResultShape.ColumnKind kind) {
+    switch (kind) {
+      case INT:
+        return DRDAConstants.DB2_SQLTYPE_INTEGER;
+      case BIGINT:
+        return DRDAConstants.DB2_SQLTYPE_BIGINT;
+      case DOUBLE:
+        return DRDAConstants.DB2_SQLTYPE_FLOAT;
+      default:
+        return DRDAConstants.DB2_SQLTYPE_VARCHAR;
+    }
+  }
+
+  private static int fdocaType(ResultShape.ColumnKind kind) {
+    switch (kind) {
+      case INT:
+        return 0x02; // 4-byte int
+      case BIGINT:
+        return 0x16; // big int
+      case DOUBLE:
+        return 0x0A; // 8-byte bin float
+      default:
+        return 0x32; // var char SBCS
+    }
+  }
+
+  private static int fdocaLength(ResultShape.ColumnKind kind) {
+    switch (kind) {
+      case INT:
+        return 4;
+      case BIGINT:
+      case DOUBLE:
+        return 8;
+      default:
+        return VARCHAR_LENGTH;
+    }
+  }
+
+  private void writeRow(ByteBuf data, int row) {
+    data.writeByte(CodePoint.NULLDATA); // SQLCAGRP
+    data.writeByte(0); // SQLDTAGRP
+    for (int col = 0;col < shape.columnCount();col++) {
+      switch (shape.columnKind(col)) {
+        case INT:
+          data.writeIntLE(shape.intValue(row, col));
+          break;
+        case BIGINT:
+          data.writeLongLE(shape.longValue(row, col));
+          break;
+        case DOUBLE:
+          data.writeLongLE(Double.doubleToLongBits(shape.doubleValue(row, col)));
+          break;
+        default:
+          byte[] text = shape.textValue(row, col).getBytes(StandardCharsets.UTF_8);
+          data.writeShort(text.length);
+          data.writeBytes(text);
+          break;
+      }
+    }
+  }
+
+  @Benchmark
+  public RowCounter query(DecodedCounters counters) {
+    return execute(new SimpleQueryCommand<>(shape.sql(), false, true, RowCounter.COLLECTOR, capture), counters);
+  }
+}
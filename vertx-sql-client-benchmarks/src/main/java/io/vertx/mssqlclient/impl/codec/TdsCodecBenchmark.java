@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.mssqlclient.impl.protocol.MessageStatus;
+import io.vertx.mssqlclient.impl.protocol.MessageType;
+import io.vertx.mssqlclient.impl.protocol.TdsPacket;
+import io.vertx.mssqlclient.impl.protocol.client.login.LoginPacket;
+import io.vertx.mssqlclient.impl.protocol.datatype.MSSQLDataTypeId;
+import io.vertx.mssqlclient.impl.protocol.token.DataPacketStreamTokenType;
+import io.vertx.sqlclient.benchmarks.CodecBenchmarkBase;
+import io.vertx.sqlclient.benchmarks.DecodedCounters;
+import io.vertx.sqlclient.benchmarks.ResultShape;
+import io.vertx.sqlclient.benchmarks.RowCounter;
+import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Benchmarks the TDS codec of the SQL Server client with SQL batch requests, the tabular result is split
+ * in packets of the default packet size.
+ */
+public class TdsCodecBenchmark extends CodecBenchmarkBase {
+
+  @Param({"WORLD", "FORTUNE", "WIDE"})
+  public ResultShape shape;
+
+  @Param({"1", "100", "10000"})
+  public int rows;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    channel = new EmbeddedChannel();
+    channel.pipeline().addLast("handler", new ChannelInboundHandlerAdapter());
+    MSSQLCodec.initPipeLine(channel.pipeline(), LoginPacket.DEFAULT_PACKET_SIZE);
+    ByteBuf message = Unpooled.buffer();
+    writeColMetadata(message);
+    for (int row = 0;row < rows;row++) {
+      writeRow(message, row);
+    }
+    message.writeByte(DataPacketStreamTokenType.DONE_TOKEN);
+    message.writeShortLE(0x10); // DONE_COUNT
+    message.writeShortLE(0xC1); // SELECT
+    message.writeLongLE(rows);
+    response = packetize(message);
+  }
+
+  private void writeColMetadata(ByteBuf message) {
+    message.writeByte(DataPacketStreamTokenType.COLMETADATA_TOKEN);
+    message.writeShortLE(shape.columnCount());
+    for (int col = 0;col < shape.columnCount();col++) {
+      message.writeIntLE(0); // user type
+      message.writeShortLE(0x0001); // nullable
+      switch (shape.columnKind(col)) {
+        case INT:
+          message.writeByte(MSSQLDataTypeId.INTNTYPE_ID);
+          message.writeByte(4);
+          break;
+        case BIGINT:
+          message.writeByte(MSSQLDataTypeId.INTNTYPE_ID);
+          message.writeByte(8);
+          break;
+        case DOUBLE:
+          message.writeByte(MSSQLDataTypeId.FLTNTYPE_ID);
+          message.writeByte(8);
+          break;
+        default:
+          message.writeByte(MSSQLDataTypeId.BIGVARCHRTYPE_ID);
+          message.writeShortLE(255);
+          message.writeShortLE(0x0409); // collation code page
+          message.writeShortLE(0x00D0); // collation flags
+          message.writeByte(0x34); // collation charset id
+          break;
+      }
+      String name = shape.columnName(col);
+      message.writeByte(name.length());
+      message.writeCharSequence(name, StandardCharsets.UTF_16LE);
+    }
+  }
+
+  private void writeRow(ByteBuf message, int row) {
+    message.writeByte(DataPacketStreamTokenType.ROW_TOKEN);
+    for (int col = 0;col < shape.columnCount();col++) {
+      switch (shape.columnKind(col)) {
+        case INT:
+          message.writeByte(4);
+          message.writeIntLE(shape.intValue(row, col));
+          break;
+        case BIGINT:
+          message.writeByte(8);
+          message.writeLongLE(shape.longValue(row, col));
+          break;
+        case DOUBLE:
+          message.writeByte(8);
+          message.writeLongLE(Double.doubleToLongBits(shape.doubleValue(row, col)));
+          break;
+        default:
+          byte[] text = shape.textValue(row, col).getBytes(StandardCharsets.UTF_8);
+          message.writeShortLE(text.length);
+          message.writeBytes(text);
+          break;
+      }
+    }
+  }
+
+  private static ByteBuf packetize(ByteBuf message) {
+    int maxPacketData = LoginPacket.DEFAULT_PACKET_SIZE - TdsPacket.PACKET_HEADER_SIZE;
+    ByteBuf packets = Unpooled.buffer();
+    int packetId = 1;
+    while (message.isReadable()) {
+      int len = Math.min(maxPacketData, message.readableBytes());
+      boolean last = len == message.readableBytes();
+      packets.writeByte(MessageType.TABULAR_RESULT.value());
+      packets.writeByte(last ? MessageStatus.END_OF_MESSAGE.value() : MessageStatus.NORMAL.value());
+      packets.writeShort(len + TdsPacket.PACKET_HEADER_SIZE);
+      packets.writeShort(0x0034); // spid
+      packets.writeByte(packetId++);
+      packets.writeByte(0); // window
+      packets.writeBytes(message, len);
+    }
+    message.release();
+    return packets;
+  }
+
+  @Benchmark
+  public RowCounter query(DecodedCounters counters) {
+    return execute(new SimpleQueryCommand<>(shape.sql(), false, true, RowCounter.COLLECTOR, capture), counters);
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mysqlclient.impl.codec;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.CombinedChannelDuplexHandler;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.mysqlclient.impl.MySQLParamDesc;
+import io.vertx.mysqlclient.impl.MySQLRowDesc;
+import io.vertx.mysqlclient.impl.datatype.DataFormat;
+import io.vertx.mysqlclient.impl.datatype.DataType;
+import io.vertx.mysqlclient.impl.protocol.CapabilitiesFlag;
+import io.vertx.mysqlclient.impl.protocol.ColumnDefinition;
+import io.vertx.mysqlclient.impl.util.BufferUtils;
+import io.vertx.sqlclient.benchmarks.CodecBenchmarkBase;
+import io.vertx.sqlclient.benchmarks.DecodedCounters;
+import io.vertx.sqlclient.benchmarks.ResultShape;
+import io.vertx.sqlclient.benchmarks.RowCounter;
+import io.vertx.sqlclient.impl.ArrayTuple;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
+import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+
+import static io.vertx.mysqlclient.impl.protocol.Packets.*;
+
+/**
+ * Benchmarks the MySQL codec with text resultsets (simple queries) and binary resultsets (prepared queries).
+ */
+public class MySQLCodecBenchmark extends CodecBenchmarkBase {
+
+  private static final int UTF8_GENERAL_CI = 33;
+
+  @Param({"WORLD", "FORTUNE", "WIDE"})
+  public ResultShape shape;
+
+  @Param({"1", "100", "10000"})
+  public int rows;
+
+  @Param({"TEXT", "BINARY"})
+  public DataFormat format;
+
+  private MySQLPreparedStatement ps;
+  private int sequenceId;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    ColumnDefinition[] columns = new ColumnDefinition[shape.columnCount()];
+    for (int i = 0;i < columns.length;i++) {
+      String name = shape.columnName(i);
+      columns[i] = new ColumnDefinition("def", "benchmark", "benchmark", "benchmark", name, name,
+        UTF8_GENERAL_CI, 255, dataType(shape.columnKind(i)), 0, (byte) 0);
+    }
+    if (format == DataFormat.BINARY) {
+      ps = new MySQLPreparedStatement(shape.sql(), 1L, new MySQLParamDesc(new ColumnDefinition[0]), new MySQLRowDesc(columns, DataFormat.BINARY), false);
+    }
+    ArrayDeque<CommandCodec<?, ?>> inflight = new ArrayDeque<>();
+    MySQLEncoder encoder = new MySQLEncoder(inflight, null);
+    MySQLDecoder decoder = new MySQLDecoder(inflight, null);
+    // State negotiated by the handshake
+    encoder.clientCapabilitiesFlag = CapabilitiesFlag.CLIENT_DEPRECATE_EOF;
+    encoder.encodingCharset = StandardCharsets.UTF_8;
+    channel = new EmbeddedChannel(new CombinedChannelDuplexHandler<>(decoder, encoder));
+    response = Unpooled.directBuffer();
+    sequenceId = 1;
+    int start = startPacket();
+    BufferUtils.writeLengthEncodedInteger(response, columns.length);
+    endPacket(start);
+    for (ColumnDefinition column : columns) {
+      writeColumnDefinition(column);
+    }
+    for (int row = 0;row < rows;row++) {
+      if (format == DataFormat.BINARY) {
+        writeBinaryRow(row);
+      } else {
+        writeTextRow(row);
+      }
+    }
+    // OK_Packet with an EOF_Packet header, as CLIENT_DEPRECATE_EOF is set
+    start = startPacket();
+    response.writeByte(EOF_PACKET_HEADER);
+    BufferUtils.writeLengthEncodedInteger(response, 0);
+    BufferUtils.writeLengthEncodedInteger(response, 0);
+    response.writeShortLE(ServerStatusFlags.SERVER_STATUS_AUTOCOMMIT);
+    response.writeShortLE(0);
+    endPacket(start);
+  }
+
+  private static DataType dataType(ResultShape.ColumnKind kind) {
+    switch (kind) {
+      case INT:
+        return DataType.INT4;
+      case BIGINT:
+        return DataType.INT8;
+      case DOUBLE:
+        return DataType.DOUBLE;
+      default:
+        return DataType.VARSTRING;
+    }
+  }
+
+  private int startPacket() {
+    int start = response.writerIndex();
+    response.writeMediumLE(0);
+    response.writeByte(sequenceId++);
+    return start;
+  }
+
+  private void endPacket(int start) {
+    response.setMediumLE(start, response.writerIndex() - start - 4);
+  }
+
+  private void writeColumnDefinition(ColumnDefinition column) {
+    int start = startPacket();
+    BufferUtils.writeLengthEncodedString(response, column.catalog(), StandardCharsets.UTF_8);
+    BufferUtils.writeLengthEncodedString(response, column.schema(), StandardCharsets.UTF_8);
+    BufferUtils.writeLengthEncodedString(response, column.table(), StandardCharsets.UTF_8);
+    BufferUtils.writeLengthEncodedString(response, column.orgTable(), StandardCharsets.UTF_8);
+    BufferUtils.writeLengthEncodedString(response, column.name(), StandardCharsets.UTF_8);
+    BufferUtils.writeLengthEncodedString(response, column.orgName(), StandardCharsets.UTF_8);
+    BufferUtils.writeLengthEncodedInteger(response, 0x0C);
+    response.writeShortLE(column.characterSet());
+    response.writeIntLE((int) column.columnLength());
+    response.writeByte(column.type().id);
+    response.writeShortLE(column.flags());
+    response.writeByte(column.decimals());
+    response.writeShortLE(0); // filler
+    endPacket(start);
+  }
+
+  private void writeTextRow(int row) {
+    int start = startPacket();
+    for (int col = 0;col < shape.columnCount();col++) {
+      String text;
+      switch (shape.columnKind(col)) {
+        case INT:
+          text = Integer.toString(shape.intValue(row, col));
+          break;
+        case BIGINT:
+          text = Long.toString(shape.longValue(row, col));
+          break;
+        case DOUBLE:
+          text = Double.toString(shape.doubleValue(row, col));
+          break;
+        default:
+          text = shape.textValue(row, col);
+          break;
+      }
+      BufferUtils.writeLengthEncodedString(response, text, StandardCharsets.UTF_8);
+    }
+    endPacket(start);
+  }
+
+  private void writeBinaryRow(int row) {
+    int start = startPacket();
+    response.writeByte(OK_PACKET_HEADER);
+    response.writeZero((shape.columnCount() + 7 + 2) >> 3); // no null values
+    for (int col = 0;col < shape.columnCount();col++) {
+      switch (shape.columnKind(col)) {
+        case INT:
+          response.writeIntLE(shape.intValue(row, col));
+          break;
+        case BIGINT:
+          response.writeLongLE(shape.longValue(row, col));
+          break;
+        case DOUBLE:
+          response.writeLongLE(Double.doubleToLongBits(shape.doubleValue(row, col)));
+          break;
+        default:
+          BufferUtils.writeLengthEncodedString(response, shape.textValue(row, col), StandardCharsets.UTF_8);
+          break;
+      }
+    }
+    endPacket(start);
+  }
+
+  @Benchmark
+  public RowCounter query(DecodedCounters counters) {
+    CommandBase<Boolean> cmd;
+    if (format == DataFormat.BINARY) {
+      cmd = ExtendedQueryCommand.createQuery(shape.sql(), ps, new ArrayTuple(0), true, RowCounter.COLLECTOR, capture);
+    } else {
+      cmd = new SimpleQueryCommand<>(shape.sql(), false, true, RowCounter.COLLECTOR, capture);
+    }
+    return execute(cmd, counters);
+  }
+}
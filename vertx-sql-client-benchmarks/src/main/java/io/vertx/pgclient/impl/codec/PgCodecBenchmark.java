@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.sqlclient.benchmarks.CodecBenchmarkBase;
+import io.vertx.sqlclient.benchmarks.DecodedCounters;
+import io.vertx.sqlclient.benchmarks.ResultShape;
+import io.vertx.sqlclient.benchmarks.RowCounter;
+import io.vertx.sqlclient.impl.ArrayTuple;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
+import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Benchmarks the {@link PgCodec} with the simple query protocol (text rows) and the extended query protocol
+ * (binary rows).
+ */
+public class PgCodecBenchmark extends CodecBenchmarkBase {
+
+  @Param({"WORLD", "FORTUNE", "WIDE"})
+  public ResultShape shape;
+
+  @Param({"1", "100", "10000"})
+  public int rows;
+
+  @Param({"TEXT", "BINARY"})
+  public DataFormat format;
+
+  @Param({"false", "true"})
+  public boolean lazy;
+
+  private PgPreparedStatement ps;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    PgColumnDesc[] columns = new PgColumnDesc[shape.columnCount()];
+    for (int i = 0;i < columns.length;i++) {
+      columns[i] = new PgColumnDesc(shape.columnName(i), 0, (short) 0, dataType(shape.columnKind(i)), (short) -1, -1, DataFormat.TEXT);
+    }
+    if (format == DataFormat.BINARY) {
+      ps = new PgPreparedStatement(shape.sql(), 1L, new PgParamDesc(new DataType[0]), PgRowDesc.createBinary(columns), false);
+    }
+    channel = new EmbeddedChannel(new PgCodec(null, lazy));
+    response = Unpooled.directBuffer();
+    if (format == DataFormat.TEXT) {
+      writeRowDescription(columns);
+    } else {
+      response.writeByte(PgProtocolConstants.MESSAGE_TYPE_BIND_COMPLETE);
+      response.writeInt(4);
+    }
+    for (int row = 0;row < rows;row++) {
+      writeDataRow(row);
+    }
+    writeCString(PgProtocolConstants.MESSAGE_TYPE_COMMAND_COMPLETE, "SELECT " + rows);
+    response.writeByte(PgProtocolConstants.MESSAGE_TYPE_READY_FOR_QUERY);
+    response.writeInt(5);
+    response.writeByte('I');
+  }
+
+  private static DataType dataType(ResultShape.ColumnKind kind) {
+    switch (kind) {
+      case INT:
+        return DataType.INT4;
+      case BIGINT:
+        return DataType.INT8;
+      case DOUBLE:
+        return DataType.FLOAT8;
+      default:
+        return DataType.VARCHAR;
+    }
+  }
+
+  private void writeRowDescription(PgColumnDesc[] columns) {
+    int start = response.writerIndex();
+    response.writeByte(PgProtocolConstants.MESSAGE_TYPE_ROW_DESCRIPTION);
+    response.writeInt(0);
+    response.writeShort(columns.length);
+    for (PgColumnDesc column : columns) {
+      response.writeCharSequence(column.name, StandardCharsets.UTF_8);
+      response.writeByte(0);
+      response.writeInt(column.relationId);
+      response.writeShort(column.relationAttributeNo);
+      response.writeInt(column.dataType.id);
+      response.writeShort(column.length);
+      response.writeInt(column.typeModifier);
+      response.writeShort(DataFormat.TEXT.id);
+    }
+    response.setInt(start + 1, response.writerIndex() - start - 1);
+  }
+
+  private void writeDataRow(int row) {
+    int start = response.writerIndex();
+    response.writeByte(PgProtocolConstants.MESSAGE_TYPE_DATA_ROW);
+    response.writeInt(0);
+    response.writeShort(shape.columnCount());
+    for (int col = 0;col < shape.columnCount();col++) {
+      int lengthIdx = response.writerIndex();
+      response.writeInt(0);
+      ResultShape.ColumnKind kind = shape.columnKind(col);
+      if (format == DataFormat.BINARY) {
+        switch (kind) {
+          case INT:
+            response.writeInt(shape.intValue(row, col));
+            break;
+          case BIGINT:
+            response.writeLong(shape.longValue(row, col));
+            break;
+          case DOUBLE:
+            response.writeDouble(shape.doubleValue(row, col));
+            break;
+          default:
+            response.writeCharSequence(shape.textValue(row, col), StandardCharsets.UTF_8);
+            break;
+        }
+      } else {
+        String text;
+        switch (kind) {
+          case INT:
+            text = Integer.toString(shape.intValue(row, col));
+            break;
+          case BIGINT:
+            text = Long.toString(shape.longValue(row, col));
+            break;
+          case DOUBLE:
+            text = Double.toString(shape.doubleValue(row, col));
+            break;
+          default:
+            text = shape.textValue(row, col);
+            break;
+        }
+        response.writeCharSequence(text, StandardCharsets.UTF_8);
+      }
+      response.setInt(lengthIdx, response.writerIndex() - lengthIdx - 4);
+    }
+    response.setInt(start + 1, response.writerIndex() - start - 1);
+  }
+
+  private void writeCString(byte type, String s) {
+    int start = response.writerIndex();
+    response.writeByte(type);
+    response.writeInt(0);
+    response.writeCharSequence(s, StandardCharsets.UTF_8);
+    response.writeByte(0);
+    response.setInt(start + 1, response.writerIndex() - start - 1);
+  }
+
+  @Benchmark
+  public RowCounter query(DecodedCounters counters) {
+    CommandBase<Boolean> cmd;
+    if (format == DataFormat.BINARY) {
+      cmd = ExtendedQueryCommand.createQuery(shape.sql(), ps, new ArrayTuple(0), true, RowCounter.COLLECTOR, capture);
+    } else {
+      cmd = new SimpleQueryCommand<>(shape.sql(), false, true, RowCounter.COLLECTOR, capture);
+    }
+    return execute(cmd, counters);
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base class of the codec benchmarks.
+ * <p>
+ * A benchmark drives a driver codec installed in an {@link EmbeddedChannel}: the command is written to the channel,
+ * the encoded request is discarded and a canned server response is written back, so a single operation measures
+ * the encoding of a request and the decoding of its response, without any network or database involved.
+ * <p>
+ * Run with {@code -prof gc} to get the allocation rate, the allocation per row is {@code gc.alloc.rate.norm}
+ * divided by the number of rows of the response.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class CodecBenchmarkBase {
+
+  protected EmbeddedChannel channel;
+  protected ByteBuf response;
+  protected final RowCounter capture = new RowCounter();
+
+  /**
+   * Encode the command and decode the canned response.
+   *
+   * @return the decoded rows
+   */
+  protected final RowCounter execute(CommandBase<?> cmd, DecodedCounters counters) {
+    channel.writeOutbound(cmd);
+    channel.releaseOutbound();
+    channel.writeInbound(response.retainedDuplicate());
+    CommandResponse<?> resp = channel.readInbound();
+    if (resp == null) {
+      throw new IllegalStateException("Incomplete response");
+    }
+    if (resp.toAsyncResult().failed()) {
+      throw new IllegalStateException(resp.toAsyncResult().cause());
+    }
+    RowCounter rows = capture.takeResult();
+    counters.rows += rows.count;
+    counters.bytes += response.readableBytes();
+    return rows;
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if (channel != null) {
+      channel.finishAndReleaseAll();
+      channel = null;
+    }
+    if (response != null) {
+      response.release();
+      response = null;
+    }
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.mysqlclient.MySQLConnectOptions;
+import io.vertx.mysqlclient.MySQLPool;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.pgclient.PgPool;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.benchmarks.server.FakeMySQLServer;
+import io.vertx.sqlclient.benchmarks.server.FakePgServer;
+import io.vertx.sqlclient.benchmarks.server.FakeServerBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Benchmarks the connection pool and the command pipelining against an in-process fake server, an operation
+ * executes {@code concurrency} prepared queries concurrently.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PoolBenchmark {
+
+  public enum Protocol {
+    PG, MYSQL
+  }
+
+  @Param({"PG", "MYSQL"})
+  public Protocol protocol;
+
+  @Param({"1", "4"})
+  public int poolSize;
+
+  /**
+   * The pipelining limit of the connections, only PostgreSQL pipelines commands.
+   */
+  @Param({"1", "256"})
+  public int pipeliningLimit;
+
+  @Param("128")
+  public int concurrency;
+
+  /**
+   * The server latency in milliseconds.
+   */
+  @Param({"0", "1"})
+  public long latency;
+
+  @Param("WORLD")
+  public ResultShape shape;
+
+  @Param("1")
+  public int rows;
+
+  private Vertx vertx;
+  private FakeServerBase<?> server;
+  private Pool pool;
+  private String sql;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    PoolOptions poolOptions = new PoolOptions().setMaxSize(poolSize).setMaxWaitQueueSize(-1);
+    CompletableFuture<Void> listen = new CompletableFuture<>();
+    switch (protocol) {
+      case PG:
+        server = FakePgServer.create(vertx).latency(latency).result(shape, rows);
+        break;
+      default:
+        server = FakeMySQLServer.create(vertx).latency(latency).result(shape, rows);
+        break;
+    }
+    server.listen(0, "localhost", ar -> {
+      if (ar.succeeded()) {
+        listen.complete(null);
+      } else {
+        listen.completeExceptionally(ar.cause());
+      }
+    });
+    listen.get(10, TimeUnit.SECONDS);
+    switch (protocol) {
+      case PG:
+        sql = shape.sql() + " WHERE c0 = $1";
+        pool = PgPool.pool(vertx, new PgConnectOptions()
+          .setPort(server.actualPort())
+          .setHost("localhost")
+          .setDatabase("benchmark")
+          .setUser("benchmark")
+          .setPassword("benchmark")
+          .setCachePreparedStatements(true)
+          .setPipeliningLimit(pipeliningLimit), poolOptions);
+        break;
+      default:
+        sql = shape.sql() + " WHERE c0 = ?";
+        pool = MySQLPool.pool(vertx, new MySQLConnectOptions()
+          .setPort(server.actualPort())
+          .setHost("localhost")
+          .setDatabase("benchmark")
+          .setUser("benchmark")
+          .setPassword("benchmark")
+          .setCachePreparedStatements(true), poolOptions);
+        break;
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    CompletableFuture<Void> close = new CompletableFuture<>();
+    vertx.close(ar -> close.complete(null));
+    close.get(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public int query() throws Exception {
+    CountDownLatch latch = new CountDownLatch(concurrency);
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    for (int i = 0;i < concurrency;i++) {
+      pool.preparedQuery(sql).execute(Tuple.of(i), ar -> {
+        if (ar.failed()) {
+          failure.compareAndSet(null, ar.cause());
+        }
+        latch.countDown();
+      });
+    }
+    latch.await();
+    Throwable cause = failure.get();
+    if (cause != null) {
+      throw new IllegalStateException(cause);
+    }
+    return concurrency;
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.benchmarks;
+
+/**
+ * The shapes of the canned results, each driver benchmark maps the column kinds to its own wire types.
+ */
+public enum ResultShape {
+
+  /**
+   * Two int columns, like the {@code World} table of the TechEmpower benchmarks.
+   */
+  WORLD(ColumnKind.INT, ColumnKind.INT),
+
+  /**
+   * An int column and a text column, like the {@code Fortune} table of the TechEmpower benchmarks.
+   */
+  FORTUNE(ColumnKind.INT, ColumnKind.TEXT),
+
+  /**
+   * Eight columns mixing all the column kinds.
+   */
+  WIDE(ColumnKind.INT, ColumnKind.BIGINT, ColumnKind.DOUBLE, ColumnKind.TEXT,
+    ColumnKind.INT, ColumnKind.BIGINT, ColumnKind.DOUBLE, ColumnKind.TEXT);
+
+  public enum ColumnKind {
+    INT, BIGINT, DOUBLE, TEXT
+  }
+
+  private final ColumnKind[] columns;
+
+  ResultShape(ColumnKind... columns) {
+    this.columns = columns;
+  }
+
+  public int columnCount() {
+    return columns.length;
+  }
+
+  public ColumnKind columnKind(int column) {
+    return columns[column];
+  }
+
+  public String columnName(int column) {
+    return "c" + column;
+  }
+
+  /**
+   * @return the SQL text of the query sent by the benchmarks
+   */
+  public String sql() {
+    return "SELECT * FROM " + name().toLowerCase();
+  }
+
+  public int intValue(int row, int column) {
+    return row * 31 + column;
+  }
+
+  public long longValue(int row, int column) {
+    return row * 1_000_003L + column;
+  }
+
+  public double doubleValue(int row, int column) {
+    return row / 7D + column;
+  }
+
+  public String textValue(int row, int column) {
+    return "A computer scientist is someone who fixes things that aren't broken #" + row;
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.benchmarks;
+
+import io.vertx.sqlclient.PropertyKind;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.impl.QueryResultHandler;
+import io.vertx.sqlclient.impl.RowDesc;
+
+import java.util.stream.Collector;
+
+/**
+ * Counts the decoded rows and keeps the last one so the decoded rows cannot be optimized away,
+ * it also records the result of the query it collects.
+ */
+public final class RowCounter implements QueryResultHandler<RowCounter> {
+
+  public static final Collector<Row, RowCounter, RowCounter> COLLECTOR = Collector.of(
+    RowCounter::new,
+    RowCounter::add,
+    (counter1, counter2) -> null, // Shall not be invoked as this is sequential
+    Collector.Characteristics.IDENTITY_FINISH
+  );
+
+  public int count;
+  public Row last;
+
+  private RowCounter result;
+  private Throwable failure;
+
+  private void add(Row row) {
+    count++;
+    last = row;
+  }
+
+  @Override
+  public <V> void addProperty(PropertyKind<V> property, V value) {
+  }
+
+  @Override
+  public void handleResult(int updatedCount, int size, RowDesc desc, RowCounter result, Throwable failure) {
+    this.result = result;
+    this.failure = failure;
+  }
+
+  /**
+   * @return the collected rows of the last result handled and clears it
+   * @throws IllegalStateException when no result was handled or when the collection failed
+   */
+  public RowCounter takeResult() {
+    RowCounter res = result;
+    Throwable cause = failure;
+    result = null;
+    failure = null;
+    if (cause != null) {
+      throw new IllegalStateException(cause);
+    }
+    if (res == null) {
+      throw new IllegalStateException("No result");
+    }
+    return res;
+  }
+}
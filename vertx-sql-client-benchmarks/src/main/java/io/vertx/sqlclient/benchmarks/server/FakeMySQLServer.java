@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.benchmarks.server;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetSocket;
+import io.vertx.sqlclient.benchmarks.ResultShape;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A server speaking the MySQL client/server protocol.
+ * <p>
+ * It handles the handshake with any credentials, {@code COM_QUERY} (text resultsets) and the prepared
+ * statements commands ({@code COM_STMT_PREPARE}, {@code COM_STMT_EXECUTE} with binary resultsets,
+ * {@code COM_STMT_CLOSE}, {@code COM_STMT_RESET}). The server requires the {@code CLIENT_DEPRECATE_EOF} capability.
+ */
+public class FakeMySQLServer extends FakeServerBase<FakeMySQLServer> {
+
+  private static final int CLIENT_CONNECT_WITH_DB = 0x00000008;
+  private static final int CLIENT_PROTOCOL_41 = 0x00000200;
+  private static final int CLIENT_TRANSACTIONS = 0x00002000;
+  private static final int CLIENT_SECURE_CONNECTION = 0x00008000;
+  private static final int CLIENT_MULTI_RESULTS = 0x00020000;
+  private static final int CLIENT_PLUGIN_AUTH = 0x00080000;
+  private static final int CLIENT_CONNECT_ATTRS = 0x00100000;
+  private static final int CLIENT_PLUGIN_AUTH_LENENC_CLIENT_DATA = 0x00200000;
+  private static final int CLIENT_DEPRECATE_EOF = 0x01000000;
+
+  private static final int SERVER_CAPABILITIES = CLIENT_CONNECT_WITH_DB | CLIENT_PROTOCOL_41 | CLIENT_TRANSACTIONS
+    | CLIENT_SECURE_CONNECTION | CLIENT_MULTI_RESULTS | CLIENT_PLUGIN_AUTH | CLIENT_CONNECT_ATTRS
+    | CLIENT_PLUGIN_AUTH_LENENC_CLIENT_DATA | CLIENT_DEPRECATE_EOF;
+
+  private static final int SERVER_STATUS_AUTOCOMMIT = 0x0002;
+  private static final int UTF8_GENERAL_CI = 33;
+
+  private static final int COM_QUIT = 0x01;
+  private static final int COM_QUERY = 0x03;
+  private static final int COM_STMT_PREPARE = 0x16;
+  private static final int COM_STMT_EXECUTE = 0x17;
+  private static final int COM_STMT_CLOSE = 0x19;
+
+  private static final int MYSQL_TYPE_DOUBLE = 0x05;
+  private static final int MYSQL_TYPE_LONG = 0x03;
+  private static final int MYSQL_TYPE_LONGLONG = 0x08;
+  private static final int MYSQL_TYPE_VAR_STRING = 0xFD;
+
+  public static FakeMySQLServer create(Vertx vertx) {
+    return new FakeMySQLServer(vertx);
+  }
+
+  private FakeMySQLServer(Vertx vertx) {
+    super(vertx);
+  }
+
+  @Override
+  Connection createConnection(NetSocket so) {
+    return new MySQLConnection(so);
+  }
+
+  private class MySQLConnection extends Connection {
+
+    private boolean authenticated;
+    private int sequenceId;
+    private int statementId;
+
+    MySQLConnection(NetSocket so) {
+      super(so);
+    }
+
+    @Override
+    void start() {
+      sequenceId = 0;
+      int start = startPacket();
+      Buffer reply = reply();
+      reply.appendByte((byte) 10); // protocol version
+      reply.appendString("5.7.30-fake").appendByte((byte) 0);
+      reply.appendIntLE(1); // connection id
+      reply.appendString("01234567").appendByte((byte) 0); // scramble part 1 and filler
+      reply.appendShortLE((short) SERVER_CAPABILITIES);
+      reply.appendByte((byte) UTF8_GENERAL_CI);
+      reply.appendShortLE((short) SERVER_STATUS_AUTOCOMMIT);
+      reply.appendShortLE((short) (SERVER_CAPABILITIES >>> 16));
+      reply.appendByte((byte) 21); // scramble length
+      reply.appendBytes(new byte[10]); // reserved
+      reply.appendString("890123456789").appendByte((byte) 0); // scramble part 2
+      reply.appendString("mysql_native_password").appendByte((byte) 0);
+      endPacket(start);
+      flush();
+    }
+
+    @Override
+    int decode(Buffer buffer, int start) {
+      if (buffer.length() - start < 4) {
+        return 0;
+      }
+      int len = buffer.getUnsignedMediumLE(start) + 4;
+      if (buffer.length() - start < len) {
+        return 0;
+      }
+      sequenceId = buffer.getUnsignedByte(start + 3) + 1;
+      if (!authenticated) {
+        // Handshake response, any credentials are fine
+        authenticated = true;
+        writeOk();
+        return len;
+      }
+      int idx = start + 4;
+      switch (buffer.getUnsignedByte(idx)) {
+        case COM_QUERY:
+          request();
+          writeResultSet(FakeMySQLServer.this.shape, false);
+          break;
+        case COM_STMT_PREPARE:
+          writePrepareOk(buffer.getString(idx + 1, start + len, "UTF-8"));
+          break;
+        case COM_STMT_EXECUTE:
+          request();
+          writeResultSet(FakeMySQLServer.this.shape, true);
+          break;
+        case COM_STMT_CLOSE:
+          // No response
+          break;
+        case COM_QUIT:
+          so.close();
+          break;
+        default:
+          // COM_PING, COM_STMT_RESET, COM_INIT_DB...
+          writeOk();
+          break;
+      }
+      return len;
+    }
+
+    private int startPacket() {
+      Buffer reply = reply();
+      int start = reply.length();
+      reply.appendMediumLE(0);
+      reply.appendByte((byte) sequenceId++);
+      return start;
+    }
+
+    private void endPacket(int start) {
+      Buffer reply = reply();
+      reply.setMediumLE(start, reply.length() - start - 4);
+    }
+
+    private void writeOk() {
+      int start = startPacket();
+      reply().appendByte((byte) 0x00);
+      writeOkBody();
+      endPacket(start);
+    }
+
+    private void writeOkBody() {
+      Buffer reply = reply();
+      reply.appendByte((byte) 0); // affected rows
+      reply.appendByte((byte) 0); // last insert id
+      reply.appendShortLE((short) SERVER_STATUS_AUTOCOMMIT);
+      reply.appendShortLE((short) 0); // warnings
+    }
+
+    private void writePrepareOk(String sql) {
+      ResultShape shape = FakeMySQLServer.this.shape;
+      int params = countParameters(sql);
+      int start = startPacket();
+      Buffer reply = reply();
+      reply.appendByte((byte) 0x00);
+      reply.appendIntLE(++statementId);
+      reply.appendShortLE((short) shape.columnCount());
+      reply.appendShortLE((short) params);
+      reply.appendByte((byte) 0); // filler
+      reply.appendShortLE((short) 0); // warnings
+      endPacket(start);
+      for (int i = 0;i < params;i++) {
+        writeColumnDefinition("?", MYSQL_TYPE_VAR_STRING);
+      }
+      for (int col = 0;col < shape.columnCount();col++) {
+        writeColumnDefinition(shape.columnName(col), columnType(shape.columnKind(col)));
+      }
+    }
+
+    private void writeResultSet(ResultShape shape, boolean binary) {
+      int start = startPacket();
+      writeLengthEncodedInteger(shape.columnCount());
+      endPacket(start);
+      for (int col = 0;col < shape.columnCount();col++) {
+        writeColumnDefinition(shape.columnName(col), columnType(shape.columnKind(col)));
+      }
+      Buffer reply = reply();
+      int rows = FakeMySQLServer.this.rows;
+      for (int row = 0;row < rows;row++) {
+        start = startPacket();
+        if (binary) {
+          reply.appendByte((byte) 0x00);
+          reply.appendBytes(new byte[(shape.columnCount() + 7 + 2) >> 3]); // null bitmap
+        }
+        for (int col = 0;col < shape.columnCount();col++) {
+          if (binary) {
+            switch (shape.columnKind(col)) {
+              case INT:
+                reply.appendIntLE(shape.intValue(row, col));
+                continue;
+              case BIGINT:
+                reply.appendLongLE(shape.longValue(row, col));
+                continue;
+              case DOUBLE:
+                reply.appendLongLE(Double.doubleToLongBits(shape.doubleValue(row, col)));
+                continue;
+            }
+          }
+          writeLengthEncodedString(text(shape, row, col));
+        }
+        endPacket(start);
+      }
+      // OK_Packet with the EOF_Packet header
+      start = startPacket();
+      reply.appendByte((byte) 0xFE);
+      writeOkBody();
+      endPacket(start);
+    }
+
+    private void writeColumnDefinition(String name, int type) {
+      int start = startPacket();
+      writeLengthEncodedString("def");
+      writeLengthEncodedString("fake");
+      writeLengthEncodedString("fake");
+      writeLengthEncodedString("fake");
+      writeLengthEncodedString(name);
+      writeLengthEncodedString(name);
+      Buffer reply = reply();
+      reply.appendByte((byte) 0x0C); // length of the fixed length fields
+      reply.appendShortLE((short) UTF8_GENERAL_CI);
+      reply.appendIntLE(255); // column length
+      reply.appendByte((byte) type);
+      reply.appendShortLE((short) 0); // flags
+      reply.appendByte((byte) 0); // decimals
+      reply.appendShortLE((short) 0); // filler
+      endPacket(start);
+    }
+
+    private void writeLengthEncodedInteger(long value) {
+      Buffer reply = reply();
+      if (value < 251) {
+        reply.appendByte((byte) value);
+      } else if (value <= 0xFFFF) {
+        reply.appendUnsignedByte((short) 0xFC).appendShortLE((short) value);
+      } else if (value < 0xFFFFFF) {
+        reply.appendUnsignedByte((short) 0xFD).appendMediumLE((int) value);
+      } else {
+        reply.appendUnsignedByte((short) 0xFE).appendLongLE(value);
+      }
+    }
+
+    private void writeLengthEncodedString(String value) {
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      writeLengthEncodedInteger(bytes.length);
+      reply().appendBytes(bytes);
+    }
+  }
+
+  private static int columnType(ResultShape.ColumnKind kind) {
+    switch (kind) {
+      case INT:
+        return MYSQL_TYPE_LONG;
+      case BIGINT:
+        return MYSQL_TYPE_LONGLONG;
+      case DOUBLE:
+        return MYSQL_TYPE_DOUBLE;
+      default:
+        return MYSQL_TYPE_VAR_STRING;
+    }
+  }
+}
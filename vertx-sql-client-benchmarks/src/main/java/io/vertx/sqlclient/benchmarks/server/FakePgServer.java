@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.benchmarks.server;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetSocket;
+import io.vertx.sqlclient.benchmarks.ResultShape;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A server speaking the PostgreSQL frontend/backend protocol.
+ * <p>
+ * It handles the startup without authentication, simple queries and the extended query protocol
+ * ({@code Parse}/{@code Describe}/{@code Bind}/{@code Execute}/{@code Close}/{@code Sync}). Parameters are
+ * described as {@code int4}, rows are sent in the text or binary format requested by {@code Bind}.
+ */
+public class FakePgServer extends FakeServerBase<FakePgServer> {
+
+  private static final int SSL_REQUEST_CODE = 80877103;
+  private static final int CANCEL_REQUEST_CODE = 80877102;
+
+  private static final int INT4_OID = 23;
+  private static final int INT8_OID = 20;
+  private static final int FLOAT8_OID = 701;
+  private static final int VARCHAR_OID = 1043;
+
+  public static FakePgServer create(Vertx vertx) {
+    return new FakePgServer(vertx);
+  }
+
+  private FakePgServer(Vertx vertx) {
+    super(vertx);
+  }
+
+  @Override
+  Connection createConnection(NetSocket so) {
+    return new PgConnection(so);
+  }
+
+  private class PgConnection extends Connection {
+
+    private final Map<String, String> statements = new HashMap<>();
+    private boolean started;
+    private boolean binary;
+
+    PgConnection(NetSocket so) {
+      super(so);
+    }
+
+    @Override
+    int decode(Buffer buffer, int start) {
+      if (!started) {
+        return decodeStartup(buffer, start);
+      }
+      if (buffer.length() - start < 5) {
+        return 0;
+      }
+      int len = buffer.getInt(start + 1) + 1;
+      if (buffer.length() - start < len) {
+        return 0;
+      }
+      int idx = start + 5;
+      switch (buffer.getByte(start)) {
+        case 'Q': {
+          request();
+          ResultShape shape = FakePgServer.this.shape;
+          writeRowDescription(shape, false);
+          writeRows(shape, false);
+          writeReadyForQuery();
+          break;
+        }
+        case 'P': {
+          int end = skipCString(buffer, idx);
+          statements.put(cstring(buffer, idx), cstring(buffer, end));
+          writeMessage('1');
+          break;
+        }
+        case 'D': {
+          byte kind = buffer.getByte(idx);
+          if (kind == 'S') {
+            String sql = statements.get(cstring(buffer, idx + 1));
+            int count = sql != null ? countParameters(sql) : 0;
+            Buffer reply = reply();
+            reply.appendByte((byte) 't');
+            reply.appendInt(6 + 4 * count);
+            reply.appendShort((short) count);
+            for (int i = 0;i < count;i++) {
+              reply.appendInt(INT4_OID);
+            }
+          }
+          writeRowDescription(FakePgServer.this.shape, kind == 'P' && binary);
+          break;
+        }
+        case 'B': {
+          // portal and statement names
+          idx = skipCString(buffer, skipCString(buffer, idx));
+          idx += 2 + 2 * buffer.getShort(idx);
+          int params = buffer.getShort(idx);
+          idx += 2;
+          for (int i = 0;i < params;i++) {
+            int paramLen = buffer.getInt(idx);
+            idx += 4 + Math.max(paramLen, 0);
+          }
+          int formats = buffer.getShort(idx);
+          binary = formats > 0 && buffer.getShort(idx + 2) == 1;
+          writeMessage('2');
+          break;
+        }
+        case 'E':
+          request();
+          writeRows(FakePgServer.this.shape, binary);
+          break;
+        case 'C':
+          writeMessage('3');
+          break;
+        case 'S':
+          writeReadyForQuery();
+          break;
+        case 'H':
+          flush();
+          break;
+        case 'X':
+          so.close();
+          break;
+        default:
+          // Ignore
+          break;
+      }
+      return len;
+    }
+
+    private int decodeStartup(Buffer buffer, int start) {
+      if (buffer.length() - start < 8) {
+        return 0;
+      }
+      int len = buffer.getInt(start);
+      if (buffer.length() - start < len) {
+        return 0;
+      }
+      int code = buffer.getInt(start + 4);
+      if (code == SSL_REQUEST_CODE) {
+        reply().appendByte((byte) 'N');
+      } else if (code == CANCEL_REQUEST_CODE) {
+        so.close();
+      } else {
+        started = true;
+        Buffer reply = reply();
+        reply.appendByte((byte) 'R').appendInt(8).appendInt(0); // AuthenticationOk
+        writeParameterStatus("server_version", "12.0");
+        writeParameterStatus("client_encoding", "UTF8");
+        writeParameterStatus("DateStyle", "ISO, MDY");
+        writeParameterStatus("integer_datetimes", "on");
+        reply.appendByte((byte) 'K').appendInt(12).appendInt(1).appendInt(0); // BackendKeyData
+        writeReadyForQuery();
+      }
+      return len;
+    }
+
+    private void writeMessage(char type) {
+      reply().appendByte((byte) type).appendInt(4);
+    }
+
+    private void writeReadyForQuery() {
+      reply().appendByte((byte) 'Z').appendInt(5).appendByte((byte) 'I');
+    }
+
+    private void writeParameterStatus(String key, String value) {
+      Buffer reply = reply();
+      int start = reply.length();
+      reply.appendByte((byte) 'S').appendInt(0);
+      reply.appendString(key).appendByte((byte) 0);
+      reply.appendString(value).appendByte((byte) 0);
+      reply.setInt(start + 1, reply.length() - start - 1);
+    }
+
+    private void writeRowDescription(ResultShape shape, boolean binary) {
+      Buffer reply = reply();
+      int start = reply.length();
+      reply.appendByte((byte) 'T').appendInt(0);
+      reply.appendShort((short) shape.columnCount());
+      for (int col = 0;col < shape.columnCount();col++) {
+        reply.appendString(shape.columnName(col)).appendByte((byte) 0);
+        reply.appendInt(0); // table
+        reply.appendShort((short) 0); // attribute
+        switch (shape.columnKind(col)) {
+          case INT:
+            reply.appendInt(INT4_OID).appendShort((short) 4);
+            break;
+          case BIGINT:
+            reply.appendInt(INT8_OID).appendShort((short) 8);
+            break;
+          case DOUBLE:
+            reply.appendInt(FLOAT8_OID).appendShort((short) 8);
+            break;
+          default:
+            reply.appendInt(VARCHAR_OID).appendShort((short) -1);
+            break;
+        }
+        reply.appendInt(-1); // type modifier
+        reply.appendShort((short) (binary ? 1 : 0));
+      }
+      reply.setInt(start + 1, reply.length() - start - 1);
+    }
+
+    private void writeRows(ResultShape shape, boolean binary) {
+      Buffer reply = reply();
+      int rows = FakePgServer.this.rows;
+      for (int row = 0;row < rows;row++) {
+        int start = reply.length();
+        reply.appendByte((byte) 'D').appendInt(0);
+        reply.appendShort((short) shape.columnCount());
+        for (int col = 0;col < shape.columnCount();col++) {
+          if (binary) {
+            switch (shape.columnKind(col)) {
+              case INT:
+                reply.appendInt(4).appendInt(shape.intValue(row, col));
+                continue;
+              case BIGINT:
+                reply.appendInt(8).appendLong(shape.longValue(row, col));
+                continue;
+              case DOUBLE:
+                reply.appendInt(8).appendDouble(shape.doubleValue(row, col));
+                continue;
+            }
+          }
+          byte[] value = text(shape, row, col).getBytes(StandardCharsets.UTF_8);
+          reply.appendInt(value.length).appendBytes(value);
+        }
+        reply.setInt(start + 1, reply.length() - start - 1);
+      }
+      Buffer complete = Buffer.buffer("SELECT " + rows);
+      reply.appendByte((byte) 'C').appendInt(4 + complete.length() + 1).appendBuffer(complete).appendByte((byte) 0);
+    }
+
+    private String cstring(Buffer buffer, int start) {
+      return buffer.getString(start, skipCString(buffer, start) - 1, "UTF-8");
+    }
+
+    private int skipCString(Buffer buffer, int start) {
+      int idx = start;
+      while (buffer.getByte(idx) != 0) {
+        idx++;
+      }
+      return idx + 1;
+    }
+  }
+}
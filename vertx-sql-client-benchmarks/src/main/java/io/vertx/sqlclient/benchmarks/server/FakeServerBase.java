@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.benchmarks.server;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetServer;
+import io.vertx.core.net.NetSocket;
+import io.vertx.sqlclient.benchmarks.ResultShape;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base class of the in-process servers speaking a database wire protocol.
+ * <p>
+ * The servers accept any credentials and answer every query with the same synthetic result set, after
+ * an optional latency. They do not execute anything, so the client side (pool, pipelining, codecs) is
+ * the bottleneck of a load test instead of the database.
+ */
+public abstract class FakeServerBase<S extends FakeServerBase<S>> {
+
+  private final Vertx vertx;
+  private final NetServer server;
+  private final AtomicLong requests = new AtomicLong();
+  volatile ResultShape shape = ResultShape.WORLD;
+  volatile int rows = 1;
+  volatile long latency;
+
+  FakeServerBase(Vertx vertx) {
+    this.vertx = vertx;
+    this.server = vertx.createNetServer().connectHandler(this::handle);
+  }
+
+  @SuppressWarnings("unchecked")
+  private S self() {
+    return (S) this;
+  }
+
+  /**
+   * Set the result set returned by every query.
+   *
+   * @param shape the columns of the result set
+   * @param rows the number of rows of the result set
+   * @return a reference to this, so the API can be used fluently
+   */
+  public S result(ResultShape shape, int rows) {
+    this.shape = shape;
+    this.rows = rows;
+    return self();
+  }
+
+  /**
+   * Set the time the server waits before answering a request, {@code 0} answers immediately.
+   *
+   * @param latency the latency in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public S latency(long latency) {
+    this.latency = latency;
+    return self();
+  }
+
+  /**
+   * @return the number of requests the server answered
+   */
+  public long requests() {
+    return requests.get();
+  }
+
+  public void listen(int port, String host, Handler<AsyncResult<Void>> completionHandler) {
+    server.listen(port, host, ar -> completionHandler.handle(ar.mapEmpty()));
+  }
+
+  /**
+   * @return the port the server listens on, useful when listening on port {@code 0}
+   */
+  public int actualPort() {
+    return server.actualPort();
+  }
+
+  public void close(Handler<AsyncResult<Void>> completionHandler) {
+    server.close(completionHandler);
+  }
+
+  private void handle(NetSocket so) {
+    Connection conn = createConnection(so);
+    so.handler(conn::handleData);
+    conn.start();
+  }
+
+  abstract Connection createConnection(NetSocket so);
+
+  /**
+   * A server connection, decodes the client messages and answers them.
+   */
+  abstract class Connection {
+
+    final NetSocket so;
+    private Buffer pending;
+    private Buffer reply;
+
+    Connection(NetSocket so) {
+      this.so = so;
+    }
+
+    void start() {
+    }
+
+    /**
+     * Decode a single message from the {@code buffer} at {@code start}.
+     *
+     * @return the length of the decoded message or {@code 0} when the message is not complete
+     */
+    abstract int decode(Buffer buffer, int start);
+
+    /**
+     * @return the buffer collecting the reply to the messages received so far
+     */
+    final Buffer reply() {
+      if (reply == null) {
+        reply = Buffer.buffer();
+      }
+      return reply;
+    }
+
+    final void request() {
+      requests.incrementAndGet();
+    }
+
+    private void handleData(Buffer data) {
+      Buffer buffer;
+      if (pending == null) {
+        buffer = data;
+      } else {
+        buffer = pending.appendBuffer(data);
+        pending = null;
+      }
+      int idx = 0;
+      while (idx < buffer.length()) {
+        int len = decode(buffer, idx);
+        if (len == 0) {
+          break;
+        }
+        idx += len;
+      }
+      if (idx < buffer.length()) {
+        pending = buffer.getBuffer(idx, buffer.length());
+      }
+      flush();
+    }
+
+    final void flush() {
+      if (reply != null) {
+        Buffer buff = reply;
+        reply = null;
+        long delay = latency;
+        if (delay > 0) {
+          // Timers with the same delay are fired in order, the replies are not reordered
+          vertx.setTimer(delay, id -> so.write(buff));
+        } else {
+          so.write(buff);
+        }
+      }
+    }
+  }
+
+  /**
+   * Count the parameters of the {@code sql} query, using the {@code ?} (MySQL) placeholders or the {@code $n} (PostgreSQL) ones.
+   */
+  static int countParameters(String sql) {
+    int count = 0;
+    for (int i = 0;i < sql.length();i++) {
+      char c = sql.charAt(i);
+      if (c == '?') {
+        count++;
+      } else if (c == '$') {
+        int j = i + 1;
+        int n = 0;
+        while (j < sql.length() && Character.isDigit(sql.charAt(j))) {
+          n = n * 10 + (sql.charAt(j++) - '0');
+        }
+        count = Math.max(count, n);
+        i = j - 1;
+      }
+    }
+    return count;
+  }
+
+  static String text(ResultShape shape, int row, int column) {
+    switch (shape.columnKind(column)) {
+      case INT:
+        return Integer.toString(shape.intValue(row, column));
+      case BIGINT:
+        return Long.toString(shape.longValue(row, column));
+      case DOUBLE:
+        return Double.toString(shape.doubleValue(row, column));
+      default:
+        return shape.textValue(row, column);
+    }
+  }
+}
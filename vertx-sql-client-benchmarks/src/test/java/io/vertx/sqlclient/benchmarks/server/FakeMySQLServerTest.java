@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.benchmarks.server;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.mysqlclient.MySQLConnectOptions;
+import io.vertx.mysqlclient.MySQLConnection;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.benchmarks.ResultShape;
+import org.junit.Test;
+
+public class FakeMySQLServerTest extends FakeServerTestBase<FakeMySQLServer> {
+
+  @Override
+  FakeMySQLServer createServer(Vertx vertx) {
+    return FakeMySQLServer.create(vertx);
+  }
+
+  @Override
+  void connect(Handler<AsyncResult<SqlConnection>> handler) {
+    MySQLConnection.connect(vertx, new MySQLConnectOptions()
+      .setPort(server.actualPort())
+      .setHost("localhost")
+      .setDatabase("benchmark")
+      .setUser("benchmark")
+      .setPassword("benchmark"), ar -> handler.handle(ar.map(conn -> conn)));
+  }
+
+  @Override
+  String preparedSql() {
+    return ResultShape.WORLD.sql() + " WHERE c0 = ?";
+  }
+
+  @Test
+  public void testSplitMessages(TestContext ctx) {
+    vertx.createNetClient().connect(server.actualPort(), "localhost", ctx.asyncAssertSuccess(so -> {
+      expect(ctx, so, received -> packets(received) == 1, handshake -> {
+        ctx.assertEquals(10, (int) handshake.getByte(4));
+        expect(ctx, so, received -> packets(received) == 1, ok -> {
+          ctx.assertEquals(0, (int) ok.getByte(4));
+          // Two queries in one write, the second one is split in its payload
+          Buffer queries = Buffer.buffer().appendBuffer(query()).appendBuffer(query());
+          expect(ctx, so, received -> results(received) == 2, rows -> {
+            ctx.assertEquals(2L, server.requests());
+            so.close();
+          });
+          writeSplit(so, queries, query().length() + 8);
+        });
+        // The handshake response is split in its header, the server accepts any content
+        Buffer response = Buffer.buffer().appendMediumLE(32).appendByte((byte) 1).appendBytes(new byte[32]);
+        writeSplit(so, response, 2);
+      });
+    }));
+  }
+
+  private static Buffer query() {
+    Buffer query = Buffer.buffer().appendMediumLE(0).appendByte((byte) 0);
+    query.appendByte((byte) 0x03); // COM_QUERY
+    query.appendString(ResultShape.WORLD.sql());
+    query.setMediumLE(0, query.length() - 4);
+    return query;
+  }
+
+  /**
+   * @return the number of complete packets in {@code buffer}
+   */
+  private static int packets(Buffer buffer) {
+    int count = 0;
+    int idx = 0;
+    while (idx + 4 <= buffer.length() && idx + 4 + buffer.getUnsignedMediumLE(idx) <= buffer.length()) {
+      count++;
+      idx += 4 + buffer.getUnsignedMediumLE(idx);
+    }
+    return count;
+  }
+
+  /**
+   * @return the number of complete result sets in {@code buffer}, each one ends with an {@code OK_Packet} with
+   *         the {@code EOF_Packet} header
+   */
+  private static int results(Buffer buffer) {
+    int count = 0;
+    int idx = 0;
+    while (idx + 4 <= buffer.length() && idx + 4 + buffer.getUnsignedMediumLE(idx) <= buffer.length()) {
+      int len = buffer.getUnsignedMediumLE(idx);
+      if (len < 9 && buffer.getUnsignedByte(idx + 4) == 0xFE) {
+        count++;
+      }
+      idx += 4 + len;
+    }
+    return count;
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.benchmarks.server;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.pgclient.PgConnection;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.benchmarks.ResultShape;
+import org.junit.Test;
+
+public class FakePgServerTest extends FakeServerTestBase<FakePgServer> {
+
+  @Override
+  FakePgServer createServer(Vertx vertx) {
+    return FakePgServer.create(vertx);
+  }
+
+  @Override
+  void connect(Handler<AsyncResult<SqlConnection>> handler) {
+    PgConnection.connect(vertx, new PgConnectOptions()
+      .setPort(server.actualPort())
+      .setHost("localhost")
+      .setDatabase("benchmark")
+      .setUser("benchmark")
+      .setPassword("benchmark"), ar -> handler.handle(ar.map(conn -> conn)));
+  }
+
+  @Override
+  String preparedSql() {
+    return ResultShape.WORLD.sql() + " WHERE c0 = $1";
+  }
+
+  @Test
+  public void testSplitMessages(TestContext ctx) {
+    vertx.createNetClient().connect(server.actualPort(), "localhost", ctx.asyncAssertSuccess(so -> {
+      Buffer startup = Buffer.buffer().appendInt(0).appendInt(196608);
+      startup.appendString("user").appendByte((byte) 0).appendString("benchmark").appendByte((byte) 0);
+      startup.appendString("database").appendByte((byte) 0).appendString("benchmark").appendByte((byte) 0);
+      startup.appendByte((byte) 0);
+      startup.setInt(0, startup.length());
+      expect(ctx, so, received -> count(received, 'Z') == 1, reply -> {
+        ctx.assertEquals((byte) 'R', reply.getByte(0));
+        // Two queries in one write, the second one is split in its header
+        Buffer queries = Buffer.buffer().appendBuffer(query()).appendBuffer(query());
+        expect(ctx, so, received -> count(received, 'Z') == 2, rows -> {
+          ctx.assertEquals(2, count(rows, 'T'));
+          ctx.assertEquals(2 * ROWS, count(rows, 'D'));
+          ctx.assertEquals(2L, server.requests());
+          so.close();
+        });
+        writeSplit(so, queries, query().length() + 3);
+      });
+      // The startup message is split in its header
+      writeSplit(so, startup, 6);
+    }));
+  }
+
+  private static Buffer query() {
+    Buffer query = Buffer.buffer().appendByte((byte) 'Q').appendInt(0);
+    query.appendString(ResultShape.WORLD.sql()).appendByte((byte) 0);
+    query.setInt(1, query.length() - 1);
+    return query;
+  }
+
+  /**
+   * @return the number of complete {@code type} messages in {@code buffer}
+   */
+  private static int count(Buffer buffer, char type) {
+    int count = 0;
+    int idx = 0;
+    while (idx + 5 <= buffer.length() && idx + 1 + buffer.getInt(idx + 1) <= buffer.length()) {
+      if (buffer.getByte(idx) == type) {
+        count++;
+      }
+      idx += 1 + buffer.getInt(idx + 1);
+    }
+    return count;
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.benchmarks.server;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetSocket;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.benchmarks.ResultShape;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Runs the queries of the benchmarks with a real client against a fake server.
+ */
+@RunWith(VertxUnitRunner.class)
+public abstract class FakeServerTestBase<S extends FakeServerBase<S>> {
+
+  static final int ROWS = 3;
+
+  Vertx vertx;
+  S server;
+
+  @Before
+  public void setup(TestContext ctx) {
+    vertx = Vertx.vertx();
+    server = createServer(vertx).result(ResultShape.WORLD, ROWS);
+    server.listen(0, "localhost", ctx.asyncAssertSuccess());
+  }
+
+  @After
+  public void tearDown(TestContext ctx) {
+    vertx.close(ctx.asyncAssertSuccess());
+  }
+
+  abstract S createServer(Vertx vertx);
+
+  abstract void connect(Handler<AsyncResult<SqlConnection>> handler);
+
+  /**
+   * @return the SQL of the prepared query, with a single parameter
+   */
+  abstract String preparedSql();
+
+  @Test
+  public void testSimpleQuery(TestContext ctx) {
+    testSimpleQuery(ctx, 0);
+  }
+
+  @Test
+  public void testSimpleQueryWithLatency(TestContext ctx) {
+    testSimpleQuery(ctx, 20);
+  }
+
+  private void testSimpleQuery(TestContext ctx, long latency) {
+    server.latency(latency);
+    connect(ctx.asyncAssertSuccess(conn -> {
+      long requests = server.requests();
+      conn.query(ResultShape.WORLD.sql()).execute(ctx.asyncAssertSuccess(rows -> {
+        checkRows(ctx, rows);
+        ctx.assertEquals(requests + 1, server.requests());
+        conn.close();
+      }));
+    }));
+  }
+
+  @Test
+  public void testPreparedQuery(TestContext ctx) {
+    testPreparedQuery(ctx, 0);
+  }
+
+  @Test
+  public void testPreparedQueryWithLatency(TestContext ctx) {
+    testPreparedQuery(ctx, 20);
+  }
+
+  private void testPreparedQuery(TestContext ctx, long latency) {
+    server.latency(latency);
+    connect(ctx.asyncAssertSuccess(conn -> {
+      long requests = server.requests();
+      conn.preparedQuery(preparedSql()).execute(Tuple.of(1), ctx.asyncAssertSuccess(rows1 -> {
+        checkRows(ctx, rows1);
+        // The second execution reuses the prepared statement
+        conn.preparedQuery(preparedSql()).execute(Tuple.of(2), ctx.asyncAssertSuccess(rows2 -> {
+          checkRows(ctx, rows2);
+          ctx.assertEquals(requests + 2, server.requests());
+          conn.close();
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testPreparedBatch(TestContext ctx) {
+    testPreparedBatch(ctx, 0);
+  }
+
+  @Test
+  public void testPreparedBatchWithLatency(TestContext ctx) {
+    testPreparedBatch(ctx, 20);
+  }
+
+  private void testPreparedBatch(TestContext ctx, long latency) {
+    server.latency(latency);
+    connect(ctx.asyncAssertSuccess(conn -> {
+      long requests = server.requests();
+      conn.preparedQuery(preparedSql()).executeBatch(Arrays.asList(Tuple.of(1), Tuple.of(2), Tuple.of(3)), ctx.asyncAssertSuccess(rows -> {
+        int batches = 0;
+        for (RowSet<Row> batch = rows;batch != null;batch = batch.next()) {
+          checkRows(ctx, batch);
+          batches++;
+        }
+        ctx.assertEquals(3, batches);
+        ctx.assertEquals(requests + 3, server.requests());
+        conn.close();
+      }));
+    }));
+  }
+
+  private static void checkRows(TestContext ctx, RowSet<Row> rows) {
+    ctx.assertEquals(ROWS, rows.size());
+    ctx.assertEquals(Arrays.asList("c0", "c1"), rows.columnsNames());
+    int row = 0;
+    for (Row r : rows) {
+      ctx.assertEquals(ResultShape.WORLD.intValue(row, 0), r.getInteger(0));
+      ctx.assertEquals(ResultShape.WORLD.intValue(row, 1), r.getInteger(1));
+      row++;
+    }
+  }
+
+  /**
+   * Write a message in two parts, the second part is written once the first one has been flushed, so the server
+   * receives the message in two reads.
+   */
+  void writeSplit(NetSocket so, Buffer message, int split) {
+    so.write(message.getBuffer(0, split), ar -> {
+      vertx.setTimer(20, id -> so.write(message.getBuffer(split, message.length())));
+    });
+  }
+
+  /**
+   * Collect the data received by {@code so} until {@code condition} is met.
+   */
+  static void expect(TestContext ctx, NetSocket so, Predicate<Buffer> condition, Handler<Buffer> handler) {
+    Async async = ctx.async();
+    Buffer received = Buffer.buffer();
+    so.handler(data -> {
+      received.appendBuffer(data);
+      if (condition.test(received)) {
+        so.handler(null);
+        handler.handle(received);
+        async.complete();
+      }
+    });
+  }
+}
@@ -50,6 +50,11 @@ public class SqlConnectOptionsConverter {
             obj.setPreparedStatementCacheSqlLimit(((Number)member.getValue()).intValue());
           }
           break;
+        case "preparedStatementCacheThreshold":
+          if (member.getValue() instanceof Number) {
+            obj.setPreparedStatementCacheThreshold(((Number)member.getValue()).intValue());
+          }
+          break;
         case "properties":
           if (member.getValue() instanceof JsonObject) {
             java.util.Map<String, java.lang.String> map = new java.util.LinkedHashMap<>();
@@ -86,6 +91,7 @@ public class SqlConnectOptionsConverter {
     }
     json.put("port", obj.getPort());
     json.put("preparedStatementCacheMaxSize", obj.getPreparedStatementCacheMaxSize());
+    json.put("preparedStatementCacheThreshold", obj.getPreparedStatementCacheThreshold());
     if (obj.getProperties() != null) {
       JsonObject map = new JsonObject();
       obj.getProperties().forEach((key, value) -> map.put(key, value));
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient;
+
+import io.vertx.sqlclient.impl.ColumnarRowSetImpl;
+
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * A set of rows storing the values of each column in a contiguous array instead of one tuple per row.
+ * <p>
+ * Columns of {@code int}, {@code long} and {@code double} values are stored in primitive arrays, other columns
+ * are stored in an object array. A large result collected with {@link #collector()} uses a few arrays per column
+ * instead of a tuple and an array per row:
+ *
+ * <pre>
+ *   client.query("SELECT id, randomnumber FROM World")
+ *     .collecting(ColumnarRowSet.collector())
+ *     .execute(ar -&gt; {
+ *       ColumnarRowSet rows = ar.result().value();
+ *       long sum = 0;
+ *       for (int i = 0;i &lt; rows.size();i++) {
+ *         sum += rows.getIntValue(i, 1);
+ *       }
+ *     });
+ * </pre>
+ *
+ * The rows returned by {@link #row(int)} and by the iterator are read-only views of the columns.
+ */
+public interface ColumnarRowSet extends Iterable<Row> {
+
+  /**
+   * @return a collector of rows to a columnar row set, the collector must be used with a single query
+   */
+  static Collector<Row, ?, ColumnarRowSet> collector() {
+    return ColumnarRowSetImpl.collector();
+  }
+
+  /**
+   * @return the number of rows
+   */
+  int size();
+
+  /**
+   * @return the column names, empty when the set has no rows
+   */
+  List<String> columnsNames();
+
+  /**
+   * Get a column position.
+   *
+   * @param name the column name
+   * @return the column position or {@code -1} if not found
+   */
+  int getColumnIndex(String name);
+
+  /**
+   * Get a view of the row at {@code index}.
+   *
+   * @param index the row index
+   * @return the row
+   */
+  Row row(int index);
+
+  /**
+   * @return whether the value of {@code column} in the row at {@code index} is {@code null}
+   */
+  boolean isNull(int index, int column);
+
+  /**
+   * Get the value of {@code column} in the row at {@code index}.
+   *
+   * @param index the row index
+   * @param column the column position
+   * @return the value or {@code null}
+   */
+  Object getValue(int index, int column);
+
+  /**
+   * Get the int value of {@code column} in the row at {@code index} without boxing it.
+   *
+   * @param index the row index
+   * @param column the column position
+   * @return the value or {@code 0} when the value is {@code null} or is not a number
+   */
+  int getIntValue(int index, int column);
+
+  /**
+   * Get the long value of {@code column} in the row at {@code index} without boxing it.
+   *
+   * @param index the row index
+   * @param column the column position
+   * @return the value or {@code 0} when the value is {@code null} or is not a number
+   */
+  long getLongValue(int index, int column);
+
+  /**
+   * Get the double value of {@code column} in the row at {@code index} without boxing it.
+   *
+   * @param index the row index
+   * @param column the column position
+   * @return the value or {@code 0} when the value is {@code null} or is not a number
+   */
+  double getDoubleValue(int index, int column);
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+
+/**
+ * A pipeline of prepared queries sent together to the database server.
+ * <p>
+ * The queries executed with the {@link PreparedQuery} of the pipeline are not sent immediately, they are sent together
+ * when the pipeline is executed and each query is notified with its own result.
+ * <p>
+ * When the client supports it, the queries are executed as a single unit of work: when a query fails, the following
+ * queries are not executed and the pipeline fails.
+ */
+@VertxGen
+public interface Pipeline {
+
+  /**
+   * Create a prepared query whose executions are added to this pipeline.
+   *
+   * @param sql the sql
+   * @return the prepared query
+   */
+  PreparedQuery<RowSet<Row>> preparedQuery(String sql);
+
+  /**
+   * Execute the queries of this pipeline, a pipeline can be executed only once.
+   *
+   * @param handler the handler notified when all the queries have been executed
+   */
+  void execute(Handler<AsyncResult<Void>> handler);
+
+  /**
+   * Like {@link #execute(Handler)} but returns a {@code Future} of the asynchronous result
+   */
+  Future<Void> execute();
+
+}
@@ -171,6 +171,18 @@ public interface Pool extends SqlClient {
         .onComplete(ar -> conn.close()));
   }
 
+  /**
+   * @return the number of connection requests that failed because no connection was acquired within the
+   *         {@link PoolOptions#getConnectionTimeout() connection timeout}
+   */
+  int timedOutRequests();
+
+  /**
+   * @return the number of connection requests that failed immediately because the
+   *         {@link PoolOptions#getMaxWaitQueueSize() wait queue} was full
+   */
+  int rejectedRequests();
+
   /**
    * Close the pool and release the associated resources.
    *
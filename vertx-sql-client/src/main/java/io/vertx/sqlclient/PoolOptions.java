@@ -20,6 +20,8 @@ package io.vertx.sqlclient;
 import io.vertx.codegen.annotations.DataObject;
 import io.vertx.core.json.JsonObject;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * The options for configuring a connection pool.
  *
@@ -38,8 +40,74 @@ public class PoolOptions {
    */
   public static final int DEFAULT_MAX_WAIT_QUEUE_SIZE = -1;
 
+  /**
+   * Default event loop size = 0 (connections are bound to the context creating the pool)
+   */
+  public static final int DEFAULT_EVENT_LOOP_SIZE = 0;
+
+  /**
+   * Default connection timeout = 0 (no timeout)
+   */
+  public static final int DEFAULT_CONNECTION_TIMEOUT = 0;
+
+  /**
+   * Default connection timeout unit = {@link TimeUnit#MILLISECONDS}
+   */
+  public static final TimeUnit DEFAULT_CONNECTION_TIMEOUT_UNIT = TimeUnit.MILLISECONDS;
+
+  /**
+   * Default wait queue order = FIFO
+   */
+  public static final boolean DEFAULT_WAIT_QUEUE_LIFO = false;
+
+  /**
+   * Default idle timeout = 0 (idle connections are not closed)
+   */
+  public static final int DEFAULT_IDLE_TIMEOUT = 0;
+
+  /**
+   * Default idle timeout unit = {@link TimeUnit#MILLISECONDS}
+   */
+  public static final TimeUnit DEFAULT_IDLE_TIMEOUT_UNIT = TimeUnit.MILLISECONDS;
+
+  /**
+   * Default max lifetime = 0 (connections are not closed because of their age)
+   */
+  public static final int DEFAULT_MAX_LIFETIME = 0;
+
+  /**
+   * Default max lifetime unit = {@link TimeUnit#MILLISECONDS}
+   */
+  public static final TimeUnit DEFAULT_MAX_LIFETIME_UNIT = TimeUnit.MILLISECONDS;
+
+  /**
+   * Default min idle = 0
+   */
+  public static final int DEFAULT_MIN_IDLE = 0;
+
+  /**
+   * Default pool cleaner period = 1000 ms
+   */
+  public static final int DEFAULT_POOL_CLEANER_PERIOD = 1000;
+
+  /**
+   * Default pipelined = false
+   */
+  public static final boolean DEFAULT_PIPELINED = false;
+
   private int maxSize = DEFAULT_MAX_SIZE;
   private int maxWaitQueueSize = DEFAULT_MAX_WAIT_QUEUE_SIZE;
+  private int eventLoopSize = DEFAULT_EVENT_LOOP_SIZE;
+  private int connectionTimeout = DEFAULT_CONNECTION_TIMEOUT;
+  private TimeUnit connectionTimeoutUnit = DEFAULT_CONNECTION_TIMEOUT_UNIT;
+  private boolean waitQueueLifo = DEFAULT_WAIT_QUEUE_LIFO;
+  private int idleTimeout = DEFAULT_IDLE_TIMEOUT;
+  private TimeUnit idleTimeoutUnit = DEFAULT_IDLE_TIMEOUT_UNIT;
+  private int maxLifetime = DEFAULT_MAX_LIFETIME;
+  private TimeUnit maxLifetimeUnit = DEFAULT_MAX_LIFETIME_UNIT;
+  private int minIdle = DEFAULT_MIN_IDLE;
+  private int poolCleanerPeriod = DEFAULT_POOL_CLEANER_PERIOD;
+  private boolean pipelined = DEFAULT_PIPELINED;
 
   public PoolOptions() {
   }
@@ -51,6 +119,17 @@ public class PoolOptions {
   public PoolOptions(PoolOptions other) {
     maxSize = other.maxSize;
     maxWaitQueueSize = other.maxWaitQueueSize;
+    eventLoopSize = other.eventLoopSize;
+    connectionTimeout = other.connectionTimeout;
+    connectionTimeoutUnit = other.connectionTimeoutUnit;
+    waitQueueLifo = other.waitQueueLifo;
+    idleTimeout = other.idleTimeout;
+    idleTimeoutUnit = other.idleTimeoutUnit;
+    maxLifetime = other.maxLifetime;
+    maxLifetimeUnit = other.maxLifetimeUnit;
+    minIdle = other.minIdle;
+    poolCleanerPeriod = other.poolCleanerPeriod;
+    pipelined = other.pipelined;
   }
 
   /**
@@ -93,6 +172,238 @@ public class PoolOptions {
     return this;
   }
 
+  /**
+   * @return the number of event loops the pool connections are spread across
+   */
+  public int getEventLoopSize() {
+    return eventLoopSize;
+  }
+
+  /**
+   * Set the number of event loops the pool connections are spread across, the pool is split in slices
+   * sharing the max size and a connection is acquired from the slice of the caller event loop when possible.
+   * The slices run on distinct event loops, starting with the event loop of the context creating the pool, so
+   * the number of slices cannot exceed the number of Vert.x event loops.
+   * <p/>
+   * When the value is {@code 0}, all the connections are bound to the context creating the pool.
+   *
+   * @param eventLoopSize the number of event loops
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setEventLoopSize(int eventLoopSize) {
+    if (eventLoopSize < 0) {
+      throw new IllegalArgumentException("Event loop size cannot be negative");
+    }
+    this.eventLoopSize = eventLoopSize;
+    return this;
+  }
+
+  /**
+   * @return the amount of time a request waits for a connection before failing
+   */
+  public int getConnectionTimeout() {
+    return connectionTimeout;
+  }
+
+  /**
+   * Set the amount of time a request waits in the wait queue for a connection before failing, the time unit
+   * is defined by {@link #setConnectionTimeoutUnit(TimeUnit)}. When the value is {@code 0} the request waits
+   * until a connection is available.
+   *
+   * @param connectionTimeout the connection timeout
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setConnectionTimeout(int connectionTimeout) {
+    if (connectionTimeout < 0) {
+      throw new IllegalArgumentException("Connection timeout cannot be negative");
+    }
+    this.connectionTimeout = connectionTimeout;
+    return this;
+  }
+
+  /**
+   * @return the time unit of the connection timeout
+   */
+  public TimeUnit getConnectionTimeoutUnit() {
+    return connectionTimeoutUnit;
+  }
+
+  /**
+   * Set the time unit of the connection timeout.
+   *
+   * @param connectionTimeoutUnit the time unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setConnectionTimeoutUnit(TimeUnit connectionTimeoutUnit) {
+    this.connectionTimeoutUnit = connectionTimeoutUnit;
+    return this;
+  }
+
+  /**
+   * @return whether the latest request in the wait queue is served first
+   */
+  public boolean isWaitQueueLifo() {
+    return waitQueueLifo;
+  }
+
+  /**
+   * Set whether the latest request in the wait queue is served first. Under load, the oldest requests are
+   * then the ones failing because of the connection timeout or of the max wait queue size, so the recent
+   * requests keep a low latency.
+   *
+   * @param waitQueueLifo {@code true} to serve the wait queue in LIFO order
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setWaitQueueLifo(boolean waitQueueLifo) {
+    this.waitQueueLifo = waitQueueLifo;
+    return this;
+  }
+
+  /**
+   * @return the amount of time a connection can remain idle in the pool before being closed
+   */
+  public int getIdleTimeout() {
+    return idleTimeout;
+  }
+
+  /**
+   * Set the amount of time a connection can remain idle in the pool before being closed, the time unit is
+   * defined by {@link #setIdleTimeoutUnit(TimeUnit)}. When the value is {@code 0} idle connections are not closed.
+   *
+   * @param idleTimeout the idle timeout
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setIdleTimeout(int idleTimeout) {
+    if (idleTimeout < 0) {
+      throw new IllegalArgumentException("Idle timeout cannot be negative");
+    }
+    this.idleTimeout = idleTimeout;
+    return this;
+  }
+
+  /**
+   * @return the time unit of the idle timeout
+   */
+  public TimeUnit getIdleTimeoutUnit() {
+    return idleTimeoutUnit;
+  }
+
+  /**
+   * Set the time unit of the idle timeout.
+   *
+   * @param idleTimeoutUnit the time unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setIdleTimeoutUnit(TimeUnit idleTimeoutUnit) {
+    this.idleTimeoutUnit = idleTimeoutUnit;
+    return this;
+  }
+
+  /**
+   * @return the maximum amount of time a connection is kept in the pool
+   */
+  public int getMaxLifetime() {
+    return maxLifetime;
+  }
+
+  /**
+   * Set the maximum amount of time a connection is kept in the pool, the time unit is defined by
+   * {@link #setMaxLifetimeUnit(TimeUnit)}. An expired connection is closed when it is idle or when it
+   * is released. When the value is {@code 0} connections are not closed because of their age.
+   *
+   * @param maxLifetime the max lifetime
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMaxLifetime(int maxLifetime) {
+    if (maxLifetime < 0) {
+      throw new IllegalArgumentException("Max lifetime cannot be negative");
+    }
+    this.maxLifetime = maxLifetime;
+    return this;
+  }
+
+  /**
+   * @return the time unit of the max lifetime
+   */
+  public TimeUnit getMaxLifetimeUnit() {
+    return maxLifetimeUnit;
+  }
+
+  /**
+   * Set the time unit of the max lifetime.
+   *
+   * @param maxLifetimeUnit the time unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMaxLifetimeUnit(TimeUnit maxLifetimeUnit) {
+    this.maxLifetimeUnit = maxLifetimeUnit;
+    return this;
+  }
+
+  /**
+   * @return the minimum number of idle connections maintained by the pool
+   */
+  public int getMinIdle() {
+    return minIdle;
+  }
+
+  /**
+   * Set the minimum number of idle connections maintained by the pool, these connections are created when the
+   * pool is created and re-created after being closed, within the limit of the max pool size.
+   *
+   * @param minIdle the minimum number of idle connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMinIdle(int minIdle) {
+    if (minIdle < 0) {
+      throw new IllegalArgumentException("Min idle cannot be negative");
+    }
+    this.minIdle = minIdle;
+    return this;
+  }
+
+  /**
+   * @return the period in milliseconds of the pool cleaner
+   */
+  public int getPoolCleanerPeriod() {
+    return poolCleanerPeriod;
+  }
+
+  /**
+   * Set the period in milliseconds of the pool cleaner closing idle and expired connections and maintaining
+   * the minimum number of idle connections.
+   *
+   * @param poolCleanerPeriod the pool cleaner period
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setPoolCleanerPeriod(int poolCleanerPeriod) {
+    this.poolCleanerPeriod = poolCleanerPeriod;
+    return this;
+  }
+
+  /**
+   * @return whether the pool shares its connections between the queries executed directly on the pool
+   */
+  public boolean isPipelined() {
+    return pipelined;
+  }
+
+  /**
+   * Set whether the pool shares its connections between the queries executed directly on the pool.
+   * <p>
+   * Such queries are always executed on the least busy connection of the pool. When all the connections are busy
+   * and the pool can grow, a query waits for a new connection by default. When enabled, the query is pipelined on
+   * the least busy connection instead while a new connection is created in the background. A pool of {@code N}
+   * connections can then carry {@code N} times the connection pipelining limit of concurrent queries.
+   *
+   * @param pipelined {@code true} to share the pool connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setPipelined(boolean pipelined) {
+    this.pipelined = pipelined;
+    return this;
+  }
+
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
     PoolOptionsConverter.toJson(this, json);
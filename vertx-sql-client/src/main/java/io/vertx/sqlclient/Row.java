@@ -128,6 +128,72 @@ public interface Row extends Tuple {
     return pos == -1 ? null : getDouble(pos);
   }
 
+  /**
+   * Get an int value at {@code pos} without boxing it.
+   *
+   * @param pos the column position
+   * @return the value or {@code 0} when the value is {@code null} or is not a number
+   */
+  default int getIntValue(int pos) {
+    Object val = getValue(pos);
+    return val instanceof Number ? ((Number) val).intValue() : 0;
+  }
+
+  /**
+   * Get an int value at {@code pos} without boxing it.
+   *
+   * @param name the column
+   * @return the value or {@code 0} when the value is {@code null} or is not a number
+   */
+  default int getIntValue(String name) {
+    int pos = getColumnIndex(name);
+    return pos == -1 ? 0 : getIntValue(pos);
+  }
+
+  /**
+   * Get a long value at {@code pos} without boxing it.
+   *
+   * @param pos the column position
+   * @return the value or {@code 0} when the value is {@code null} or is not a number
+   */
+  default long getLongValue(int pos) {
+    Object val = getValue(pos);
+    return val instanceof Number ? ((Number) val).longValue() : 0L;
+  }
+
+  /**
+   * Get a long value at {@code pos} without boxing it.
+   *
+   * @param name the column
+   * @return the value or {@code 0} when the value is {@code null} or is not a number
+   */
+  default long getLongValue(String name) {
+    int pos = getColumnIndex(name);
+    return pos == -1 ? 0L : getLongValue(pos);
+  }
+
+  /**
+   * Get a double value at {@code pos} without boxing it.
+   *
+   * @param pos the column position
+   * @return the value or {@code 0} when the value is {@code null} or is not a number
+   */
+  default double getDoubleValue(int pos) {
+    Object val = getValue(pos);
+    return val instanceof Number ? ((Number) val).doubleValue() : 0D;
+  }
+
+  /**
+   * Get a double value at {@code pos} without boxing it.
+   *
+   * @param name the column
+   * @return the value or {@code 0} when the value is {@code null} or is not a number
+   */
+  default double getDoubleValue(String name) {
+    int pos = getColumnIndex(name);
+    return pos == -1 ? 0D : getDoubleValue(pos);
+  }
+
   /**
    * Get a string value at {@code pos}.
    *
@@ -32,6 +32,8 @@ public class SqlConnectOptions extends NetClientOptions {
   public static final int DEFAULT_PREPARED_STATEMENT_CACHE_MAX_SIZE = 256;
   public static final int DEFAULT_PREPARED_STATEMENT_CACHE_SQL_LIMIT = 2048;
   public static final Predicate<String> DEFAULT_PREPARED_STATEMENT_CACHE_FILTER = sql -> sql.length() < DEFAULT_PREPARED_STATEMENT_CACHE_SQL_LIMIT;
+  public static final int DEFAULT_PREPARED_STATEMENT_CACHE_THRESHOLD = 1;
+  public static final int MAX_PREPARED_STATEMENT_CACHE_THRESHOLD = 15;
 
   private String host;
   private int port;
@@ -41,6 +43,7 @@ public class SqlConnectOptions extends NetClientOptions {
   private boolean cachePreparedStatements = DEFAULT_CACHE_PREPARED_STATEMENTS;
   private int preparedStatementCacheMaxSize = DEFAULT_PREPARED_STATEMENT_CACHE_MAX_SIZE;
   private Predicate<String> preparedStatementCacheSqlFilter = DEFAULT_PREPARED_STATEMENT_CACHE_FILTER;
+  private int preparedStatementCacheThreshold = DEFAULT_PREPARED_STATEMENT_CACHE_THRESHOLD;
   private Map<String, String> properties = new HashMap<>(4);
 
   public SqlConnectOptions() {
@@ -64,6 +67,7 @@ public class SqlConnectOptions extends NetClientOptions {
     this.cachePreparedStatements = other.cachePreparedStatements;
     this.preparedStatementCacheMaxSize = other.preparedStatementCacheMaxSize;
     this.preparedStatementCacheSqlFilter = other.preparedStatementCacheSqlFilter;
+    this.preparedStatementCacheThreshold = other.preparedStatementCacheThreshold;
     if (other.properties != null) {
       this.properties = new HashMap<>(other.properties);
     }
@@ -251,6 +255,33 @@ public class SqlConnectOptions extends NetClientOptions {
     return setPreparedStatementCacheSqlFilter(sql -> sql.length() <= preparedStatementCacheSqlLimit);
   }
 
+  /**
+   * Get the number of recent executions of a SQL string after which the connection caches its prepared statement.
+   *
+   * @return the threshold
+   */
+  public int getPreparedStatementCacheThreshold() {
+    return preparedStatementCacheThreshold;
+  }
+
+  /**
+   * Set the number of recent executions of a SQL string after which the connection caches its prepared statement.
+   *
+   * <p> Until then the statement is not cached, the client might execute it without a separate prepare round trip
+   * when it knows its description, e.g the PostgreSQL client parses it with its execution. The default value
+   * {@link #DEFAULT_PREPARED_STATEMENT_CACHE_THRESHOLD} caches the statement at its first execution.
+   *
+   * @param preparedStatementCacheThreshold the threshold between {@code 1} and {@link #MAX_PREPARED_STATEMENT_CACHE_THRESHOLD}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlConnectOptions setPreparedStatementCacheThreshold(int preparedStatementCacheThreshold) {
+    if (preparedStatementCacheThreshold < 1 || preparedStatementCacheThreshold > MAX_PREPARED_STATEMENT_CACHE_THRESHOLD) {
+      throw new IllegalArgumentException("Prepared statement cache threshold must be between 1 and " + MAX_PREPARED_STATEMENT_CACHE_THRESHOLD);
+    }
+    this.preparedStatementCacheThreshold = preparedStatementCacheThreshold;
+    return this;
+  }
+
   /**
    * @return the value of current connection properties
    */
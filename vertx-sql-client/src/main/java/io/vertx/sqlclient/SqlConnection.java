@@ -47,6 +47,13 @@ public interface SqlConnection extends SqlClient {
    */
   Future<PreparedStatement> prepare(String sql);
 
+  /**
+   * Create a pipeline of prepared queries sent together to the database server when the pipeline is executed.
+   *
+   * @return the pipeline
+   */
+  Pipeline pipeline();
+
   /**
    * Set an handler called with connection errors.
    *
@@ -95,4 +102,22 @@ public interface SqlConnection extends SqlClient {
    */
   DatabaseMetadata databaseMetadata();
 
+  /**
+   * @return the number of executions that found their statement in the prepared statement cache of this connection,
+   *         {@code 0} when the cache is disabled
+   */
+  long preparedStatementCacheHits();
+
+  /**
+   * @return the number of executions that did not find their statement in the prepared statement cache of this
+   *         connection, {@code 0} when the cache is disabled
+   */
+  long preparedStatementCacheMisses();
+
+  /**
+   * @return the number of statements evicted from the prepared statement cache of this connection and closed,
+   *         {@code 0} when the cache is disabled
+   */
+  long preparedStatementCacheEvictions();
+
 }
@@ -37,6 +37,34 @@ public interface Transaction {
    */
   void commit(Handler<AsyncResult<Void>> handler);
 
+  /**
+   * Execute the {@code query} and commit the transaction.
+   * <p>
+   * The query must be created from the connection of this transaction. When the client knows the transaction is
+   * rolled back by the database after a failed statement, the commit is sent with the query without waiting for
+   * its result, otherwise the commit is sent after the query succeeds. When the query fails the transaction is
+   * rolled back and the returned future is failed with the query failure.
+   *
+   * @param query the last query of the transaction
+   * @return the result of the query, available after the commit
+   */
+  <R> Future<R> commitWith(Query<R> query);
+
+  /**
+   * Like {@link #commitWith(Query)} with an handler to be notified when the transaction commit has completed
+   */
+  <R> void commitWith(Query<R> query, Handler<AsyncResult<R>> handler);
+
+  /**
+   * Like {@link #commitWith(Query)} but executes a prepared query with {@code arguments}.
+   */
+  <R> Future<R> commitWith(PreparedQuery<R> query, Tuple arguments);
+
+  /**
+   * Like {@link #commitWith(PreparedQuery, Tuple)} with an handler to be notified when the transaction commit has completed
+   */
+  <R> void commitWith(PreparedQuery<R> query, Tuple arguments, Handler<AsyncResult<R>> handler);
+
   /**
    * Rollback the transaction and release the associated resources.
    */
@@ -22,12 +22,26 @@ import io.vertx.sqlclient.Tuple;
 import java.util.Arrays;
 import java.util.Collection;
 
+/**
+ * A tuple storing its values in an array.
+ * <p>
+ * The {@code int}, {@code long} and {@code double} values added by the row decoders with {@link #addInt(int)},
+ * {@link #addLong(long)} and {@link #addDouble(double)} are kept in a primitive array and are only boxed when
+ * they are accessed as objects, {@link #getIntValue(int)}, {@link #getLongValue(int)} and {@link #getDoubleValue(int)}
+ * never box them.
+ */
 public class ArrayTuple implements TupleInternal {
 
   private static final Object[] EMPTY_ARRAY = new Object[0];
   public static Tuple EMPTY = new ArrayTuple(0);
 
+  // Markers of the values stored in the primitives array
+  private static final Object INT = new Object();
+  private static final Object LONG = new Object();
+  private static final Object DOUBLE = new Object();
+
   private Object[] values;
+  private long[] primitives;
   private int size;
 
   public ArrayTuple(int len) {
@@ -53,18 +67,102 @@ public class ArrayTuple implements TupleInternal {
 
   @Override
   public Object getValue(int pos) {
-    return pos >= 0 && pos < size ? values[pos] : null;
+    if (pos < 0 || pos >= size) {
+      return null;
+    }
+    Object value = values[pos];
+    if (value == INT) {
+      value = (int) primitives[pos];
+    } else if (value == LONG) {
+      value = primitives[pos];
+    } else if (value == DOUBLE) {
+      value = Double.longBitsToDouble(primitives[pos]);
+    } else {
+      return value;
+    }
+    values[pos] = value;
+    return value;
+  }
+
+  /**
+   * @return whether the value at {@code pos} is kept in the primitive storage
+   */
+  public boolean isPrimitive(int pos) {
+    if (pos < 0 || pos >= size) {
+      return false;
+    }
+    Object value = values[pos];
+    return value == INT || value == LONG || value == DOUBLE;
+  }
+
+  public int getIntValue(int pos) {
+    return (int) getLongValue(pos);
+  }
+
+  public long getLongValue(int pos) {
+    if (pos < 0 || pos >= size) {
+      return 0L;
+    }
+    Object value = values[pos];
+    if (value == INT || value == LONG) {
+      return primitives[pos];
+    } else if (value == DOUBLE) {
+      return (long) Double.longBitsToDouble(primitives[pos]);
+    } else if (value instanceof Number) {
+      return ((Number) value).longValue();
+    }
+    return 0L;
+  }
+
+  public double getDoubleValue(int pos) {
+    if (pos < 0 || pos >= size) {
+      return 0D;
+    }
+    Object value = values[pos];
+    if (value == INT || value == LONG) {
+      return primitives[pos];
+    } else if (value == DOUBLE) {
+      return Double.longBitsToDouble(primitives[pos]);
+    } else if (value instanceof Number) {
+      return ((Number) value).doubleValue();
+    }
+    return 0D;
   }
 
   @Override
   public Tuple addValue(Object value) {
+    ensureCapacity();
+    values[size++] = value;
+    return this;
+  }
+
+  public void addInt(int value) {
+    addPrimitive(INT, value);
+  }
+
+  public void addLong(long value) {
+    addPrimitive(LONG, value);
+  }
+
+  public void addDouble(double value) {
+    addPrimitive(DOUBLE, Double.doubleToRawLongBits(value));
+  }
+
+  private void addPrimitive(Object marker, long value) {
+    ensureCapacity();
+    if (primitives == null || primitives.length < values.length) {
+      primitives = primitives == null ? new long[values.length] : Arrays.copyOf(primitives, values.length);
+    }
+    primitives[size] = value;
+    values[size++] = marker;
+  }
+
+  private void ensureCapacity() {
     if (size >= values.length) {
       Object[] copy = new Object[(values.length << 1) + 1];
       System.arraycopy(values, 0, copy, 0, values.length);
       values = copy;
     }
-    values[size++] = value;
-    return this;
   }
 
   @Override
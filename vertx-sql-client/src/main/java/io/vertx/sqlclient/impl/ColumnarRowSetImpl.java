@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.sqlclient.ColumnarRowSet;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collector;
+
+public class ColumnarRowSetImpl implements ColumnarRowSet {
+
+  private static final Collector<Row, ColumnarRowSetImpl, ColumnarRowSet> COLLECTOR = Collector.of(
+    ColumnarRowSetImpl::new,
+    ColumnarRowSetImpl::add,
+    (set1, set2) -> null, // Shall not be invoked as this is sequential
+    set -> set
+  );
+
+  public static Collector<Row, ?, ColumnarRowSet> collector() {
+    return COLLECTOR;
+  }
+
+  private List<String> columnNames = Collections.emptyList();
+  private Column[] columns;
+  private int size;
+
+  private void add(Row row) {
+    if (columns == null) {
+      int len = row.size();
+      List<String> names = new ArrayList<>(len);
+      columns = new Column[len];
+      for (int i = 0;i < len;i++) {
+        names.add(row.getColumnName(i));
+        columns[i] = new Column();
+      }
+      columnNames = Collections.unmodifiableList(names);
+    }
+    for (int i = 0;i < columns.length;i++) {
+      columns[i].add(row, i, size);
+    }
+    size++;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public List<String> columnsNames() {
+    return columnNames;
+  }
+
+  @Override
+  public int getColumnIndex(String name) {
+    if (name == null) {
+      throw new NullPointerException();
+    }
+    int idx = columnNames.indexOf(name);
+    if (idx == -1) {
+      // Some databases report upper case names for unquoted identifiers
+      for (int i = 0;i < columnNames.size();i++) {
+        if (name.equalsIgnoreCase(columnNames.get(i))) {
+          return i;
+        }
+      }
+    }
+    return idx;
+  }
+
+  @Override
+  public Row row(int index) {
+    checkIndex(index);
+    return new ColumnarRow(index);
+  }
+
+  @Override
+  public Iterator<Row> iterator() {
+    return new Iterator<Row>() {
+      int index;
+      @Override
+      public boolean hasNext() {
+        return index < size;
+      }
+      @Override
+      public Row next() {
+        if (index >= size) {
+          throw new NoSuchElementException();
+        }
+        return new ColumnarRow(index++);
+      }
+    };
+  }
+
+  @Override
+  public boolean isNull(int index, int column) {
+    return column(index, column).isNull(index);
+  }
+
+  @Override
+  public Object getValue(int index, int column) {
+    return column(index, column).getValue(index);
+  }
+
+  @Override
+  public int getIntValue(int index, int column) {
+    return column(index, column).getIntValue(index);
+  }
+
+  @Override
+  public long getLongValue(int index, int column) {
+    return column(index, column).getLongValue(index);
+  }
+
+  @Override
+  public double getDoubleValue(int index, int column) {
+    return column(index, column).getDoubleValue(index);
+  }
+
+  private Column column(int index, int column) {
+    checkIndex(index);
+    if (column < 0 || column >= columnNames.size()) {
+      throw new IndexOutOfBoundsException("Invalid column " + column + ": must be >= 0 and < " + columnNames.size());
+    }
+    return columns[column];
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Invalid index " + index + ": must be >= 0 and < " + size);
+    }
+  }
+
+  /**
+   * The values of a column, the column kind is determined by the first non null value and changes to
+   * {@link #OBJECT} when a value of another type is added.
+   */
+  private static final class Column {
+
+    private static final int UNKNOWN = 0;
+    private static final int INT = 1;
+    private static final int LONG = 2;
+    private static final int DOUBLE = 3;
+    private static final int OBJECT = 4;
+
+    private int kind = UNKNOWN;
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+    private Object[] objects;
+    private BitSet nulls;
+
+    void add(Row row, int pos, int index) {
+      if (kind != UNKNOWN && kind != OBJECT && row instanceof ArrayTuple && ((ArrayTuple) row).isPrimitive(pos)) {
+        switch (kind) {
+          case INT:
+            ints = grow(ints, index);
+            ints[index] = row.getIntValue(pos);
+            return;
+          case LONG:
+            longs = grow(longs, index);
+            longs[index] = row.getLongValue(pos);
+            return;
+          case DOUBLE:
+            doubles = grow(doubles, index);
+            doubles[index] = row.getDoubleValue(pos);
+            return;
+        }
+      }
+      addValue(row.getValue(pos), index);
+    }
+
+    private void addValue(Object value, int index) {
+      if (value == null) {
+        if (nulls == null) {
+          nulls = new BitSet();
+        }
+        nulls.set(index);
+        return;
+      }
+      if (kind == UNKNOWN) {
+        if (value instanceof Integer) {
+          kind = INT;
+        } else if (value instanceof Long) {
+          kind = LONG;
+        } else if (value instanceof Double) {
+          kind = DOUBLE;
+        } else {
+          kind = OBJECT;
+        }
+      }
+      switch (kind) {
+        case INT:
+          if (value instanceof Integer) {
+            ints = grow(ints, index);
+            ints[index] = (Integer) value;
+            return;
+          }
+          break;
+        case LONG:
+          if (value instanceof Long) {
+            longs = grow(longs, index);
+            longs[index] = (Long) value;
+            return;
+          }
+          break;
+        case DOUBLE:
+          if (value instanceof Double) {
+            doubles = grow(doubles, index);
+            doubles[index] = (Double) value;
+            return;
+          }
+          break;
+      }
+      if (kind != OBJECT) {
+        toObjects(index);
+      }
+      if (objects == null) {
+        objects = new Object[Math.max(16, index + 1)];
+      } else if (index >= objects.length) {
+        objects = Arrays.copyOf(objects, newCapacity(objects.length, index));
+      }
+      objects[index] = value;
+    }
+
+    private void toObjects(int count) {
+      Object[] copy = new Object[newCapacity(count, count)];
+      for (int i = 0;i < count;i++) {
+        copy[i] = getValue(i);
+      }
+      objects = copy;
+      ints = null;
+      longs = null;
+      doubles = null;
+      kind = OBJECT;
+    }
+
+    boolean isNull(int index) {
+      return kind == UNKNOWN || (nulls != null && nulls.get(index));
+    }
+
+    Object getValue(int index) {
+      if (isNull(index)) {
+        return null;
+      }
+      switch (kind) {
+        case INT:
+          return ints[index];
+        case LONG:
+          return longs[index];
+        case DOUBLE:
+          return doubles[index];
+        default:
+          return objects[index];
+      }
+    }
+
+    int getIntValue(int index) {
+      if (kind == INT) {
+        return isNull(index) ? 0 : ints[index];
+      }
+      return (int) getLongValue(index);
+    }
+
+    long getLongValue(int index) {
+      if (isNull(index)) {
+        return 0L;
+      }
+      switch (kind) {
+        case INT:
+          return ints[index];
+        case LONG:
+          return longs[index];
+        case DOUBLE:
+          return (long) doubles[index];
+        default:
+          Object value = objects[index];
+          return value instanceof Number ? ((Number) value).longValue() : 0L;
+      }
+    }
+
+    double getDoubleValue(int index) {
+      if (isNull(index)) {
+        return 0D;
+      }
+      switch (kind) {
+        case INT:
+          return ints[index];
+        case LONG:
+          return longs[index];
+        case DOUBLE:
+          return doubles[index];
+        default:
+          Object value = objects[index];
+          return value instanceof Number ? ((Number) value).doubleValue() : 0D;
+      }
+    }
+
+    private static int newCapacity(int length, int index) {
+      int capacity = Math.max(16, length + (length >> 1));
+      return Math.max(capacity, index + 1);
+    }
+
+    private static int[] grow(int[] array, int index) {
+      if (array == null) {
+        return new int[newCapacity(0, index)];
+      }
+      return index < array.length ? array : Arrays.copyOf(array, newCapacity(array.length, index));
+    }
+
+    private static long[] grow(long[] array, int index) {
+      if (array == null) {
+        return new long[newCapacity(0, index)];
+      }
+      return index < array.length ? array : Arrays.copyOf(array, newCapacity(array.length, index));
+    }
+
+    private static double[] grow(double[] array, int index) {
+      if (array == null) {
+        return new double[newCapacity(0, index)];
+      }
+      return index < array.length ? array : Arrays.copyOf(array, newCapacity(array.length, index));
+    }
+  }
+
+  /**
+   * A read-only view of a row.
+   */
+  private final class ColumnarRow implements Row {
+
+    private final int index;
+
+    ColumnarRow(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public String getColumnName(int pos) {
+      return pos < 0 || pos >= columnNames.size() ? null : columnNames.get(pos);
+    }
+
+    @Override
+    public int getColumnIndex(String name) {
+      return ColumnarRowSetImpl.this.getColumnIndex(name);
+    }
+
+    @Override
+    public Object getValue(int pos) {
+      return pos < 0 || pos >= columnNames.size() ? null : columns[pos].getValue(index);
+    }
+
+    @Override
+    public int getIntValue(int pos) {
+      return pos < 0 || pos >= columnNames.size() ? 0 : columns[pos].getIntValue(index);
+    }
+
+    @Override
+    public long getLongValue(int pos) {
+      return pos < 0 || pos >= columnNames.size() ? 0L : columns[pos].getLongValue(index);
+    }
+
+    @Override
+    public double getDoubleValue(int pos) {
+      return pos < 0 || pos >= columnNames.size() ? 0D : columns[pos].getDoubleValue(index);
+    }
+
+    @Override
+    public Tuple addValue(Object value) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int size() {
+      return columnNames.size();
+    }
+
+    @Override
+    public void clear() {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
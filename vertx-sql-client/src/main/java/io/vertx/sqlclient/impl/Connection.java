@@ -30,8 +30,30 @@ public interface Connection extends CommandScheduler  {
     return false;
   }
 
+  /**
+   * @return {@code true} when a failed statement aborts the current transaction, a {@code COMMIT} sent before the
+   *         statement result is known then rolls back the transaction
+   */
+  default boolean isTransactionAbortedOnError() {
+    return false;
+  }
+
   void init(Holder holder);
 
+  /**
+   * @return the number of commands scheduled on this connection and not yet completed
+   */
+  default int inflight() {
+    return 0;
+  }
+
+  /**
+   * @return the connection to the database server, i.e. this connection unless it wraps another connection
+   */
+  default Connection unwrap() {
+    return this;
+  }
+
   boolean isSsl();
 
   DatabaseMetadata getDatabaseMetaData();
@@ -17,6 +17,7 @@
 package io.vertx.sqlclient.impl;
 
 import io.vertx.core.Future;
+import io.vertx.core.impl.ContextInternal;
 
 public interface ConnectionFactory {
 
@@ -27,6 +28,16 @@ public interface ConnectionFactory {
    */
   Future<Connection> connect();
 
+  /**
+   * Connect to the database and returns a connection bound to the event loop of the given {@code context}.
+   *
+   * @param context the context of the connection
+   * @return a connection future
+   */
+  default Future<Connection> connect(ContextInternal context) {
+    return connect();
+  }
+
   default Future<Void> close() {
     return Future.succeededFuture();
   }
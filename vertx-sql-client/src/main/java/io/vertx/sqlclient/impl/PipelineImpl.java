@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.spi.metrics.ClientMetrics;
+import io.vertx.sqlclient.Pipeline;
+import io.vertx.sqlclient.SqlClient;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
+import io.vertx.sqlclient.impl.command.PipelineCommand;
+import io.vertx.sqlclient.impl.tracing.QueryTracer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the extended queries scheduled by its prepared queries and executes them with a {@link PipelineCommand}.
+ */
+class PipelineImpl extends SqlClientBase<SqlClient> implements Pipeline {
+
+  private final SqlConnectionImpl<?> connection;
+  private List<ExtendedQueryCommand<?>> commands = new ArrayList<>();
+  private final List<Promise<?>> promises = new ArrayList<>();
+
+  PipelineImpl(SqlConnectionImpl<?> connection, QueryTracer tracer, ClientMetrics metrics) {
+    super(tracer, metrics);
+    this.connection = connection;
+  }
+
+  @Override
+  protected <T> Promise<T> promise() {
+    return connection.promise();
+  }
+
+  @Override
+  protected <T> Promise<T> promise(Handler<AsyncResult<T>> handler) {
+    return connection.promise(handler);
+  }
+
+  @Override
+  boolean autoCommit() {
+    return connection.autoCommit();
+  }
+
+  @Override
+  public synchronized <R> void schedule(CommandBase<R> cmd, Promise<R> promise) {
+    if (commands == null) {
+      promise.fail("Pipeline already executed");
+    } else if (!(cmd instanceof ExtendedQueryCommand)) {
+      promise.fail("Only prepared queries can be added to a pipeline");
+    } else {
+      cmd.handler = promise;
+      commands.add((ExtendedQueryCommand<?>) cmd);
+      promises.add(promise);
+    }
+  }
+
+  @Override
+  public void execute(Handler<AsyncResult<Void>> handler) {
+    Future<Void> fut = execute();
+    if (handler != null) {
+      fut.onComplete(handler);
+    }
+  }
+
+  @Override
+  public Future<Void> execute() {
+    Promise<Void> promise = promise();
+    List<ExtendedQueryCommand<?>> list;
+    synchronized (this) {
+      list = commands;
+      commands = null;
+    }
+    if (list == null) {
+      promise.fail("Pipeline already executed");
+    } else if (list.isEmpty()) {
+      promise.complete();
+    } else {
+      // The queries not completed by the connection, e.g. when a statement cannot be prepared, fail with the pipeline
+      promise.future().onFailure(err -> {
+        for (Promise<?> p : promises) {
+          p.tryFail(err);
+        }
+      });
+      connection.schedule(new PipelineCommand(list), promise);
+    }
+    return promise.future();
+  }
+
+  @Override
+  public void close(Handler<AsyncResult<Void>> handler) {
+    Future<Void> fut = close();
+    if (handler != null) {
+      fut.onComplete(handler);
+    }
+  }
+
+  /**
+   * Discard the queries of a pipeline which has not been executed, the connection is not closed.
+   */
+  @Override
+  public Future<Void> close() {
+    Promise<Void> promise = promise();
+    List<ExtendedQueryCommand<?>> list;
+    synchronized (this) {
+      list = commands;
+      commands = null;
+    }
+    if (list != null) {
+      for (Promise<?> p : promises) {
+        p.tryFail("Pipeline closed");
+      }
+    }
+    promise.complete();
+    return promise.future();
+  }
+}
@@ -17,6 +17,8 @@
 
 package io.vertx.sqlclient.impl;
 
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
 import io.vertx.core.Closeable;
 import io.vertx.core.Promise;
 import io.vertx.core.impl.CloseFuture;
@@ -30,9 +32,12 @@ import io.vertx.sqlclient.impl.command.CommandBase;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
-import io.vertx.sqlclient.impl.pool.ConnectionPool;
+import io.vertx.sqlclient.impl.pool.ShardedConnectionPool;
 import io.vertx.sqlclient.impl.tracing.QueryTracer;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  * @author <a href="mailto:emad.albloushi@gmail.com">Emad Alblueshi</a>
@@ -41,17 +46,43 @@ public abstract class PoolBase<P extends Pool> extends SqlClientBase<P> implemen
 
   private final VertxInternal vertx;
   private final ConnectionFactory factory;
-  private final ConnectionPool pool;
+  private final ShardedConnectionPool pool;
   private final CloseFuture closeFuture;
 
   public PoolBase(ContextInternal context, ConnectionFactory factory, QueryTracer tracer, ClientMetrics metrics, PoolOptions poolOptions) {
     super(tracer, metrics);
     this.vertx = context.owner();
     this.factory = factory;
-    this.pool = new ConnectionPool(factory, context, poolOptions.getMaxSize(), poolOptions.getMaxWaitQueueSize());
+    this.pool = new ShardedConnectionPool(factory, poolContexts(context, poolOptions), poolOptions.getMaxSize(), poolOptions);
     this.closeFuture = new CloseFuture(this);
   }
 
+  private static ContextInternal[] poolContexts(ContextInternal context, PoolOptions poolOptions) {
+    int eventLoopSize = Math.min(poolOptions.getEventLoopSize(), poolOptions.getMaxSize());
+    if (eventLoopSize <= 0) {
+      return new ContextInternal[] { context };
+    }
+    VertxInternal vertx = context.owner();
+    // One slice per distinct event loop so that callers find the slice of their own event loop, starting with
+    // the event loop of the context creating the pool
+    List<EventLoop> eventLoops = new ArrayList<>(eventLoopSize);
+    eventLoops.add(context.nettyEventLoop());
+    for (EventExecutor executor : vertx.getEventLoopGroup()) {
+      if (eventLoops.size() == eventLoopSize) {
+        break;
+      }
+      EventLoop eventLoop = (EventLoop) executor;
+      if (!eventLoops.contains(eventLoop)) {
+        eventLoops.add(eventLoop);
+      }
+    }
+    ContextInternal[] contexts = new ContextInternal[eventLoops.size()];
+    for (int i = 0;i < contexts.length;i++) {
+      contexts[i] = vertx.createEventLoopContext(eventLoops.get(i), null, Thread.currentThread().getContextClassLoader());
+    }
+    return contexts;
+  }
+
   public CloseFuture closeFuture() {
     return closeFuture;
   }
@@ -91,7 +122,7 @@ public abstract class PoolBase<P extends Pool> extends SqlClientBase<P> implemen
       metric = null;
     }
     Promise<Connection> promise = current.promise();
-    acquire(promise);
+    acquire(current, false, promise);
     if (metrics != null) {
       promise.future().onComplete(ar -> {
         metrics.dequeueRequest(metric);
@@ -112,7 +143,7 @@ public abstract class PoolBase<P extends Pool> extends SqlClientBase<P> implemen
     } else {
       metric = null;
     }
-    acquire(new CommandWaiter() {
+    acquire((ContextInternal) vertx.getContext(), true, new CommandWaiter() {
       @Override
       protected void onSuccess(Connection conn) {
         if (metrics != null) {
@@ -132,8 +163,18 @@ public abstract class PoolBase<P extends Pool> extends SqlClientBase<P> implemen
     });
   }
 
-  private void acquire(Handler<AsyncResult<Connection>> completionHandler) {
-    pool.acquire(completionHandler);
+  @Override
+  public int timedOutRequests() {
+    return pool.timedOut();
+  }
+
+  @Override
+  public int rejectedRequests() {
+    return pool.rejected();
+  }
+
+  private void acquire(ContextInternal current, boolean query, Handler<AsyncResult<Connection>> completionHandler) {
+    pool.acquire(current, query, completionHandler);
   }
 
   private static abstract class CommandWaiter implements Connection.Holder, Handler<AsyncResult<Connection>> {
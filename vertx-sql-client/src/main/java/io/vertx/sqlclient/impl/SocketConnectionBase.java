@@ -22,6 +22,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.DecoderException;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -36,6 +37,7 @@ import io.vertx.sqlclient.impl.codec.InvalidCachedStatementEvent;
 import io.vertx.sqlclient.impl.command.*;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -54,6 +56,7 @@ public abstract class SocketConnectionBase implements Connection {
 
   protected final PreparedStatementCache psCache;
   private final Predicate<String> preparedStatementCacheSqlFilter;
+  private final int preparedStatementCacheThreshold;
   private final ArrayDeque<CommandBase<?>> pending = new ArrayDeque<>();
   private final ContextInternal context;
   private int inflight;
@@ -68,6 +71,7 @@ public abstract class SocketConnectionBase implements Connection {
                               boolean cachePreparedStatements,
                               int preparedStatementCacheSize,
                               Predicate<String> preparedStatementCacheSqlFilter,
+                              int preparedStatementCacheThreshold,
                               int pipeliningLimit,
                               ContextInternal context) {
     this.socket = socket;
@@ -76,6 +80,7 @@ public abstract class SocketConnectionBase implements Connection {
     this.paused = false;
     this.psCache = cachePreparedStatements ? new PreparedStatementCache(preparedStatementCacheSize) : null;
     this.preparedStatementCacheSqlFilter = preparedStatementCacheSqlFilter;
+    this.preparedStatementCacheThreshold = preparedStatementCacheThreshold;
   }
 
   public Context context() {
@@ -107,6 +112,11 @@ public abstract class SocketConnectionBase implements Connection {
     this.holder = holder;
   }
 
+  @Override
+  public int inflight() {
+    return inflight + pending.size();
+  }
+
   @Override
   public int getProcessId() {
     throw new UnsupportedOperationException();
@@ -150,7 +160,33 @@ public abstract class SocketConnectionBase implements Connection {
     }
     cmd.handler = handler;
     if (status == Status.CONNECTED) {
-      pending.add(cmd);
+      if (cmd instanceof PipelineCommand && !supportsPipelineCommand()) {
+        schedulePipeline((PipelineCommand) cmd);
+      } else {
+        pending.add(cmd);
+      }
+      checkPending();
+    } else {
+      cmd.fail(new VertxException("Connection not open " + status));
+    }
+  }
+
+  /**
+   * Schedule {@code cmd} before the pending commands, it is used to continue a command executed as a sequence of
+   * commands from the completion of the previous one: the commands scheduled meanwhile are executed after the
+   * whole sequence.
+   */
+  protected <R> void doScheduleNext(CommandBase<R> cmd, Handler<AsyncResult<R>> handler) {
+    if (handler == null) {
+      throw new IllegalArgumentException();
+    }
+    Context context = Vertx.currentContext();
+    if (context != this.context) {
+      throw new IllegalStateException();
+    }
+    cmd.handler = handler;
+    if (status == Status.CONNECTED) {
+      pending.addFirst(cmd);
       checkPending();
     } else {
       cmd.fail(new VertxException("Connection not open " + status));
@@ -171,13 +207,58 @@ public abstract class SocketConnectionBase implements Connection {
           }
         }
         if (queryCmd.ps == null) {
-          // Execute prepare
-          boolean cache = psCache != null && preparedStatementCacheSqlFilter.test(queryCmd.sql());
-          PrepareStatementCommand prepareCmd = prepareCommand(queryCmd, cache, false);
-          paused = true;
-          inflight++;
-          cmd = prepareCmd;
+          boolean cache = shouldCache(queryCmd.sql());
+          PreparedStatement ps = describedStatement(queryCmd, cache);
+          if (ps != null) {
+            // Parsed with the execution, the pipeline is not paused
+            queryCmd.ps = ps;
+            String msg = queryCmd.prepare();
+            if (msg != null) {
+              inflight--;
+              queryCmd.fail(new NoStackTraceThrowable(msg));
+              continue;
+            }
+            if (cache) {
+              cacheParsedStatement(queryCmd, ps);
+            }
+          } else {
+            // Execute prepare
+            PrepareStatementCommand prepareCmd = prepareCommand(queryCmd, cache, false);
+            paused = true;
+            inflight++;
+            cmd = prepareCmd;
+          }
+        }
+      } else if (cmd instanceof PipelineCommand) {
+        PipelineCommand pipeline = (PipelineCommand) cmd;
+        List<ExtendedQueryCommand<?>> unprepared = null;
+        for (ExtendedQueryCommand<?> queryCmd : pipeline.commands()) {
+          if (queryCmd.ps == null && psCache != null) {
+            queryCmd.ps = psCache.get(queryCmd.sql());
+          }
+          if (queryCmd.ps == null && !shouldCache(queryCmd.sql())) {
+            queryCmd.ps = describedStatement(queryCmd, false);
+          }
+          if (queryCmd.ps == null) {
+            if (unprepared == null) {
+              unprepared = new ArrayList<>();
+            }
+            unprepared.add(queryCmd);
+          }
         }
+        if (unprepared != null) {
+          // Prepare the statements together, the pipeline is sent when they are all prepared
+          written += preparePipeline(pipeline, unprepared);
+          continue;
+        }
+        String msg = validatePipeline(pipeline);
+        if (msg != null) {
+          inflight--;
+          pipeline.fail(new NoStackTraceThrowable(msg));
+          continue;
+        }
+      } else if (pausesPipeline(cmd)) {
+        pausePipeline(cmd);
       }
       written++;
       ctx.write(cmd);
@@ -187,6 +268,159 @@ public abstract class SocketConnectionBase implements Connection {
     }
   }
 
+  /**
+   * @return {@code true} when the statement of {@code sql} should be cached, i.e. it passes the cache filter and it has
+   *         been executed at least {@code preparedStatementCacheThreshold} times recently
+   */
+  private boolean shouldCache(String sql) {
+    if (psCache == null || !preparedStatementCacheSqlFilter.test(sql)) {
+      return false;
+    }
+    return preparedStatementCacheThreshold <= 1 || psCache.frequency(sql) >= preparedStatementCacheThreshold;
+  }
+
+  /**
+   * Create the statement of {@code queryCmd} when the codec can parse it with its execution instead of preparing
+   * it with a separate round trip, e.g. from a description known by the connection. When {@code cache} is
+   * {@code true} the codec replaces {@link ExtendedQueryCommand#ps} by the statement it has parsed, the connection
+   * caches it when the command completes.
+   *
+   * @return the statement or {@code null} when the statement must be prepared
+   */
+  protected PreparedStatement describedStatement(ExtendedQueryCommand<?> queryCmd, boolean cache) {
+    return null;
+  }
+
+  private <R> void cacheParsedStatement(ExtendedQueryCommand<R> queryCmd, PreparedStatement described) {
+    Handler<AsyncResult<R>> handler = queryCmd.handler;
+    queryCmd.handler = ar -> {
+      PreparedStatement ps = queryCmd.ps;
+      if (ps != described) {
+        if (psCache != null && psCache.contains(ps.sql())) {
+          // Parsed by another execution sent before this one completed
+          closeStatement(ps);
+        } else {
+          cacheStatement(ps);
+        }
+      }
+      handler.handle(ar);
+    };
+  }
+
+  /**
+   * @return {@code true} when the codec executes a {@link PipelineCommand} with a single exchange, otherwise the
+   *         queries of the pipeline are executed one after the other
+   */
+  protected boolean supportsPipelineCommand() {
+    return false;
+  }
+
+  private void schedulePipeline(PipelineCommand pipeline) {
+    List<ExtendedQueryCommand<?>> commands = pipeline.commands();
+    int[] remaining = { commands.size() };
+    Throwable[] failure = { null };
+    for (ExtendedQueryCommand<?> queryCmd : commands) {
+      addPipelined(queryCmd, ar -> {
+        if (ar.failed() && failure[0] == null) {
+          failure[0] = ar.cause();
+        }
+        if (--remaining[0] == 0) {
+          pipeline.complete(failure[0] != null ? Future.failedFuture(failure[0]) : Future.succeededFuture());
+        }
+      });
+    }
+  }
+
+  private <R> void addPipelined(CommandBase<R> cmd, Handler<AsyncResult<?>> next) {
+    Handler<AsyncResult<R>> handler = cmd.handler;
+    cmd.handler = ar -> {
+      handler.handle(ar);
+      next.handle(ar);
+    };
+    pending.add(cmd);
+  }
+
+  private int preparePipeline(PipelineCommand pipeline, List<ExtendedQueryCommand<?>> unprepared) {
+    ChannelHandlerContext ctx = socket.channelHandlerContext();
+    paused = true;
+    int[] remaining = { unprepared.size() };
+    Throwable[] failure = { null };
+    Handler<Throwable> prepared = err -> {
+      if (err != null && failure[0] == null) {
+        failure[0] = err;
+      }
+      if (--remaining[0] == 0) {
+        paused = false;
+        String msg = failure[0] == null ? validatePipeline(pipeline) : null;
+        if (failure[0] != null || msg != null) {
+          inflight--;
+          pipeline.fail(failure[0] != null ? failure[0] : new NoStackTraceThrowable(msg));
+        } else {
+          ctx.write(pipeline);
+          ctx.flush();
+        }
+      }
+    };
+    for (ExtendedQueryCommand<?> queryCmd : unprepared) {
+      inflight++;
+      ctx.write(preparePipelineCommand(queryCmd, false, prepared));
+    }
+    return unprepared.size();
+  }
+
+  private PrepareStatementCommand preparePipelineCommand(ExtendedQueryCommand<?> queryCmd, boolean sendParameterTypes, Handler<Throwable> prepared) {
+    boolean cache = !sendParameterTypes && shouldCache(queryCmd.sql());
+    PrepareStatementCommand prepareCmd = new PrepareStatementCommand(queryCmd.sql(), cache, sendParameterTypes ? queryCmd.parameterTypes() : null);
+    prepareCmd.handler = ar -> {
+      if (ar.succeeded()) {
+        PreparedStatement ps = ar.result();
+        if (cache) {
+          cacheStatement(ps);
+        }
+        queryCmd.ps = ps;
+        prepared.handle(null);
+      } else if (isIndeterminatePreparedStatementError(ar.cause()) && !sendParameterTypes) {
+        ChannelHandlerContext ctx = socket.channelHandlerContext();
+        // We cannot cache this prepared statement because it might be executed with another type
+        inflight++;
+        ctx.write(preparePipelineCommand(queryCmd, true, prepared));
+        ctx.flush();
+      } else {
+        prepared.handle(ar.cause());
+      }
+    };
+    return prepareCmd;
+  }
+
+  /**
+   * @return {@code null} when the parameters of all the queries are valid otherwise the validation error
+   */
+  private static String validatePipeline(PipelineCommand pipeline) {
+    for (ExtendedQueryCommand<?> queryCmd : pipeline.commands()) {
+      String msg = queryCmd.prepare();
+      if (msg != null) {
+        return msg;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return {@code true} when no other command can be sent until the response of {@code cmd} is received
+   */
+  protected boolean pausesPipeline(CommandBase<?> cmd) {
+    return false;
+  }
+
+  private <R> void pausePipeline(CommandBase<R> cmd) {
+    Handler<AsyncResult<R>> handler = cmd.handler;
+    paused = true;
+    cmd.handler = ar -> {
+      paused = false;
+      handler.handle(ar);
+    };
+  }
+
   private PrepareStatementCommand prepareCommand(ExtendedQueryCommand<?> queryCmd, boolean cache, boolean sendParameterTypes) {
     PrepareStatementCommand prepareCmd = new PrepareStatementCommand(queryCmd.sql(), cache, sendParameterTypes ? queryCmd.parameterTypes() : null);
     prepareCmd.handler = ar -> {
@@ -244,20 +478,24 @@ public abstract class SocketConnectionBase implements Connection {
     if (psCache != null) {
       List<PreparedStatement> evictedList = psCache.put(preparedStatement);
       if (evictedList.size() > 0) {
-        ChannelHandlerContext ctx = socket.channelHandlerContext();
         for (PreparedStatement evicted : evictedList) {
-          CloseStatementCommand closeCmd = new CloseStatementCommand(evicted);
-          closeCmd.handler = ar -> {
-            if (ar.failed()) {
-              logger.error("Error when closing cached prepared statement", ar.cause());
-            }
-          };
-          ctx.write(closeCmd);
+          closeStatement(evicted);
         }
       }
     }
   }
 
+  private void closeStatement(PreparedStatement ps) {
+    ChannelHandlerContext ctx = socket.channelHandlerContext();
+    CloseStatementCommand closeCmd = new CloseStatementCommand(ps);
+    closeCmd.handler = ar -> {
+      if (ar.failed()) {
+        logger.error("Error when closing cached prepared statement", ar.cause());
+      }
+    };
+    ctx.write(closeCmd);
+  }
+
   private void removeCachedStatement(String sql) {
     if (this.psCache != null) {
       this.psCache.remove(sql);
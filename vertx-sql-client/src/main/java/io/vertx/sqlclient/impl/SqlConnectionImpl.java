@@ -19,7 +19,9 @@ package io.vertx.sqlclient.impl;
 
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.spi.metrics.ClientMetrics;
+import io.vertx.sqlclient.Pipeline;
 import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.impl.cache.PreparedStatementCache;
 import io.vertx.sqlclient.impl.command.CommandBase;
 import io.vertx.sqlclient.Transaction;
 
@@ -79,6 +81,11 @@ public class SqlConnectionImpl<C extends SqlConnection> extends SqlConnectionBas
     }
   }
 
+  @Override
+  public Pipeline pipeline() {
+    return new PipelineImpl(this, tracer, metrics);
+  }
+
   @Override
   public boolean isSSL() {
     return conn.isSsl();
@@ -89,6 +96,29 @@ public class SqlConnectionImpl<C extends SqlConnection> extends SqlConnectionBas
     return conn.getDatabaseMetaData();
   }
 
+  private PreparedStatementCache preparedStatementCache() {
+    Connection c = conn.unwrap();
+    return c instanceof SocketConnectionBase ? ((SocketConnectionBase) c).psCache : null;
+  }
+
+  @Override
+  public long preparedStatementCacheHits() {
+    PreparedStatementCache cache = preparedStatementCache();
+    return cache != null ? cache.hits() : 0L;
+  }
+
+  @Override
+  public long preparedStatementCacheMisses() {
+    PreparedStatementCache cache = preparedStatementCache();
+    return cache != null ? cache.misses() : 0L;
+  }
+
+  @Override
+  public long preparedStatementCacheEvictions() {
+    PreparedStatementCache cache = preparedStatementCache();
+    return cache != null ? cache.evictions() : 0L;
+  }
+
   @Override
   public C closeHandler(Handler<Void> handler) {
     closeHandler = handler;
@@ -18,6 +18,7 @@ package io.vertx.sqlclient.impl;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.function.Supplier;
 
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
@@ -26,8 +27,11 @@ import io.vertx.core.Promise;
 import io.vertx.core.VertxException;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.PromiseInternal;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.Query;
 import io.vertx.sqlclient.Transaction;
 import io.vertx.sqlclient.TransactionRollbackException;
+import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.impl.command.CommandBase;
 import io.vertx.sqlclient.impl.command.TxCommand;
 
@@ -45,6 +49,8 @@ class TransactionImpl implements Transaction {
   private final Connection connection;
   private Deque<ScheduledCommand<?>> pending = new ArrayDeque<>();
   private int status = ST_BEGIN;
+  private Throwable beginFailure;
+  private Promise<Void> commitWith;
   private final Promise<Void> completion;
 
   TransactionImpl(ContextInternal context, Connection connection) {
@@ -56,6 +62,8 @@ class TransactionImpl implements Transaction {
   static class ScheduledCommand<R> {
     final CommandBase<R> cmd;
     final Handler<AsyncResult<R>> handler;
+    // The commit to perform after the command
+    Promise<Void> commit;
     ScheduledCommand(CommandBase<R> cmd, Handler<AsyncResult<R>> handler) {
       this.cmd = cmd;
       this.handler = handler;
@@ -78,6 +86,11 @@ class TransactionImpl implements Transaction {
     if (isComplete(cmd)) {
       status = ST_COMPLETED;
       doSchedule(cmd, ar -> {
+        if (beginFailure != null) {
+          completion.tryFail(beginFailure);
+          scheduled.handler.handle(Future.failedFuture(beginFailure));
+          return;
+        }
         if (ar.succeeded()) {
           if (cmd == COMMIT) {
             completion.tryComplete();
@@ -89,15 +102,50 @@ class TransactionImpl implements Transaction {
         }
         scheduled.handler.handle(ar);
       });
+    } else if (scheduled.commit != null && connection.isTransactionAbortedOnError()) {
+      // The server rolls back the transaction when the command fails, so COMMIT is sent without waiting for the result
+      status = ST_COMPLETED;
+      Throwable[] failure = { null };
+      doSchedule(cmd, ar -> {
+        if (ar.failed()) {
+          failure[0] = ar.cause();
+        }
+        scheduled.handler.handle(ar);
+      });
+      doSchedule(COMMIT, ar -> {
+        if (beginFailure != null) {
+          completion.tryFail(beginFailure);
+          scheduled.commit.tryFail(beginFailure);
+        } else if (failure[0] != null) {
+          completion.tryFail(TransactionRollbackException.INSTANCE);
+          scheduled.commit.tryFail(TransactionRollbackException.INSTANCE);
+        } else if (ar.succeeded()) {
+          completion.tryComplete();
+          scheduled.commit.tryComplete();
+        } else {
+          completion.tryFail(ar.cause());
+          scheduled.commit.tryFail(ar.cause());
+        }
+      });
     } else {
       status = ST_PROCESSING;
-      doSchedule(cmd, wrap(scheduled.handler));
+      doSchedule(cmd, wrap(scheduled));
     }
   }
 
-  private <T> Handler<AsyncResult<T>> wrap(Handler<AsyncResult<T>> handler) {
+  private <T> Handler<AsyncResult<T>> wrap(ScheduledCommand<T> scheduled) {
+    Handler<AsyncResult<T>> handler = scheduled.handler;
     return ar -> {
       synchronized (TransactionImpl.this) {
+        if (beginFailure != null) {
+          // The command has been sent with BEGIN and was executed outside of the transaction
+          handler.handle(ar);
+          if (scheduled.commit != null) {
+            scheduled.commit.tryFail(beginFailure);
+          }
+          checkPending();
+          return;
+        }
         status = ST_PENDING;
         if (ar.failed()) {
           // We won't recover from this so rollback
@@ -107,9 +155,16 @@ class TransactionImpl implements Transaction {
           }
           schedule__(doQuery(ROLLBACK, context.promise(ar2 -> {
             handler.handle(ar);
+            if (scheduled.commit != null) {
+              scheduled.commit.tryFail(TransactionRollbackException.INSTANCE);
+            }
           })));
         } else {
           handler.handle(ar);
+          if (scheduled.commit != null) {
+            // Commit before any other command
+            pending.addFirst(doQuery(COMMIT, scheduled.commit));
+          }
           checkPending();
         }
       }
@@ -118,9 +173,13 @@ class TransactionImpl implements Transaction {
 
   private synchronized void afterBegin(AsyncResult<Transaction> ar) {
     if (ar.succeeded()) {
-      status = ST_PENDING;
+      if (status == ST_BEGIN) {
+        status = ST_PENDING;
+      }
     } else {
+      beginFailure = ar.cause();
       status = ST_COMPLETED;
+      completion.tryFail(ar.cause());
     }
     checkPending();
   }
@@ -137,7 +196,7 @@ class TransactionImpl implements Transaction {
   private synchronized void checkPending() {
     switch (status) {
       case ST_BEGIN:
-        break;
+        // The first command is sent with BEGIN without waiting for its result
       case ST_PENDING: {
         ScheduledCommand<?> cmd = pending.poll();
         if (cmd != null) {
@@ -161,7 +220,12 @@ class TransactionImpl implements Transaction {
   }
 
   public <R> void schedule(CommandBase<R> cmd, Promise<R> handler) {
-    schedule__(cmd, handler);
+    ScheduledCommand<R> scheduled = new ScheduledCommand<>(cmd, handler);
+    synchronized (this) {
+      scheduled.commit = commitWith;
+      commitWith = null;
+    }
+    schedule__(scheduled);
   }
 
   public <R> void schedule__(ScheduledCommand<R> b) {
@@ -198,6 +262,56 @@ class TransactionImpl implements Transaction {
     }
   }
 
+  @Override
+  public <R> Future<R> commitWith(Query<R> query) {
+    return commitWith(query::execute);
+  }
+
+  @Override
+  public <R> void commitWith(Query<R> query, Handler<AsyncResult<R>> handler) {
+    Future<R> fut = commitWith(query);
+    if (handler != null) {
+      fut.onComplete(handler);
+    }
+  }
+
+  @Override
+  public <R> Future<R> commitWith(PreparedQuery<R> query, Tuple arguments) {
+    return commitWith(() -> query.execute(arguments));
+  }
+
+  @Override
+  public <R> void commitWith(PreparedQuery<R> query, Tuple arguments, Handler<AsyncResult<R>> handler) {
+    Future<R> fut = commitWith(query, arguments);
+    if (handler != null) {
+      fut.onComplete(handler);
+    }
+  }
+
+  private <R> Future<R> commitWith(Supplier<Future<R>> execution) {
+    Promise<Void> commit = context.promise();
+    synchronized (this) {
+      if (status == ST_COMPLETED) {
+        return context.failedFuture("Transaction already completed");
+      }
+      // The next command scheduled on this transaction is the query
+      commitWith = commit;
+    }
+    Future<R> fut = execution.get();
+    boolean scheduled;
+    synchronized (this) {
+      scheduled = commitWith == null;
+      commitWith = null;
+    }
+    if (!scheduled) {
+      // The query has not been executed by the connection of this transaction
+      return fut.compose(res -> commit().map(res));
+    }
+    return fut.compose(
+      res -> commit.future().map(res),
+      err -> commit.future().compose(v -> Future.failedFuture(err), v -> Future.failedFuture(err)));
+  }
+
   @Override
   public Future<Void> rollback() {
     if (status == ST_COMPLETED) {
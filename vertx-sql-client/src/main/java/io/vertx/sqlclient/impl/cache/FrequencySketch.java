@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.cache;
+
+/**
+ * A count-min sketch estimating the access frequency of the keys with 4 rows of counters, each counter is a byte
+ * capped at 15.
+ * <p>
+ * All counters are halved once the number of recorded accesses reaches a sample size proportional
+ * to the sketch width, so the estimated frequencies favor the recent history.
+ * <p>
+ * The sketch is not thread safe.
+ */
+public class FrequencySketch {
+
+  private static final int DEPTH = 4;
+  private static final int MAX_COUNT = 15;
+  private static final int[] SEEDS = { 0x97CB3127, 0xB0C0B0A9, 0x2B7F4A51, 0x7FEB352D };
+
+  private final byte[] table;
+  private final int mask;
+  private final int sampleSize;
+  private int additions;
+
+  public FrequencySketch(int capacity) {
+    int width = Integer.highestOneBit(Math.min(Math.max(16, capacity), 1 << 24) - 1) << 1;
+    this.table = new byte[DEPTH * width];
+    this.mask = width - 1;
+    this.sampleSize = 10 * width;
+  }
+
+  /**
+   * @return the estimated number of accesses of {@code key}
+   */
+  public int frequency(Object key) {
+    int hash = spread(key.hashCode());
+    int min = MAX_COUNT;
+    for (int i = 0;i < DEPTH;i++) {
+      min = Math.min(min, table[indexOf(hash, i)]);
+    }
+    return min;
+  }
+
+  /**
+   * Record an access of {@code key}.
+   */
+  public void increment(Object key) {
+    int hash = spread(key.hashCode());
+    boolean added = false;
+    for (int i = 0;i < DEPTH;i++) {
+      int index = indexOf(hash, i);
+      if (table[index] < MAX_COUNT) {
+        table[index]++;
+        added = true;
+      }
+    }
+    if (added && ++additions == sampleSize) {
+      reset();
+    }
+  }
+
+  private void reset() {
+    for (int i = 0;i < table.length;i++) {
+      table[i] >>>= 1;
+    }
+    additions >>>= 1;
+  }
+
+  private int indexOf(int hash, int row) {
+    int h = (hash ^ SEEDS[row]) * SEEDS[row];
+    h ^= h >>> 16;
+    return row * (mask + 1) + (h & mask);
+  }
+
+  private static int spread(int hash) {
+    hash ^= hash >>> 17;
+    hash *= 0xED5AD4BB;
+    hash ^= hash >>> 11;
+    return hash;
+  }
+}
@@ -13,22 +13,91 @@ package io.vertx.sqlclient.impl.cache;
 
 import io.vertx.sqlclient.impl.PreparedStatement;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * Cache which manages the lifecycle of all cached prepared statements .
+ * Cache which manages the lifecycle of all cached prepared statements.
+ * <p>
+ * The replacement policy is W-TinyLFU: a new statement enters a small LRU admission window, a statement
+ * leaving the window is admitted in the main segmented LRU space only when its estimated access frequency
+ * is higher than the frequency of the statement it would evict. A burst of statements executed once
+ * does not evict the frequently executed statements.
+ * <p>
+ * The cache is owned by a connection and is only accessed from its event loop, the counters are volatile since
+ * they can be read outside of the event loop.
  */
 public class PreparedStatementCache {
 
-  private final LruCache<String, PreparedStatement> cache;
+  private final int windowCapacity;
+  private final int protectedCapacity;
+  private final int mainCapacity;
+  private final LinkedHashMap<String, PreparedStatement> window;
+  private final LinkedHashMap<String, PreparedStatement> probation;
+  private final LinkedHashMap<String, PreparedStatement> protect;
+  private final FrequencySketch sketch;
+  private List<PreparedStatement> evicted;
+  private volatile long hits;
+  private volatile long misses;
+  private volatile long evictions;
 
   public PreparedStatementCache(int cacheCapacity) {
-    this.cache = new LruCache<>(cacheCapacity);
+    if (cacheCapacity < 1) {
+      throw new IllegalArgumentException("Cache capacity must be > 0");
+    }
+    this.windowCapacity = Math.max(1, cacheCapacity / 100);
+    this.mainCapacity = cacheCapacity - windowCapacity;
+    this.protectedCapacity = mainCapacity * 4 / 5;
+    this.window = new LinkedHashMap<>(16, 0.75f, true);
+    this.probation = new LinkedHashMap<>(16, 0.75f, true);
+    this.protect = new LinkedHashMap<>(16, 0.75f, true);
+    this.sketch = new FrequencySketch(cacheCapacity);
   }
 
   public PreparedStatement get(String sql) {
-    return cache.get(sql);
+    sketch.increment(sql);
+    PreparedStatement ps = window.get(sql);
+    if (ps == null) {
+      ps = protect.get(sql);
+      if (ps == null) {
+        ps = probation.remove(sql);
+        if (ps != null) {
+          promote(sql, ps);
+        }
+      }
+    }
+    if (ps != null) {
+      hits++;
+    } else {
+      misses++;
+    }
+    return ps;
+  }
+
+  /**
+   * @return the estimated number of recent lookups of {@code sql}, at most 15
+   */
+  public int frequency(String sql) {
+    return sketch.frequency(sql);
+  }
+
+  /**
+   * @return whether a statement is cached for {@code sql}, unlike {@link #get(String)} the lookup is not recorded
+   */
+  public boolean contains(String sql) {
+    return window.containsKey(sql) || protect.containsKey(sql) || probation.containsKey(sql);
+  }
+
+  private void promote(String sql, PreparedStatement ps) {
+    protect.put(sql, ps);
+    if (protect.size() > protectedCapacity) {
+      Map.Entry<String, PreparedStatement> demoted = pollEldest(protect);
+      probation.put(demoted.getKey(), demoted.getValue());
+    }
   }
 
   /**
@@ -38,22 +107,100 @@ public class PreparedStatementCache {
    * @return the list of prepared statement to evict and close
    */
   public List<PreparedStatement> put(PreparedStatement preparedStatement) {
-    cache.put(preparedStatement.sql(), preparedStatement);
-    if (cache.removed != null) {
-      List<PreparedStatement> evicted = cache.removed;
-      cache.removed = null;
-      return evicted;
+    String sql = preparedStatement.sql();
+    if (window.containsKey(sql)) {
+      window.put(sql, preparedStatement);
+    } else if (protect.containsKey(sql)) {
+      protect.put(sql, preparedStatement);
+    } else if (probation.containsKey(sql)) {
+      probation.put(sql, preparedStatement);
+    } else {
+      window.put(sql, preparedStatement);
+      if (window.size() > windowCapacity) {
+        admit(pollEldest(window));
+      }
+    }
+    if (evicted != null) {
+      List<PreparedStatement> list = evicted;
+      evicted = null;
+      return list;
     } else {
       return Collections.emptyList();
     }
   }
 
+  private void admit(Map.Entry<String, PreparedStatement> candidate) {
+    if (probation.size() + protect.size() < mainCapacity) {
+      probation.put(candidate.getKey(), candidate.getValue());
+      return;
+    }
+    LinkedHashMap<String, PreparedStatement> segment = probation.isEmpty() ? protect : probation;
+    if (segment.isEmpty()) {
+      // No main space
+      evict(candidate.getValue());
+      return;
+    }
+    Map.Entry<String, PreparedStatement> victim = segment.entrySet().iterator().next();
+    if (sketch.frequency(candidate.getKey()) > sketch.frequency(victim.getKey())) {
+      segment.remove(victim.getKey());
+      evict(victim.getValue());
+      probation.put(candidate.getKey(), candidate.getValue());
+    } else {
+      evict(candidate.getValue());
+    }
+  }
+
+  private void evict(PreparedStatement ps) {
+    if (evicted == null) {
+      evicted = new ArrayList<>();
+    }
+    evicted.add(ps);
+    evictions++;
+  }
+
+  private static Map.Entry<String, PreparedStatement> pollEldest(LinkedHashMap<String, PreparedStatement> segment) {
+    Iterator<Map.Entry<String, PreparedStatement>> it = segment.entrySet().iterator();
+    Map.Entry<String, PreparedStatement> eldest = it.next();
+    it.remove();
+    return eldest;
+  }
+
   /**
    * Remove the cached entry when the cached statement is closing so that pending requests will not use a closed prepared statement.
    *
    * @param sql the identified sql of the cached statement
    */
   public void remove(String sql) {
-    this.cache.remove(sql);
+    if (window.remove(sql) == null && protect.remove(sql) == null) {
+      probation.remove(sql);
+    }
+  }
+
+  /**
+   * @return the number of cached statements
+   */
+  public int size() {
+    return window.size() + probation.size() + protect.size();
+  }
+
+  /**
+   * @return the number of lookups that found a cached statement
+   */
+  public long hits() {
+    return hits;
+  }
+
+  /**
+   * @return the number of lookups that did not find a cached statement
+   */
+  public long misses() {
+    return misses;
+  }
+
+  /**
+   * @return the number of statements evicted from the cache to be closed
+   */
+  public long evictions() {
+    return evictions;
   }
 }
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.command;
+
+import java.util.List;
+
+/**
+ * Execute several extended queries together, each query is completed with its own result before the pipeline
+ * completes.
+ */
+public class PipelineCommand extends CommandBase<Void> {
+
+  private final List<ExtendedQueryCommand<?>> commands;
+
+  public PipelineCommand(List<ExtendedQueryCommand<?>> commands) {
+    this.commands = commands;
+  }
+
+  public List<ExtendedQueryCommand<?>> commands() {
+    return commands;
+  }
+}
@@ -18,6 +18,7 @@
 package io.vertx.sqlclient.impl.pool;
 
 import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.NoStackTraceThrowable;
 import io.vertx.core.impl.PromiseInternal;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.impl.Connection;
@@ -29,15 +30,30 @@ import io.vertx.core.*;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Todo :
+ * Waiters are queued in arrival order, they are served in FIFO order or in LIFO order when the pool
+ * favors the latest requests under load. When a connection timeout is configured, a single timer armed
+ * for the oldest waiter deadline evicts the expired waiters. The timeout also covers the creation of the
+ * connection of a waiter, the connection is added to the available connections when the waiter expires first.
  *
- * - handle timeout when acquiring a connection
- * - for per statement pooling, have several physical connection and use the less busy one to avoid head of line blocking effect
+ * Available connections are leased in most recently used order so the least recently used ones stay
+ * idle and can be evicted after the idle timeout by a periodic cleaner, which also closes the connections
+ * exceeding their max lifetime and maintains a minimum number of idle connections.
+ *
+ * A connection acquired to schedule a single query is released as soon as the query is scheduled, such
+ * connections are selected by load instead: the least busy available connection is handed out, the oldest
+ * released one when several are idle, so that concurrent queries are spread over the connections. When all the
+ * available connections are busy, a new connection is created for the query within the limit of the max size
+ * instead of queueing the query behind another one.
+ *
+ * When the pool is pipelined, leases also take the least busy available connection and a query is pipelined
+ * on the least busy connection while the pool grows in the background.
  *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -46,11 +62,23 @@ public class ConnectionPool {
   private final ConnectionFactory connector;
   private final ContextInternal context;
   private final int maxSize;
-  private final ArrayDeque<Handler<AsyncResult<Connection>>> waiters = new ArrayDeque<>();
+  private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
   private final Set<PooledConnection> all = new HashSet<>();
   private final ArrayDeque<PooledConnection> available = new ArrayDeque<>();
   private int size;
   private final int maxWaitQueueSize;
+  private final long connectionTimeout;
+  private final boolean lifo;
+  private final long idleTimeout;
+  private final long maxLifetime;
+  private final int minIdle;
+  private final long cleanerPeriod;
+  private final boolean pipelined;
+  private long timeoutTimerId = -1;
+  private long cleanerTimerId = -1;
+  private int warming;
+  private volatile int timedOut;
+  private volatile int rejected;
   private boolean checkInProgress;
   private boolean closed;
 
@@ -63,14 +91,54 @@ public class ConnectionPool {
   }
 
   public ConnectionPool(ConnectionFactory connector, Context context, int maxSize, int maxWaitQueueSize) {
+    this(connector, context, maxSize, new PoolOptions().setMaxWaitQueueSize(maxWaitQueueSize));
+  }
+
+  public ConnectionPool(ConnectionFactory connector, Context context, int maxSize, PoolOptions options) {
     Objects.requireNonNull(connector, "No null connector");
     if (maxSize < 1) {
       throw new IllegalArgumentException("Pool max size must be > 0");
     }
     this.maxSize = maxSize;
     this.context = (ContextInternal) context;
-    this.maxWaitQueueSize = maxWaitQueueSize;
+    this.maxWaitQueueSize = options.getMaxWaitQueueSize();
+    this.connectionTimeout = options.getConnectionTimeoutUnit().toNanos(options.getConnectionTimeout());
+    this.lifo = options.isWaitQueueLifo();
+    this.idleTimeout = options.getIdleTimeoutUnit().toNanos(options.getIdleTimeout());
+    this.maxLifetime = options.getMaxLifetimeUnit().toNanos(options.getMaxLifetime());
+    this.minIdle = Math.min(options.getMinIdle(), maxSize);
+    this.cleanerPeriod = options.getPoolCleanerPeriod();
+    this.pipelined = options.isPipelined();
     this.connector = connector;
+    if (connectionTimeout > 0 && this.context == null) {
+      throw new IllegalArgumentException("A connection timeout requires a context");
+    }
+    if (this.context != null && (idleTimeout > 0 || maxLifetime > 0 || minIdle > 0)) {
+      this.context.runOnContext(v -> {
+        if (!closed) {
+          // Eager warm-up
+          fill();
+          if (cleanerPeriod > 0) {
+            cleanerTimerId = this.context.owner().setPeriodic(cleanerPeriod, id -> clean());
+          }
+        }
+      });
+    }
+  }
+
+  private static class Waiter {
+
+    final Handler<AsyncResult<Connection>> handler;
+    final boolean query;
+    final long deadline;
+    long timerId = -1;
+    boolean expired;
+
+    Waiter(Handler<AsyncResult<Connection>> handler, boolean query, long deadline) {
+      this.handler = handler;
+      this.query = query;
+      this.deadline = deadline;
+    }
   }
 
   public int available() {
@@ -81,15 +149,61 @@ public class ConnectionPool {
     return size;
   }
 
+  /**
+   * @return the number of waiters that failed because no connection became available before the connection timeout
+   */
+  public int timedOut() {
+    return timedOut;
+  }
+
+  /**
+   * @return the number of waiters that failed immediately because the wait queue was full
+   */
+  public int rejected() {
+    return rejected;
+  }
+
+  ContextInternal context() {
+    return context;
+  }
+
+  /**
+   * @return {@code true} when an acquisition would have to wait for a connection to be released
+   */
+  boolean isSaturated() {
+    return available.isEmpty() && size >= maxSize;
+  }
+
+  /**
+   * Acquire an available connection without waiting, the {@code handler} is called with {@code null}
+   * when no connection is available.
+   */
+  void tryAcquire(boolean query, Handler<AsyncResult<Connection>> handler) {
+    context.runOnContext(v -> {
+      PooledConnection proxy = closed || available.isEmpty() ? null : select(query);
+      handler.handle(Future.succeededFuture(proxy));
+    });
+  }
+
   public void acquire(Handler<AsyncResult<Connection>> waiter) {
+    acquire(false, waiter);
+  }
+
+  /**
+   * Acquire a connection.
+   *
+   * @param query {@code true} when the connection is acquired to schedule a single query and released immediately
+   * @param waiter the handler called with the connection
+   */
+  public void acquire(boolean query, Handler<AsyncResult<Connection>> waiter) {
     if (context != null) {
-      context.dispatch(waiter, this::doAcquire);
+      context.dispatch(waiter, w -> doAcquire(query, w));
     } else {
-      doAcquire(waiter);
+      doAcquire(query, waiter);
     }
   }
 
-  private void doAcquire(Handler<AsyncResult<Connection>> waiter) {
+  private void doAcquire(boolean query, Handler<AsyncResult<Connection>> waiter) {
     if (closed) {
       IllegalStateException err = new IllegalStateException("Connection pool closed");
       if (context != null) {
@@ -99,8 +213,36 @@ public class ConnectionPool {
       }
       return;
     }
-    waiters.add(waiter);
+    waiters.add(new Waiter(waiter, query, connectionTimeout > 0 ? System.nanoTime() + connectionTimeout : 0L));
     check();
+    scheduleTimeout();
+  }
+
+  private void scheduleTimeout() {
+    // Waiters are queued in arrival order with the same timeout, so the oldest one expires first
+    if (connectionTimeout > 0 && timeoutTimerId == -1 && !closed && !waiters.isEmpty()) {
+      long delay = TimeUnit.NANOSECONDS.toMillis(waiters.peekFirst().deadline - System.nanoTime());
+      timeoutTimerId = context.owner().setTimer(Math.max(1L, delay), id -> {
+        timeoutTimerId = -1;
+        expireWaiters();
+      });
+    }
+  }
+
+  private void expireWaiters() {
+    long now = System.nanoTime();
+    Waiter waiter;
+    while ((waiter = waiters.peekFirst()) != null && waiter.deadline - now <= 0) {
+      waiters.pollFirst();
+      expire(waiter);
+    }
+    scheduleTimeout();
+  }
+
+  private void expire(Waiter waiter) {
+    waiter.expired = true;
+    timedOut++;
+    waiter.handler.handle(Future.failedFuture(new NoStackTraceThrowable("Timeout waiting for a connection")));
   }
 
   public Future<Void> close() {
@@ -115,10 +257,18 @@ public class ConnectionPool {
       return;
     }
     closed = true;
+    if (timeoutTimerId != -1) {
+      context.owner().cancelTimer(timeoutTimerId);
+      timeoutTimerId = -1;
+    }
+    if (cleanerTimerId != -1) {
+      context.owner().cancelTimer(cleanerTimerId);
+      cleanerTimerId = -1;
+    }
     Future<Connection> failure = Future.failedFuture("Connection pool closed");
-    for (Handler<AsyncResult<Connection>> pending : waiters) {
+    for (Waiter pending : waiters) {
       try {
-        pending.handle(failure);
+        pending.handler.handle(failure);
       } catch (Exception ignore) {
       }
     }
@@ -137,16 +287,39 @@ public class ConnectionPool {
   private class PooledConnection implements Connection, Connection.Holder  {
 
     private final Connection conn;
+    private final long createdAt;
+    private long lastUsedAt;
     private Holder holder;
 
     PooledConnection(Connection conn) {
       this.conn = conn;
+      this.createdAt = System.nanoTime();
+      this.lastUsedAt = createdAt;
+    }
+
+    private boolean isExpired(long now) {
+      return maxLifetime > 0 && now - createdAt >= maxLifetime;
+    }
+
+    @Override
+    public Connection unwrap() {
+      return conn.unwrap();
     }
 
     @Override
     public boolean isSsl() {
       return conn.isSsl();
     }
+
+    @Override
+    public int inflight() {
+      return conn.inflight();
+    }
+
+    @Override
+    public boolean isTransactionAbortedOnError() {
+      return conn.isTransactionAbortedOnError();
+    }
     
     @Override
     public DatabaseMetadata getDatabaseMetaData() {
@@ -176,7 +349,12 @@ public class ConnectionPool {
     @Override
     public void close(Holder holder, Promise<Void> promise) {
       if (context != null) {
-        context.dispatch(v -> doClose(holder, promise));
+        if (context.nettyEventLoop().inEventLoop()) {
+          context.dispatch(v -> doClose(holder, promise));
+        } else {
+          // Released from another event loop
+          context.runOnContext(v -> doClose(holder, promise));
+        }
       } else {
         doClose(holder, promise);
       }
@@ -209,6 +387,7 @@ public class ConnectionPool {
           holder.handleClosed();
         }
         check();
+        fill();
       } else {
         throw new IllegalStateException();
       }
@@ -241,11 +420,159 @@ public class ConnectionPool {
 
   private void release(PooledConnection proxy) {
     if (all.contains(proxy)) {
-      available.add(proxy);
-      check();
+      long now = System.nanoTime();
+      if (proxy.isExpired(now)) {
+        proxy.close(Promise.promise());
+      } else {
+        proxy.lastUsedAt = now;
+        available.add(proxy);
+        check();
+      }
+    }
+  }
+
+  /**
+   * Close the connections idle for too long or exceeding their max lifetime and create connections
+   * to maintain the minimum number of idle connections.
+   */
+  private void clean() {
+    if (closed) {
+      return;
+    }
+    long now = System.nanoTime();
+    for (Iterator<PooledConnection> it = available.iterator();it.hasNext();) {
+      PooledConnection proxy = it.next();
+      boolean idle = idleTimeout > 0 && now - proxy.lastUsedAt >= idleTimeout && available.size() > minIdle;
+      if (idle || proxy.isExpired(now)) {
+        it.remove();
+        proxy.close(Promise.promise());
+      }
+    }
+    fill();
+  }
+
+  private void fill() {
+    while (!closed && waiters.isEmpty() && available.size() + warming < minIdle && size < maxSize) {
+      warm();
     }
   }
 
+  /**
+   * Create a connection added to the available connections.
+   */
+  private void warm() {
+    size++;
+    warming++;
+    Future<Connection> fut = context != null ? connector.connect(context) : connector.connect();
+    fut.onComplete(ar -> {
+      warming--;
+      if (ar.succeeded()) {
+        Connection conn = ar.result();
+        PooledConnection proxy = new PooledConnection(conn);
+        all.add(proxy);
+        conn.init(proxy);
+        if (closed) {
+          proxy.close(Promise.promise());
+        } else {
+          available.add(proxy);
+          check();
+        }
+      } else {
+        size--;
+      }
+    });
+  }
+
+  private PooledConnection leastBusy() {
+    // In release order, so the oldest released connection wins ties
+    PooledConnection leastBusy = null;
+    int min = Integer.MAX_VALUE;
+    for (PooledConnection proxy : available) {
+      int inflight = proxy.inflight();
+      if (inflight < min) {
+        leastBusy = proxy;
+        min = inflight;
+        if (min == 0) {
+          break;
+        }
+      }
+    }
+    return leastBusy;
+  }
+
+  /**
+   * Select an available connection, there must be at least one.
+   *
+   * @return the connection or {@code null} when a new connection should be created instead
+   */
+  private PooledConnection select(boolean query) {
+    if (pipelined || query) {
+      PooledConnection proxy = leastBusy();
+      if (proxy.inflight() > 0 && size < maxSize) {
+        if (!pipelined) {
+          // Every connection is busy, do not queue the query behind another one
+          return null;
+        }
+        if (warming == 0) {
+          // Pipeline on this connection until a new connection is created
+          warm();
+        }
+      }
+      available.remove(proxy);
+      return proxy;
+    } else {
+      // Most recently used first so the others can become idle
+      return available.pollLast();
+    }
+  }
+
+  private Waiter nextWaiter() {
+    return lifo ? waiters.pollLast() : waiters.pollFirst();
+  }
+
+  /**
+   * Create a connection for the {@code waiter}, the waiter expires when the connection is not created before
+   * its deadline.
+   */
+  private void connect(Waiter waiter) {
+    size++;
+    if (waiter.deadline != 0L) {
+      long delay = TimeUnit.NANOSECONDS.toMillis(waiter.deadline - System.nanoTime());
+      waiter.timerId = context.owner().setTimer(Math.max(1L, delay), id -> {
+        waiter.timerId = -1;
+        expire(waiter);
+      });
+    }
+    Future<Connection> fut = context != null ? connector.connect(context) : connector.connect();
+    fut.onComplete(ar -> {
+      if (waiter.timerId != -1) {
+        context.owner().cancelTimer(waiter.timerId);
+        waiter.timerId = -1;
+      }
+      if (ar.succeeded()) {
+        Connection conn = ar.result();
+        PooledConnection proxy = new PooledConnection(conn);
+        all.add(proxy);
+        conn.init(proxy);
+        if (!waiter.expired) {
+          waiter.handler.handle(Future.succeededFuture(proxy));
+        } else if (closed) {
+          proxy.close(Promise.promise());
+        } else {
+          // The waiter expired meanwhile
+          available.add(proxy);
+          check();
+        }
+      } else {
+        size--;
+        if (!waiter.expired) {
+          waiter.handler.handle(Future.failedFuture(ar.cause()));
+        }
+        check();
+      }
+    });
+  }
+
   private void check() {
     if (closed) {
       return;
@@ -254,34 +581,25 @@ public class ConnectionPool {
       checkInProgress = true;
       try {
         while (waiters.size() > 0) {
+          PooledConnection proxy = null;
           if (available.size() > 0) {
-            PooledConnection proxy = available.poll();
-            Handler<AsyncResult<Connection>> waiter = waiters.poll();
+            proxy = select((lifo ? waiters.peekLast() : waiters.peekFirst()).query);
+          }
+          if (proxy != null) {
+            Handler<AsyncResult<Connection>> waiter = nextWaiter().handler;
             waiter.handle(Future.succeededFuture(proxy));
           } else {
             if (size < maxSize) {
-              Handler<AsyncResult<Connection>> waiter = waiters.poll();
-              size++;
-              connector.connect().onComplete(ar -> {
-                if (ar.succeeded()) {
-                  Connection conn = ar.result();
-                  PooledConnection proxy = new PooledConnection(conn);
-                  all.add(proxy);
-                  conn.init(proxy);
-                  waiter.handle(Future.succeededFuture(proxy));
-                } else {
-                  size--;
-                  waiter.handle(Future.failedFuture(ar.cause()));
-                  check();
-                }
-              });
+              connect(nextWaiter());
             } else {
               if (maxWaitQueueSize >= 0) {
-                int numInProgress = size - all.size();
+                int numInProgress = size - all.size() - warming;
                 int numToFail = waiters.size() - (maxWaitQueueSize + numInProgress);
                 while (numToFail-- > 0) {
-                  Handler<AsyncResult<Connection>> waiter = waiters.pollLast();
-                  waiter.handle(Future.failedFuture("Max waiter size reached"));
+                  // Shed the waiters that would be served last
+                  Waiter waiter = lifo ? waiters.pollFirst() : waiters.pollLast();
+                  rejected++;
+                  waiter.handler.handle(Future.failedFuture("Max waiter size reached"));
                 }
               }
               break;
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl.pool;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.impl.Connection;
+import io.vertx.sqlclient.impl.ConnectionFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool made of one {@link ConnectionPool} slice per event loop.
+ * <p>
+ * A connection is acquired from the slice of the caller event loop so acquisition and release do not
+ * hop between threads. When that slice cannot provide a connection without waiting, an available connection
+ * is stolen from another slice, the caller waits on its own slice when none is available.
+ * <p>
+ * Callers that are not running on one of the slices event loop are spread across the slices.
+ */
+public class ShardedConnectionPool {
+
+  private final ConnectionPool[] slices;
+  private final AtomicInteger next = new AtomicInteger();
+
+  public ShardedConnectionPool(ConnectionFactory connector, ContextInternal[] contexts, int maxSize, PoolOptions options) {
+    if (contexts.length < 1 || maxSize < contexts.length) {
+      throw new IllegalArgumentException("Pool max size must be greater or equal than the number of slices");
+    }
+    slices = new ConnectionPool[contexts.length];
+    for (int i = 0;i < contexts.length;i++) {
+      // Spread the remainder over the first slices
+      int sliceMaxSize = maxSize / contexts.length + (i < maxSize % contexts.length ? 1 : 0);
+      int sliceMinIdle = options.getMinIdle() / contexts.length + (i < options.getMinIdle() % contexts.length ? 1 : 0);
+      slices[i] = new ConnectionPool(connector, contexts[i], sliceMaxSize, new PoolOptions(options).setMinIdle(sliceMinIdle));
+    }
+  }
+
+  public int available() {
+    int available = 0;
+    for (ConnectionPool slice : slices) {
+      available += slice.available();
+    }
+    return available;
+  }
+
+  public int size() {
+    int size = 0;
+    for (ConnectionPool slice : slices) {
+      size += slice.size();
+    }
+    return size;
+  }
+
+  public int timedOut() {
+    int timedOut = 0;
+    for (ConnectionPool slice : slices) {
+      timedOut += slice.timedOut();
+    }
+    return timedOut;
+  }
+
+  public int rejected() {
+    int rejected = 0;
+    for (ConnectionPool slice : slices) {
+      rejected += slice.rejected();
+    }
+    return rejected;
+  }
+
+  /**
+   * Acquire a connection on behalf of the {@code current} context.
+   *
+   * @param current the context of the caller, can be {@code null}
+   * @param query {@code true} when the connection is acquired to schedule a single query and released immediately
+   * @param waiter the handler called with the connection
+   */
+  public void acquire(ContextInternal current, boolean query, Handler<AsyncResult<Connection>> waiter) {
+    if (slices.length == 1) {
+      slices[0].acquire(query, waiter);
+      return;
+    }
+    int idx = localSlice(current);
+    if (idx < 0) {
+      slices[Math.floorMod(next.getAndIncrement(), slices.length)].acquire(query, waiter);
+    } else {
+      ConnectionPool local = slices[idx];
+      if (local.isSaturated()) {
+        steal(idx, (idx + 1) % slices.length, query, waiter);
+      } else {
+        local.acquire(query, waiter);
+      }
+    }
+  }
+
+  private int localSlice(ContextInternal current) {
+    if (current != null && current.nettyEventLoop().inEventLoop()) {
+      for (int i = 0;i < slices.length;i++) {
+        if (slices[i].context().nettyEventLoop() == current.nettyEventLoop()) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  private void steal(int local, int victim, boolean query, Handler<AsyncResult<Connection>> waiter) {
+    if (victim == local) {
+      // Nothing to steal, wait on the caller slice
+      ConnectionPool slice = slices[local];
+      slice.context().runOnContext(v -> slice.acquire(query, waiter));
+      return;
+    }
+    slices[victim].tryAcquire(query, ar -> {
+      Connection conn = ar.result();
+      if (conn != null) {
+        waiter.handle(Future.succeededFuture(conn));
+      } else {
+        steal(local, (victim + 1) % slices.length, query, waiter);
+      }
+    });
+  }
+
+  public Future<Void> close() {
+    List<Future> futures = new ArrayList<>(slices.length);
+    for (ConnectionPool slice : slices) {
+      futures.add(slice.close());
+    }
+    return CompositeFuture.join(futures).mapEmpty();
+  }
+}
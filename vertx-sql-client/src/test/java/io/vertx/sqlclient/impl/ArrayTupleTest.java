@@ -21,6 +21,7 @@ import io.vertx.sqlclient.Tuple;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 public class ArrayTupleTest {
 
@@ -31,4 +32,24 @@ public class ArrayTupleTest {
     assertEquals(1, tuple.size());
     assertEquals("the_value", tuple.getValue(0));
   }
+
+  @Test
+  public void testPrimitiveValues() {
+    ArrayTuple tuple = new ArrayTuple(1);
+    tuple.addInt(4);
+    tuple.addLong(Long.MAX_VALUE);
+    tuple.addDouble(1.5D);
+    tuple.addValue(null);
+    assertEquals(4, tuple.size());
+    assertEquals(4, tuple.getIntValue(0));
+    assertEquals(Long.MAX_VALUE, tuple.getLongValue(1));
+    assertEquals(1.5D, tuple.getDoubleValue(2), 0D);
+    assertEquals(0L, tuple.getLongValue(3));
+    assertEquals(Integer.valueOf(4), tuple.getValue(0));
+    assertEquals(Long.valueOf(Long.MAX_VALUE), tuple.getValue(1));
+    assertEquals(Double.valueOf(1.5D), tuple.getValue(2));
+    assertNull(tuple.getValue(3));
+    tuple.setValue(0, "the_value");
+    assertEquals("the_value", tuple.getValue(0));
+  }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.sqlclient.ColumnarRowSet;
+import io.vertx.sqlclient.Row;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+public class ColumnarRowSetTest {
+
+  private static final List<String> COLUMNS = Arrays.asList("id", "amount", "ratio", "name");
+
+  private static class TestRow extends ArrayTuple implements Row {
+
+    TestRow() {
+      super(COLUMNS.size());
+    }
+
+    @Override
+    public String getColumnName(int pos) {
+      return COLUMNS.get(pos);
+    }
+
+    @Override
+    public int getColumnIndex(String name) {
+      return COLUMNS.indexOf(name);
+    }
+  }
+
+  private static Row row(int i) {
+    TestRow row = new TestRow();
+    row.addInt(i);
+    if (i % 10 == 0) {
+      row.addValue(null);
+    } else {
+      row.addLong(i * 1000L);
+    }
+    row.addDouble(i / 2D);
+    row.addValue("row-" + i);
+    return row;
+  }
+
+  @Test
+  public void testCollect() {
+    ColumnarRowSet rows = IntStream.range(0, 1000).mapToObj(ColumnarRowSetTest::row).collect(ColumnarRowSet.collector());
+    assertEquals(1000, rows.size());
+    assertEquals(COLUMNS, rows.columnsNames());
+    assertEquals(1, rows.getColumnIndex("amount"));
+    assertEquals(3, rows.getColumnIndex("NAME"));
+    assertEquals(-1, rows.getColumnIndex("missing"));
+    for (int i = 0;i < 1000;i++) {
+      assertEquals(i, rows.getIntValue(i, 0));
+      assertEquals(i % 10 == 0, rows.isNull(i, 1));
+      assertEquals(i % 10 == 0 ? 0L : i * 1000L, rows.getLongValue(i, 1));
+      assertEquals(i / 2D, rows.getDoubleValue(i, 2), 0D);
+      assertEquals("row-" + i, rows.getValue(i, 3));
+    }
+    Row row = rows.row(7);
+    assertEquals(Integer.valueOf(7), row.getInteger("id"));
+    assertEquals(Long.valueOf(7000L), row.getLong("amount"));
+    assertEquals(3.5D, row.getDoubleValue("ratio"), 0D);
+    assertEquals("row-7", row.getString("name"));
+    assertNull(rows.row(10).getValue("amount"));
+    int count = 0;
+    for (Row r : rows) {
+      assertEquals(count++, r.getIntValue(0));
+    }
+    assertEquals(1000, count);
+  }
+
+  @Test
+  public void testMixedColumnTypes() {
+    TestRow row1 = new TestRow();
+    row1.addValue(null);
+    row1.addValue(1L);
+    row1.addValue(null);
+    row1.addValue(null);
+    TestRow row2 = new TestRow();
+    row2.addValue(2);
+    row2.addValue("two");
+    row2.addValue(null);
+    row2.addValue(null);
+    ColumnarRowSet rows = Arrays.<Row>asList(row1, row2).stream().collect(ColumnarRowSet.collector());
+    assertEquals(2, rows.size());
+    assertTrue(rows.isNull(0, 0));
+    assertEquals(Integer.valueOf(2), rows.getValue(1, 0));
+    assertEquals(Long.valueOf(1L), rows.getValue(0, 1));
+    assertEquals("two", rows.getValue(1, 1));
+    assertEquals(1L, rows.getLongValue(0, 1));
+    assertEquals(0L, rows.getLongValue(1, 1));
+    assertTrue(rows.isNull(1, 2));
+  }
+
+  @Test
+  public void testEmpty() {
+    ColumnarRowSet rows = IntStream.range(0, 0).mapToObj(ColumnarRowSetTest::row).collect(ColumnarRowSet.collector());
+    assertEquals(0, rows.size());
+    assertTrue(rows.columnsNames().isEmpty());
+    assertFalse(rows.iterator().hasNext());
+  }
+}
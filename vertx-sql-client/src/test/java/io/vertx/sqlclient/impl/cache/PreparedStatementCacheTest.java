@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2011-2020 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.cache;
+
+import io.vertx.sqlclient.impl.ParamDesc;
+import io.vertx.sqlclient.impl.PreparedStatement;
+import io.vertx.sqlclient.impl.RowDesc;
+import io.vertx.sqlclient.impl.TupleInternal;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PreparedStatementCacheTest {
+
+  private static PreparedStatement statement(String sql) {
+    return new PreparedStatement() {
+      @Override
+      public ParamDesc paramDesc() {
+        return null;
+      }
+      @Override
+      public RowDesc rowDesc() {
+        return null;
+      }
+      @Override
+      public String sql() {
+        return sql;
+      }
+      @Override
+      public String prepare(TupleInternal values) {
+        return null;
+      }
+    };
+  }
+
+  private static PreparedStatement execute(PreparedStatementCache cache, String sql) {
+    PreparedStatement ps = cache.get(sql);
+    if (ps == null) {
+      ps = statement(sql);
+      cache.put(ps);
+    }
+    return ps;
+  }
+
+  @Test
+  public void testCapacity() {
+    PreparedStatementCache cache = new PreparedStatementCache(16);
+    int evicted = 0;
+    for (int i = 0;i < 128;i++) {
+      assertNull(cache.get("SELECT " + i));
+      evicted += cache.put(statement("SELECT " + i)).size();
+    }
+    assertEquals(16, cache.size());
+    assertEquals(112, evicted);
+    assertEquals(112, cache.evictions());
+    assertEquals(128, cache.misses());
+    assertEquals(0, cache.hits());
+  }
+
+  @Test
+  public void testHotStatementsSurviveBurst() {
+    PreparedStatementCache cache = new PreparedStatementCache(16);
+    for (int j = 0;j < 4;j++) {
+      for (int i = 0;i < 8;i++) {
+        execute(cache, "SELECT hot " + i);
+      }
+    }
+    for (int i = 0;i < 1000;i++) {
+      List<PreparedStatement> evicted = cache.put(statement("SELECT cold " + i));
+      for (PreparedStatement ps : evicted) {
+        assertFalse(ps.sql().startsWith("SELECT hot"));
+      }
+    }
+    long hits = cache.hits();
+    for (int i = 0;i < 8;i++) {
+      assertNotNull(cache.get("SELECT hot " + i));
+    }
+    assertEquals(hits + 8, cache.hits());
+  }
+
+  @Test
+  public void testRemove() {
+    PreparedStatementCache cache = new PreparedStatementCache(4);
+    for (int i = 0;i < 4;i++) {
+      execute(cache, "SELECT " + i);
+    }
+    for (int i = 0;i < 4;i++) {
+      cache.remove("SELECT " + i);
+      assertNull(cache.get("SELECT " + i));
+    }
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testFrequency() {
+    PreparedStatementCache cache = new PreparedStatementCache(16);
+    assertEquals(0, cache.frequency("SELECT 0"));
+    for (int i = 1;i <= 20;i++) {
+      assertNull(cache.get("SELECT 0"));
+      assertEquals(Math.min(i, 15), cache.frequency("SELECT 0"));
+    }
+  }
+
+  @Test
+  public void testContains() {
+    PreparedStatementCache cache = new PreparedStatementCache(16);
+    assertFalse(cache.contains("SELECT 0"));
+    cache.put(statement("SELECT 0"));
+    assertTrue(cache.contains("SELECT 0"));
+    assertEquals(0, cache.frequency("SELECT 0"));
+    cache.remove("SELECT 0");
+    assertFalse(cache.contains("SELECT 0"));
+  }
+
+  @Test
+  public void testSingleEntry() {
+    PreparedStatementCache cache = new PreparedStatementCache(1);
+    execute(cache, "SELECT 0");
+    List<PreparedStatement> evicted = cache.put(statement("SELECT 1"));
+    assertEquals(1, evicted.size());
+    assertEquals("SELECT 0", evicted.get(0).sql());
+    assertNotNull(cache.get("SELECT 1"));
+  }
+}
@@ -17,12 +17,18 @@
 
 package io.vertx.sqlclient.impl.pool;
 
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.ConnectionFactory;
 import org.junit.Test;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.Assert.*;
 
 public class ConnectionPoolTest {
@@ -265,4 +271,279 @@ public class ConnectionPoolTest {
     pool.acquire(holder1);
     assertEquals(1, queue.size());
   }
+
+  @Test
+  public void testLifoWaitQueue() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, null, 1, new PoolOptions().setWaitQueueLifo(true));
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    holder1.init();
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    SimpleHolder holder3 = new SimpleHolder();
+    pool.acquire(holder3);
+    holder1.close();
+    assertFalse(holder2.isComplete());
+    assertTrue(holder3.isConnected());
+  }
+
+  @Test
+  public void testLifoWaitQueueShedsOldestWaiters() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, null, 1, new PoolOptions().setWaitQueueLifo(true).setMaxWaitQueueSize(1));
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    holder1.init();
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    SimpleHolder holder3 = new SimpleHolder();
+    pool.acquire(holder3);
+    assertTrue(holder2.isFailed());
+    assertFalse(holder3.isComplete());
+    assertEquals(1, pool.rejected());
+  }
+
+  @Test
+  public void testConnectionTimeout() throws Exception {
+    Vertx vertx = Vertx.vertx();
+    try {
+      Context context = vertx.getOrCreateContext();
+      ConnectionQueue queue = new ConnectionQueue();
+      ConnectionPool pool = new ConnectionPool(queue, context, 1, new PoolOptions().setConnectionTimeout(100));
+      SimpleHolder holder1 = new SimpleHolder();
+      SimpleHolder holder2 = new SimpleHolder();
+      CountDownLatch latch = new CountDownLatch(1);
+      context.runOnContext(v -> {
+        pool.acquire(holder1);
+        queue.connect(new SimpleConnection());
+        holder1.init();
+        pool.acquire(ar -> {
+          holder2.handle(ar);
+          latch.countDown();
+        });
+      });
+      assertTrue(latch.await(10, TimeUnit.SECONDS));
+      assertTrue(holder2.isFailed());
+      assertEquals(1, pool.timedOut());
+    } finally {
+      vertx.close();
+    }
+  }
+
+  @Test
+  public void testConnectionTimeoutDuringConnectionCreation() throws Exception {
+    Vertx vertx = Vertx.vertx();
+    try {
+      Context context = vertx.getOrCreateContext();
+      ConnectionQueue queue = new ConnectionQueue();
+      ConnectionPool pool = new ConnectionPool(queue, context, 1, new PoolOptions().setConnectionTimeout(100));
+      SimpleHolder holder = new SimpleHolder();
+      CountDownLatch latch = new CountDownLatch(1);
+      context.runOnContext(v -> {
+        pool.acquire(ar -> {
+          holder.handle(ar);
+          latch.countDown();
+        });
+      });
+      assertTrue(latch.await(10, TimeUnit.SECONDS));
+      assertTrue(holder.isFailed());
+      assertEquals(1, pool.timedOut());
+      CountDownLatch latch2 = new CountDownLatch(1);
+      context.runOnContext(v -> {
+        // The connection created for the expired waiter becomes available
+        queue.connect(new SimpleConnection());
+        assertEquals(1, pool.available());
+        latch2.countDown();
+      });
+      assertTrue(latch2.await(10, TimeUnit.SECONDS));
+    } finally {
+      vertx.close();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConnectionTimeoutRequiresContext() {
+    new ConnectionPool(new ConnectionQueue(), null, 1, new PoolOptions().setConnectionTimeout(100));
+  }
+
+  @Test
+  public void testMaxLifetime() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, null, 1, new PoolOptions().setMaxLifetime(1).setMaxLifetimeUnit(TimeUnit.NANOSECONDS));
+    SimpleHolder holder = new SimpleHolder();
+    pool.acquire(holder);
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    holder.init();
+    holder.close();
+    assertEquals(1, conn.closed);
+    assertEquals(0, pool.available());
+  }
+
+  @Test
+  public void testMinIdle() throws Exception {
+    Vertx vertx = Vertx.vertx();
+    try {
+      Context context = vertx.getOrCreateContext();
+      ConnectionQueue queue = new ConnectionQueue();
+      ConnectionPool pool = new ConnectionPool(queue, context, 4, new PoolOptions().setMinIdle(2));
+      CountDownLatch latch = new CountDownLatch(1);
+      context.runOnContext(v -> {
+        assertEquals(2, queue.size());
+        queue.connect(new SimpleConnection());
+        queue.connect(new SimpleConnection());
+        assertEquals(2, pool.available());
+        assertEquals(2, pool.size());
+        latch.countDown();
+      });
+      assertTrue(latch.await(10, TimeUnit.SECONDS));
+    } finally {
+      vertx.close();
+    }
+  }
+
+  @Test
+  public void testIdleTimeout() throws Exception {
+    Vertx vertx = Vertx.vertx();
+    try {
+      Context context = vertx.getOrCreateContext();
+      ConnectionQueue queue = new ConnectionQueue();
+      ConnectionPool pool = new ConnectionPool(queue, context, 1, new PoolOptions().setIdleTimeout(10).setPoolCleanerPeriod(10));
+      SimpleHolder holder = new SimpleHolder();
+      SimpleConnection conn = new SimpleConnection();
+      CountDownLatch latch = new CountDownLatch(1);
+      context.runOnContext(v -> {
+        pool.acquire(holder);
+        queue.connect(conn);
+        holder.init();
+        holder.close();
+        vertx.setPeriodic(10, id -> {
+          if (conn.closed == 1) {
+            vertx.cancelTimer(id);
+            latch.countDown();
+          }
+        });
+      });
+      assertTrue(latch.await(10, TimeUnit.SECONDS));
+      assertEquals(0, pool.available());
+    } finally {
+      vertx.close();
+    }
+  }
+
+  @Test
+  public void testQueriesSpreadOverConnections() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, 3);
+    SimpleHolder[] holders = new SimpleHolder[3];
+    SimpleConnection[] conns = new SimpleConnection[3];
+    for (int i = 0;i < 3;i++) {
+      holders[i] = new SimpleHolder();
+      pool.acquire(holders[i]);
+      conns[i] = new SimpleConnection();
+      queue.connect(conns[i]);
+      holders[i].init();
+    }
+    for (SimpleHolder holder : holders) {
+      holder.close();
+    }
+    // Each query releases its connection as soon as it is scheduled
+    int[] served = new int[3];
+    for (int i = 0;i < 9;i++) {
+      SimpleHolder holder = new SimpleHolder();
+      pool.acquire(true, holder);
+      assertTrue(holder.isConnected());
+      for (int j = 0;j < 3;j++) {
+        if (conns[j].holder == holder.connection()) {
+          served[j]++;
+        }
+      }
+      holder.init();
+      holder.close();
+    }
+    assertArrayEquals(new int[] { 3, 3, 3 }, served);
+    // A lease takes the most recently used connection
+    SimpleHolder holder = new SimpleHolder();
+    pool.acquire(holder);
+    assertSame(conns[2].holder, holder.connection());
+  }
+
+  @Test
+  public void testQueriesSelectLeastBusy() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, 3);
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleConnection conn1 = new SimpleConnection();
+    queue.connect(conn1);
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    SimpleConnection conn2 = new SimpleConnection();
+    queue.connect(conn2);
+    holder1.init();
+    holder2.init();
+    holder1.close();
+    holder2.close();
+    conn1.inflight = 2;
+    SimpleHolder holder3 = new SimpleHolder();
+    pool.acquire(true, holder3);
+    assertSame(conn2.holder, holder3.connection());
+    holder3.init();
+    conn2.inflight = 1;
+    holder3.close();
+    // Every connection is busy, the query gets a new connection
+    SimpleHolder holder4 = new SimpleHolder();
+    pool.acquire(true, holder4);
+    assertFalse(holder4.isComplete());
+    assertEquals(1, queue.size());
+    SimpleConnection conn3 = new SimpleConnection();
+    queue.connect(conn3);
+    assertSame(conn3.holder, holder4.connection());
+    holder4.init();
+    conn3.inflight = 1;
+    holder4.close();
+    // The pool is full, the query gets the least busy connection
+    SimpleHolder holder5 = new SimpleHolder();
+    pool.acquire(true, holder5);
+    assertSame(conn2.holder, holder5.connection());
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  public void testPipelinedLeastBusy() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, null, 2, new PoolOptions().setPipelined(true));
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleConnection conn1 = new SimpleConnection();
+    queue.connect(conn1);
+    holder1.init();
+    conn1.inflight = 1;
+    holder1.close();
+    // The busy connection is shared while the pool grows
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    assertSame(conn1.holder, holder2.connection());
+    assertEquals(1, queue.size());
+    SimpleConnection conn2 = new SimpleConnection();
+    queue.connect(conn2);
+    assertEquals(2, pool.size());
+    holder2.init();
+    holder2.close();
+    SimpleHolder holder3 = new SimpleHolder();
+    pool.acquire(holder3);
+    assertSame(conn2.holder, holder3.connection());
+    holder3.init();
+    conn2.inflight = 2;
+    holder3.close();
+    SimpleHolder holder4 = new SimpleHolder();
+    pool.acquire(holder4);
+    assertSame(conn1.holder, holder4.connection());
+    assertEquals(0, queue.size());
+  }
 }
@@ -26,12 +26,18 @@ class SimpleConnection implements Connection {
 
   Holder holder;
   int closed;
+  int inflight;
 
   @Override
   public void init(Holder holder) {
     this.holder = holder;
   }
 
+  @Override
+  public int inflight() {
+    return inflight;
+  }
+
   @Override
   public boolean isSsl() {
     return false;
@@ -160,6 +160,9 @@ public abstract class BinaryDataTypeDecodeTestBase extends DataTypeTestBase {
             ctx.assertEquals(3.40282E38F, row.getFloat("test_float_4"));
             ctx.assertEquals(1.7976931348623157E308, row.getDouble(4));
             ctx.assertEquals(1.7976931348623157E308, row.getDouble("test_float_8"));
+            ctx.assertEquals(2147483647, row.getIntValue("test_int_4"));
+            ctx.assertEquals(9223372036854775807L, row.getLongValue("test_int_8"));
+            ctx.assertEquals(1.7976931348623157E308, row.getDoubleValue("test_float_8"));
             ctx.assertEquals(Numeric.create(999.99), row.get(Numeric.class, 5));
             ctx.assertEquals(Numeric.create(999.99), row.getValue("test_numeric"));
             ctx.assertEquals(Numeric.create(12345), row.get(Numeric.class, 6));
@@ -15,6 +15,7 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.ext.unit.TestContext;
+import io.vertx.sqlclient.ColumnarRowSet;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.SqlConnection;
 import org.junit.After;
@@ -109,6 +110,25 @@ public abstract class CollectorTestBase {
     }));
   }
 
+  @Test
+  public void testColumnarRowSet(TestContext ctx) {
+    connector.connect(ctx.asyncAssertSuccess(conn -> {
+      conn.preparedQuery("SELECT * FROM collector_test WHERE id = 1")
+        .collecting(ColumnarRowSet.collector())
+        .execute(ctx.asyncAssertSuccess(result -> {
+        ColumnarRowSet rows = result.value();
+        ctx.assertEquals(1, rows.size());
+        ctx.assertEquals(2147483647, rows.getIntValue(0, rows.getColumnIndex("test_int_4")));
+        ctx.assertEquals(9223372036854775807L, rows.getLongValue(0, rows.getColumnIndex("test_int_8")));
+        ctx.assertEquals(1.234567d, rows.getDoubleValue(0, rows.getColumnIndex("test_double")));
+        Row row = rows.row(0);
+        ctx.assertEquals((short) 32767, row.getShort("test_int_2"));
+        ctx.assertEquals("HELLO,WORLD", row.getString("test_varchar"));
+        conn.close();
+      }));
+    }));
+  }
+
   @Test
   public void testCollectorFailureProvidingSupplier(TestContext ctx) {
     RuntimeException cause = new RuntimeException();
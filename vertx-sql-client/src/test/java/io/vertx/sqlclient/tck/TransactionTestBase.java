@@ -194,6 +194,69 @@ public abstract class TransactionTestBase {
     }));
   }
 
+  @Test
+  public void testCommitWith(TestContext ctx) {
+    Pool nonTxPool = nonTxPool();
+    Async async = ctx.async();
+    connector.accept(ctx.asyncAssertSuccess(res -> {
+      res.client.query("INSERT INTO mutable (id, val) VALUES (16, 'first');")
+        .execute(ctx.asyncAssertSuccess(result -> {
+          res.tx.commitWith(res.client.preparedQuery(statement("INSERT INTO mutable (id, val) VALUES (", ",", ");")), Tuple.of(17, "last"), ctx.asyncAssertSuccess(last -> {
+            ctx.assertEquals(1, last.rowCount());
+            res.tx.completion().onComplete(ctx.asyncAssertSuccess(v -> {
+              nonTxPool.query("SELECT id, val from mutable WHERE id IN (16, 17)")
+                .execute(ctx.asyncAssertSuccess(rowSet -> {
+                  ctx.assertEquals(2, rowSet.size());
+                  async.complete();
+                }));
+            }));
+          }));
+        }));
+    }));
+  }
+
+  @Test
+  public void testCommitWithFailure(TestContext ctx) {
+    Pool nonTxPool = nonTxPool();
+    Async async = ctx.async();
+    connector.accept(ctx.asyncAssertSuccess(res -> {
+      res.tx.completion().onComplete(ctx.asyncAssertFailure(err -> ctx.assertEquals(TransactionRollbackException.INSTANCE, err)));
+      res.client.query("INSERT INTO mutable (id, val) VALUES (18, 'rolled back');")
+        .execute(ctx.asyncAssertSuccess(result -> {
+          res.tx.commitWith(res.client.query("SELECT whatever from DOES_NOT_EXIST"), ctx.asyncAssertFailure(err -> {
+            nonTxPool.query("SELECT id, val from mutable WHERE id = 18")
+              .execute(ctx.asyncAssertSuccess(rowSet -> {
+                ctx.assertEquals(0, rowSet.size());
+                async.complete();
+              }));
+          }));
+        }));
+    }));
+  }
+
+  @Test
+  public void testQueryScheduledBeforeBegin(TestContext ctx) {
+    Async async = ctx.async();
+    getPool().getConnection(ctx.asyncAssertSuccess(conn -> {
+      // The query is sent with BEGIN
+      Future<Transaction> begin = conn.begin();
+      conn.query("INSERT INTO mutable (id, val) VALUES (19, 'pipelined');")
+        .execute(ctx.asyncAssertSuccess(result -> {
+          ctx.assertEquals(1, result.rowCount());
+          begin.onComplete(ctx.asyncAssertSuccess(tx -> {
+            tx.rollback(ctx.asyncAssertSuccess(v -> {
+              conn.query("SELECT id, val from mutable WHERE id = 19")
+                .execute(ctx.asyncAssertSuccess(rowSet -> {
+                  ctx.assertEquals(0, rowSet.size());
+                  conn.close();
+                  async.complete();
+                }));
+            }));
+          }));
+        }));
+    }));
+  }
+
   @Test
   public void testRollbackData(TestContext ctx) {
     Async async = ctx.async();